@@ -3,20 +3,34 @@ package it.riccardosacco.bibobibtex.converter;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.riccardosacco.bibobibtex.exception.ValidationException;
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentTable;
+import it.riccardosacco.bibobibtex.model.bibo.BiboSegment;
+import it.riccardosacco.bibobibtex.model.bibo.BiboSegmentWriter;
+import org.eclipse.rdf4j.rio.RDFHandler;
 import org.jbibtex.BibTeXEntry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -37,12 +51,34 @@ import java.util.stream.Stream;
  *     System.out.println("Progress: " + current + "/" + total)
  * );
  * }</pre>
+ *
+ * <p>Parallel methods run on a long-lived executor rather than a pool per call, so a converter is
+ * meant to be kept and reused across batches and closed when no longer needed:
+ * <ul>
+ *   <li>{@link #BatchConverter(int)}: owns a {@link ForkJoinPool}, created by the first parallel call
+ *       and shut down by {@link #close()}</li>
+ *   <li>{@link #BatchConverter(ExecutorService, int, ConversionListener)}: shared-pool mode, runs on a
+ *       caller-managed executor that {@link #close()} leaves alone</li>
+ *   <li>{@link #virtualThreads(int)}: runs each slice of a batch on its own virtual thread</li>
+ * </ul>
  */
-public class BatchConverter {
+public class BatchConverter implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(BatchConverter.class);
 
+    /** Slices per unit of parallelism, to balance batches whose entries differ in cost. */
+    private static final int SLICES_PER_THREAD = 4;
+
+    /** Default number of entries between progress callbacks in indexed parallel mode. */
+    public static final int DEFAULT_PROGRESS_INTERVAL = 100;
+
     private final ThreadLocal<BibTeXBibliographicConverter> converterProvider;
     private final int parallelism;
+    private final ConversionListener listener;
+    private final Supplier<ExecutorService> executorFactory;
+    private final boolean ownsExecutor;
+    private ExecutorService executor;
+    private boolean closed;
+    private final LongAdder skippedTotal = new LongAdder();
 
     /**
      * Creates a new BatchConverter with default parallelism (available processors).
@@ -59,11 +95,123 @@ public class BatchConverter {
      */
     @SuppressFBWarnings(value = "CT_CONSTRUCTOR_THROW", justification = "Argument validation may throw intentionally")
     public BatchConverter(int parallelism) {
+        this(parallelism, ConversionListener.NONE);
+    }
+
+    /**
+     * Creates a new BatchConverter reporting per-entry events to a listener.
+     * Only batch summaries are logged; per-entry events, including skipped entries, go to the listener.
+     *
+     * @param parallelism number of parallel threads to use (1 = sequential)
+     * @param listener receiver of per-entry conversion events; must be thread-safe for parallel modes
+     */
+    @SuppressFBWarnings(value = "CT_CONSTRUCTOR_THROW", justification = "Argument validation may throw intentionally")
+    public BatchConverter(int parallelism, ConversionListener listener) {
+        this(parallelism, listener, null);
+    }
+
+    /**
+     * Creates a new BatchConverter that serves entries converted before from a {@link ConversionCache}.
+     * Re-converting a bibliography in which most entries did not change then mostly costs hashing them.
+     *
+     * @param parallelism number of parallel threads to use (1 = sequential)
+     * @param listener receiver of per-entry conversion events; must be thread-safe for parallel modes
+     * @param cache conversion cache shared by all threads, or {@code null} to convert every entry
+     */
+    @SuppressFBWarnings(value = {"CT_CONSTRUCTOR_THROW", "EI_EXPOSE_REP2"},
+        justification = "Argument validation may throw intentionally; the cache is shared by design")
+    public BatchConverter(int parallelism, ConversionListener listener, ConversionCache cache) {
+        this(validParallelism(parallelism), listener, () -> new ForkJoinPool(parallelism), true, cache);
+    }
+
+    /**
+     * Creates a new BatchConverter running parallel work on a caller-managed executor, which can be
+     * shared between converters (for example {@link ForkJoinPool#commonPool()}). {@link #close()} does not
+     * shut the executor down.
+     *
+     * @param executor executor running parallel slices
+     * @param parallelism number of slices a batch is split into per round of work
+     * @param listener receiver of per-entry conversion events; must be thread-safe for parallel modes
+     */
+    @SuppressFBWarnings(value = {"CT_CONSTRUCTOR_THROW", "EI_EXPOSE_REP2"},
+        justification = "Argument validation may throw intentionally; the executor is shared by design")
+    public BatchConverter(ExecutorService executor, int parallelism, ConversionListener listener) {
+        this(executor, parallelism, listener, null);
+    }
+
+    /**
+     * Creates a new BatchConverter running parallel work on a caller-managed executor and serving entries
+     * converted before from a {@link ConversionCache}. {@link #close()} does not shut the executor down.
+     *
+     * @param executor executor running parallel slices
+     * @param parallelism number of slices a batch is split into per round of work
+     * @param listener receiver of per-entry conversion events; must be thread-safe for parallel modes
+     * @param cache conversion cache shared by all threads, or {@code null} to convert every entry
+     */
+    @SuppressFBWarnings(value = {"CT_CONSTRUCTOR_THROW", "EI_EXPOSE_REP2"},
+        justification = "Argument validation may throw intentionally; the executor and cache are shared by design")
+    public BatchConverter(ExecutorService executor, int parallelism, ConversionListener listener,
+            ConversionCache cache) {
+        this(validParallelism(parallelism), listener, sharedExecutor(executor), false, cache);
+    }
+
+    private BatchConverter(int parallelism, ConversionListener listener, Supplier<ExecutorService> executorFactory,
+            boolean ownsExecutor, ConversionCache cache) {
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.converterProvider = ThreadLocal.withInitial(() ->
+            new BibTeXBibliographicConverter(BibTeXBibliographicConverter.KeyGenerationStrategy.AUTHOR_YEAR, listener,
+                new CitationKeyRegistry(), cache));
+        this.parallelism = parallelism;
+        this.executorFactory = executorFactory;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    private static Supplier<ExecutorService> sharedExecutor(ExecutorService executor) {
+        Objects.requireNonNull(executor, "executor");
+        return () -> executor;
+    }
+
+    /**
+     * Creates a BatchConverter that runs each slice of a parallel batch on a new virtual thread.
+     * Suited to services handling many small, concurrent batches.
+     *
+     * @param parallelism number of slices a batch is split into
+     * @return converter owning a virtual-thread-per-task executor
+     */
+    public static BatchConverter virtualThreads(int parallelism) {
+        return virtualThreads(parallelism, ConversionListener.NONE);
+    }
+
+    /**
+     * Creates a BatchConverter that runs each slice of a parallel batch on a new virtual thread.
+     *
+     * @param parallelism number of slices a batch is split into
+     * @param listener receiver of per-entry conversion events; must be thread-safe
+     * @return converter owning a virtual-thread-per-task executor
+     */
+    public static BatchConverter virtualThreads(int parallelism, ConversionListener listener) {
+        return virtualThreads(parallelism, listener, null);
+    }
+
+    /**
+     * Creates a BatchConverter that runs each slice of a parallel batch on a new virtual thread and serves
+     * entries converted before from a {@link ConversionCache}.
+     *
+     * @param parallelism number of slices a batch is split into
+     * @param listener receiver of per-entry conversion events; must be thread-safe
+     * @param cache conversion cache shared by all threads, or {@code null} to convert every entry
+     * @return converter owning a virtual-thread-per-task executor
+     */
+    public static BatchConverter virtualThreads(int parallelism, ConversionListener listener, ConversionCache cache) {
+        return new BatchConverter(validParallelism(parallelism), listener,
+            Executors::newVirtualThreadPerTaskExecutor, true, cache);
+    }
+
+    private static int validParallelism(int parallelism) {
         if (parallelism < 1) {
             throw new IllegalArgumentException("Parallelism must be at least 1");
         }
-        this.converterProvider = ThreadLocal.withInitial(BibTeXBibliographicConverter::new);
-        this.parallelism = parallelism;
+        return parallelism;
     }
 
     /**
@@ -101,8 +249,8 @@ public class BatchConverter {
                 Optional<BiboDocument> doc = converterProvider.get().convertToBibo(entry);
                 doc.ifPresent(results::add);
             } catch (ValidationException e) {
-                logger.warn("Skipping entry {} due to validation error: {}",
-                    getCitationKey(entry), e.getMessage());
+                skippedTotal.increment();
+                listener.entrySkipped(entry, e);
             }
 
             if (progressListener != null && current % 10 == 0) {
@@ -157,11 +305,13 @@ public class BatchConverter {
                     stats.recordFailure(new ValidationException("Conversion returned empty document"));
                 }
             } catch (ValidationException e) {
-                logger.warn("Skipping entry {} due to validation error: {}",
-                    getCitationKey(entry), e.getMessage());
+                skippedTotal.increment();
+                listener.entrySkipped(entry, e);
                 stats.recordFailure(e);
             } catch (Exception e) {
                 logger.error("Unexpected error converting entry {}", getCitationKey(entry), e);
+                skippedTotal.increment();
+                listener.entrySkipped(entry, e);
                 stats.recordFailure(e);
             }
 
@@ -218,26 +368,10 @@ public class BatchConverter {
             entries.size(), parallelism);
         long startTime = System.currentTimeMillis();
 
-        List<BiboDocument> results;
-
-        try (AutoCloseableForkJoinPool customPool = new AutoCloseableForkJoinPool(parallelism)) {
-            results = customPool.submit(() ->
-                entries.parallelStream()
-                    .map(entry -> {
-                        try {
-                            return converterProvider.get().convertToBibo(entry);
-                        } catch (ValidationException e) {
-                            logger.warn("Skipping entry {} due to validation error: {}",
-                                getCitationKey(entry), e.getMessage());
-                            return Optional.<BiboDocument>empty();
-                        }
-                    })
-                    .flatMap(Optional::stream)
-                    .collect(Collectors.toList())
-            ).get();
-        } catch (Exception e) {
-            logger.error("Parallel conversion failed", e);
-            throw new RuntimeException("Parallel conversion failed", e);
+        List<BibTeXEntry> input = entries instanceof List<BibTeXEntry> list ? list : new ArrayList<>(entries);
+        List<BiboDocument> results = new ArrayList<>(input.size());
+        for (List<BiboDocument> slice : runSlices(input, (offset, slice) -> convertSlice(slice))) {
+            results.addAll(slice);
         }
 
         if (progressListener != null) {
@@ -251,30 +385,338 @@ public class BatchConverter {
         return results;
     }
 
+    /**
+     * Converts a collection of BibTeX entries in parallel straight into a {@link BiboDocumentTable}.
+     * Each slice fills its own table, so converted documents are only short-lived garbage and the result
+     * holds the columnar form alone, which is far smaller than a list of documents for large batches.
+     *
+     * @param entries the BibTeX entries to convert
+     * @return table of successfully converted documents, in input order
+     */
+    public BiboDocumentTable convertBatchParallelToTable(Collection<BibTeXEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return new BiboDocumentTable(0);
+        }
+
+        logger.info("Starting parallel table conversion of {} entries (parallelism={})",
+            entries.size(), parallelism);
+        long startTime = System.currentTimeMillis();
+
+        List<BibTeXEntry> input = entries instanceof List<BibTeXEntry> list ? list : new ArrayList<>(entries);
+        BiboDocumentTable table = new BiboDocumentTable(input.size());
+        for (BiboDocumentTable slice : runSlices(input, (offset, slice) -> convertSliceToTable(slice))) {
+            table.addAll(slice);
+        }
+        table.trimToSize();
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        logger.info("Parallel table conversion complete: {} converted, {} skipped in {}ms",
+            table.size(), entries.size() - table.size(), elapsed);
+
+        return table;
+    }
+
+    /**
+     * Converts a collection of BibTeX entries in parallel and writes the documents to a segment file,
+     * which {@link BiboSegment#open(Path)} maps back without converting again. Slices are converted
+     * into tables and appended to the segment in input order.
+     *
+     * @param entries the BibTeX entries to convert
+     * @param segmentFile the segment file to write, replaced if it exists
+     * @return number of documents written
+     * @throws IOException if the segment cannot be written
+     */
+    public int convertBatchParallelToSegment(Collection<BibTeXEntry> entries, Path segmentFile) throws IOException {
+        Objects.requireNonNull(segmentFile, "segmentFile");
+        List<BibTeXEntry> input = entries == null ? List.of()
+                : entries instanceof List<BibTeXEntry> list ? list : new ArrayList<>(entries);
+
+        logger.info("Starting parallel segment conversion of {} entries into {} (parallelism={})",
+            input.size(), segmentFile, parallelism);
+        long startTime = System.currentTimeMillis();
+
+        try (BiboSegmentWriter writer = new BiboSegmentWriter(segmentFile)) {
+            if (!input.isEmpty()) {
+                for (BiboDocumentTable slice : runSlices(input, (offset, slice) -> convertSliceToTable(slice))) {
+                    writer.writeAll(slice);
+                }
+            }
+            long elapsed = System.currentTimeMillis() - startTime;
+            logger.info("Parallel segment conversion complete: {} written, {} skipped in {}ms",
+                writer.size(), input.size() - writer.size(), elapsed);
+            return writer.size();
+        }
+    }
+
+    /**
+     * Converts a collection of BibTeX entries in parallel and reports the outcome of every entry.
+     *
+     * @param entries the BibTeX entries to convert
+     * @return per-entry result indexed by input position
+     * @see #convertBatchParallelIndexed(Collection, ProgressListener, int)
+     */
+    public IndexedConversionResult convertBatchParallelIndexed(Collection<BibTeXEntry> entries) {
+        return convertBatchParallelIndexed(entries, null, DEFAULT_PROGRESS_INTERVAL);
+    }
+
+    /**
+     * Converts a collection of BibTeX entries in parallel and reports the outcome of every entry.
+     *
+     * <p>Unlike {@link #convertBatchParallel(Collection, ProgressListener)}, failed entries are not dropped:
+     * position {@code i} of the result holds either the document converted from the {@code i}-th entry
+     * or the exception explaining why it failed. Each slice writes straight into its positions, so input
+     * order is kept without sorting.
+     *
+     * <p>Completed entries are counted on a {@link LongAdder} shared by all workers. Each time the count
+     * crosses a multiple of {@code progressInterval}, the worker that sees it first reports that multiple,
+     * so every boundary is reported exactly once whatever the slice sizes. A final {@code (total, total)}
+     * update is sent from the calling thread. The progress listener is called concurrently, possibly with
+     * boundaries out of order, and must be thread-safe.
+     *
+     * @param entries the BibTeX entries to convert
+     * @param progressListener callback for progress updates (may be null)
+     * @param progressInterval number of entries of the whole batch between progress updates
+     * @return per-entry result indexed by input position
+     */
+    public IndexedConversionResult convertBatchParallelIndexed(
+            Collection<BibTeXEntry> entries,
+            ProgressListener progressListener,
+            int progressInterval) {
+        if (progressInterval < 1) {
+            throw new IllegalArgumentException("Progress interval must be at least 1");
+        }
+        if (entries == null || entries.isEmpty()) {
+            return new IndexedConversionResult(new BiboDocument[0], new Exception[0],
+                new ConversionStatistics(0, 0, 0, List.of(), Map.of(), 0));
+        }
+
+        logger.info("Starting indexed parallel batch conversion of {} entries (parallelism={})",
+            entries.size(), parallelism);
+
+        List<BibTeXEntry> input = entries instanceof List<BibTeXEntry> list ? list : new ArrayList<>(entries);
+        int total = input.size();
+        BiboDocument[] documents = new BiboDocument[total];
+        Exception[] failures = new Exception[total];
+        LongAdder completed = new LongAdder();
+        AtomicLong reported = new AtomicLong();
+        StatisticsCollector stats = new StatisticsCollector();
+        stats.startTracking();
+
+        runSlices(input, (offset, slice) -> {
+            for (int i = 0; i < slice.size(); i++) {
+                convertInto(slice.get(i), offset + i, documents, failures, stats);
+                completed.increment();
+                if (progressListener != null) {
+                    reportCrossedBoundaries(completed.sum(), reported, progressInterval, total, progressListener);
+                }
+            }
+            return null;
+        });
+
+        if (progressListener != null) {
+            progressListener.onProgress(total, total);
+        }
+
+        ConversionStatistics statistics = stats.build();
+        logger.info("Indexed parallel batch conversion complete: {} converted, {} failed in {}ms",
+            statistics.getSuccessfulConversions(), statistics.getFailedConversions(), statistics.getConversionTimeMs());
+
+        return new IndexedConversionResult(documents, failures, statistics);
+    }
+
+    /**
+     * Reports every multiple of {@code interval} up to {@code done} that no worker has claimed yet.
+     */
+    private static void reportCrossedBoundaries(long done, AtomicLong reported, int interval, int total,
+            ProgressListener progressListener) {
+        long last = reported.get();
+        while (last + interval <= done) {
+            if (reported.compareAndSet(last, last + interval)) {
+                progressListener.onProgress((int) (last + interval), total);
+                last += interval;
+            } else {
+                last = reported.get();
+            }
+        }
+    }
+
+    /**
+     * Converts a collection of BibTeX entries in parallel and collects statistics.
+     * Workers share one lock-free {@link StatisticsCollector}; documents are returned in input order.
+     *
+     * @param entries entries to convert
+     * @param progressListener optional progress callback; must be thread-safe
+     * @return conversion result with documents and statistics
+     */
+    public BatchConversionResult convertBatchParallelWithStats(
+            Collection<BibTeXEntry> entries,
+            ProgressListener progressListener) {
+        IndexedConversionResult result =
+            convertBatchParallelIndexed(entries, progressListener, DEFAULT_PROGRESS_INTERVAL);
+        return new BatchConversionResult(result.getDocuments(), result.getStatistics());
+    }
+
+    /**
+     * Converts a collection of BibTeX entries in parallel and collects statistics.
+     *
+     * @param entries entries to convert
+     * @return conversion result with documents and statistics
+     */
+    public BatchConversionResult convertBatchParallelWithStats(Collection<BibTeXEntry> entries) {
+        return convertBatchParallelWithStats(entries, null);
+    }
+
     /**
      * Converts a stream of BibTeX entries to a stream of BIBO documents.
      * This is memory-efficient for very large datasets as it doesn't load everything into memory.
+     * The number of skipped entries is logged when the returned stream is closed.
      *
      * @param entries stream of BibTeX entries
      * @return stream of successfully converted BIBO documents
      */
     public Stream<BiboDocument> convertStream(Stream<BibTeXEntry> entries) {
+        LongAdder skipped = new LongAdder();
+        return convertStream(entries, skipped)
+            .onClose(() -> logger.info("Stream conversion complete: {} skipped", skipped.sum()));
+    }
+
+    private Stream<BiboDocument> convertStream(Stream<BibTeXEntry> entries, LongAdder skipped) {
         return entries
-            .map(entry -> {
-                try {
-                    return converterProvider.get().convertToBibo(entry);
-                } catch (ValidationException e) {
-                    logger.warn("Skipping entry {} due to validation error: {}",
-                        getCitationKey(entry), e.getMessage());
-                    return Optional.<BiboDocument>empty();
-                }
-            })
+            .map(entry -> convertOrSkip(entry, skipped))
             .flatMap(Optional::stream);
     }
 
+    /**
+     * Converts a {@code .bib} file by memory-mapping it and parsing and converting chunks of entries
+     * in parallel (see {@link MappedBibTeXParser}). Documents are returned in file order, and
+     * {@code @string} macros apply exactly as in a sequential parse. Malformed objects are skipped.
+     *
+     * @param bibFile UTF-8 encoded BibTeX file
+     * @return list of successfully converted BIBO documents, in file order
+     * @throws IOException if the file cannot be read
+     * @see #convertFileParallel(Path, Consumer)
+     */
+    public List<BiboDocument> convertFileParallel(Path bibFile) throws IOException {
+        List<BiboDocument> documents = new ArrayList<>();
+        convertFileParallel(bibFile, documents::add);
+        return documents;
+    }
+
+    /**
+     * Converts a {@code .bib} file like {@link #convertFileParallel(Path)}, but hands the documents to
+     * {@code consumer} in file order as each chunk completes instead of collecting them, so that a large
+     * file can be written out without holding all of its documents.
+     *
+     * <p>Malformed objects are skipped like entries that fail to convert: both count towards
+     * {@link #skippedCount()}, and failed entries are reported to the {@link ConversionListener}.
+     *
+     * @param bibFile UTF-8 encoded BibTeX file
+     * @param consumer receives the converted documents on the calling thread, in file order
+     * @return number of documents passed to the consumer
+     * @throws IOException if the file cannot be read
+     */
+    public long convertFileParallel(Path bibFile, Consumer<? super BiboDocument> consumer) throws IOException {
+        Objects.requireNonNull(consumer, "consumer");
+        logger.info("Starting mapped parallel conversion of {} (parallelism={})", bibFile, parallelism);
+        LongAdder skipped = new LongAdder();
+        LongAdder converted = new LongAdder();
+        MappedBibTeXParser.Parsed<BiboDocument> parsed = new MappedBibTeXParser(executor(), parallelism)
+            .parse(bibFile, entry -> convertOrSkip(entry, skipped), document -> {
+                consumer.accept(document);
+                converted.increment();
+            });
+        skippedTotal.add(parsed.malformed());
+        logger.info("Mapped parallel conversion complete: {} converted, {} skipped, {} malformed",
+            converted.sum(), skipped.sum(), parsed.malformed());
+        return converted.sum();
+    }
+
+    /**
+     * Converts a stream of BibTeX entries and streams the resulting triples into an
+     * {@link RDFHandler} (for example an {@code RDFWriter}) without materializing a combined
+     * {@link org.eclipse.rdf4j.model.Model}. Each document's statements are emitted as soon as the
+     * entry is converted, so memory stays bounded by a single document.
+     *
+     * <p>The handler is started and ended by this method; BIBO namespaces are declared once up front.
+     *
+     * @param entries stream of BibTeX entries
+     * @param handler handler receiving namespaces and statements
+     * @return number of documents emitted
+     */
+    public long convertStreamTo(Stream<BibTeXEntry> entries, RDFHandler handler) {
+        handler.startRDF();
+        BiboDocument.emitNamespaces(handler);
+        long emitted = 0;
+        LongAdder skipped = new LongAdder();
+        Iterator<BiboDocument> documents = convertStream(entries, skipped).iterator();
+        while (documents.hasNext()) {
+            documents.next().emitTo(handler);
+            emitted++;
+        }
+        handler.endRDF();
+        logger.info("Stream conversion complete: {} emitted, {} skipped", emitted, skipped.sum());
+        return emitted;
+    }
+
+    /**
+     * Converts a stream of BibTeX entries and appends each document to a segment as soon as it is
+     * converted. The writer is left open, so several streams can be written to one segment.
+     *
+     * @param entries stream of BibTeX entries
+     * @param writer segment writer receiving the documents
+     * @return number of documents written
+     * @throws IOException if the segment cannot be written
+     */
+    public long convertStreamTo(Stream<BibTeXEntry> entries, BiboSegmentWriter writer) throws IOException {
+        Objects.requireNonNull(writer, "writer");
+        long written = 0;
+        LongAdder skipped = new LongAdder();
+        Iterator<BiboDocument> documents = convertStream(entries, skipped).iterator();
+        while (documents.hasNext()) {
+            writer.write(documents.next());
+            written++;
+        }
+        logger.info("Stream conversion complete: {} written, {} skipped", written, skipped.sum());
+        return written;
+    }
+
+    /**
+     * Creates a backpressured conversion pipeline over an entry source, such as a
+     * {@link BibTeXEntryReader}. Conversion runs on this converter's executor with the converter's
+     * parallelism and a read-ahead buffer of {@link Flow#defaultBufferSize()} entries.
+     *
+     * @param source entries to convert; read by one thread at a time
+     * @return single-subscriber publisher of successfully converted documents, in source order
+     * @see #publish(Iterator, int, int)
+     */
+    public Flow.Publisher<BiboDocument> publish(Iterator<BibTeXEntry> source) {
+        return publish(source, parallelism, Math.max(parallelism, Flow.defaultBufferSize()));
+    }
+
+    /**
+     * Creates a backpressured conversion pipeline over an entry source.
+     *
+     * <p>Unlike {@link #convertStreamParallel(Stream)}, which leaves splitting and buffering of an
+     * I/O-backed stream to the stream framework, the publisher reads the source only on demand: no more
+     * than {@code bufferSize} entries are read ahead of the subscriber, and no more than
+     * {@code concurrency} are read or converted at once. Pair it with an {@link RDFHandlerSubscriber}
+     * to let the RDF sink set the pace of the whole pipeline.
+     *
+     * @param source entries to convert; read by one thread at a time
+     * @param concurrency maximum number of entries read or converted concurrently
+     * @param bufferSize maximum number of entries read ahead of the subscriber's consumption
+     * @return single-subscriber publisher of successfully converted documents, in source order
+     */
+    public Flow.Publisher<BiboDocument> publish(Iterator<BibTeXEntry> source, int concurrency, int bufferSize) {
+        LongAdder skipped = new LongAdder();
+        return new ConversionPublisher(source, entry -> convertOrSkip(entry, skipped), executor(), concurrency,
+            bufferSize, () -> logger.info("Published conversion complete: {} skipped", skipped.sum()));
+    }
+
     /**
      * Converts a stream of BibTeX entries to a stream of BIBO documents in parallel.
-     * This combines memory efficiency with parallel processing.
+     * This combines memory efficiency with parallel processing. For I/O-backed sources prefer
+     * {@link #publish(Iterator, int, int)}, which bounds read-ahead.
      *
      * @param entries stream of BibTeX entries
      * @return parallel stream of successfully converted BIBO documents
@@ -283,6 +725,16 @@ public class BatchConverter {
         return convertStream(entries.parallel());
     }
 
+    /**
+     * Returns the number of entries skipped by this converter since it was created, across all batch,
+     * stream, file and publisher methods.
+     *
+     * @return skipped entry count
+     */
+    public long skippedCount() {
+        return skippedTotal.sum();
+    }
+
     /**
      * Gets the parallelism level of this converter.
      *
@@ -292,28 +744,132 @@ public class BatchConverter {
         return parallelism;
     }
 
-    private static final class AutoCloseableForkJoinPool implements AutoCloseable {
-        private final ForkJoinPool delegate;
+    /**
+     * Shuts down the executor if this converter created it. Converters built on a caller-supplied
+     * executor leave it running. Parallel methods throw {@link IllegalStateException} after closing.
+     */
+    @Override
+    public void close() {
+        ExecutorService owned;
+        synchronized (this) {
+            closed = true;
+            owned = ownsExecutor ? executor : null;
+        }
+        if (owned == null) {
+            return;
+        }
+        owned.shutdown();
+        try {
+            if (!owned.awaitTermination(30, TimeUnit.SECONDS)) {
+                owned.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            owned.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the executor running parallel work, creating an owned one on first use so that converters
+     * only used sequentially never start threads.
+     */
+    private synchronized ExecutorService executor() {
+        if (closed) {
+            throw new IllegalStateException("BatchConverter has been closed");
+        }
+        if (executor == null) {
+            executor = executorFactory.get();
+        }
+        return executor;
+    }
+
+    /**
+     * Splits the input into contiguous slices, runs them on the executor and returns the per-slice
+     * results in input order. Each task receives the input position of its first entry.
+     */
+    private <R> List<R> runSlices(List<BibTeXEntry> input, SliceTask<R> task) {
+        int slices = Math.min(input.size(), parallelism * SLICES_PER_THREAD);
+        List<Future<R>> futures = new ArrayList<>(slices);
+        ExecutorService pool = executor();
+        try {
+            for (int slice = 0; slice < slices; slice++) {
+                int from = (int) ((long) input.size() * slice / slices);
+                List<BibTeXEntry> part = input.subList(from, (int) ((long) input.size() * (slice + 1) / slices));
+                futures.add(pool.submit(() -> task.apply(from, part)));
+            }
+            List<R> results = new ArrayList<>(slices);
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Parallel conversion interrupted", e);
+        } catch (ExecutionException | RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            logger.error("Parallel conversion failed", e);
+            throw new RuntimeException("Parallel conversion failed", e);
+        }
+    }
 
-        AutoCloseableForkJoinPool(int parallelism) {
-            this.delegate = new ForkJoinPool(parallelism);
+    private List<BiboDocument> convertSlice(List<BibTeXEntry> slice) {
+        List<BiboDocument> documents = new ArrayList<>(slice.size());
+        for (BibTeXEntry entry : slice) {
+            convertOrSkip(entry).ifPresent(documents::add);
         }
+        return documents;
+    }
 
-        <T> Future<T> submit(Callable<T> task) {
-            return delegate.submit(task);
+    private BiboDocumentTable convertSliceToTable(List<BibTeXEntry> slice) {
+        BiboDocumentTable table = new BiboDocumentTable(slice.size());
+        for (BibTeXEntry entry : slice) {
+            convertOrSkip(entry).ifPresent(table::add);
         }
+        return table;
+    }
 
-        @Override
-        public void close() {
-            delegate.shutdown();
-            try {
-                if (!delegate.awaitTermination(30, TimeUnit.SECONDS)) {
-                    delegate.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                delegate.shutdownNow();
-                Thread.currentThread().interrupt();
+    /**
+     * Converts one entry into {@code documents[index]}, or records why it failed in {@code failures[index]}.
+     */
+    private void convertInto(BibTeXEntry entry, int index, BiboDocument[] documents, Exception[] failures,
+            StatisticsCollector stats) {
+        stats.recordEntry();
+        Exception failure;
+        try {
+            Optional<BiboDocument> doc = converterProvider.get().convertToBibo(entry);
+            if (doc.isPresent()) {
+                documents[index] = doc.get();
+                stats.recordSuccess(doc.get());
+                return;
+            }
+            failure = new ValidationException("Conversion returned empty document");
+        } catch (ValidationException e) {
+            failure = e;
+        } catch (RuntimeException e) {
+            logger.error("Unexpected error converting entry {}", getCitationKey(entry), e);
+            failure = e;
+        }
+        skippedTotal.increment();
+        listener.entrySkipped(entry, failure);
+        stats.recordFailure(failure);
+        failures[index] = failure;
+    }
+
+    private Optional<BiboDocument> convertOrSkip(BibTeXEntry entry) {
+        return convertOrSkip(entry, null);
+    }
+
+    private Optional<BiboDocument> convertOrSkip(BibTeXEntry entry, LongAdder skipped) {
+        try {
+            return converterProvider.get().convertToBibo(entry);
+        } catch (ValidationException e) {
+            skippedTotal.increment();
+            if (skipped != null) {
+                skipped.increment();
             }
+            listener.entrySkipped(entry, e);
+            return Optional.empty();
         }
     }
 
@@ -321,6 +877,14 @@ public class BatchConverter {
         return entry.getKey() == null ? "<unknown>" : entry.getKey().getValue();
     }
 
+    /**
+     * Work applied to one contiguous slice of a parallel batch.
+     */
+    @FunctionalInterface
+    private interface SliceTask<R> {
+        R apply(int offset, List<BibTeXEntry> slice);
+    }
+
     /**
      * Callback interface for progress updates during batch conversion.
      */
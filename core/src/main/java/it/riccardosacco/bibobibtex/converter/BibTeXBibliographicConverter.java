@@ -1,5 +1,6 @@
 package it.riccardosacco.bibobibtex.converter;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import it.riccardosacco.bibobibtex.exception.ValidationException;
 import it.riccardosacco.bibobibtex.model.bibo.BiboContributor;
 import it.riccardosacco.bibobibtex.model.bibo.BiboContributorRole;
@@ -21,14 +22,13 @@ import java.text.Normalizer;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -37,14 +37,13 @@ import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
-import org.eclipse.rdf4j.model.util.Models;
-import org.eclipse.rdf4j.model.util.RDFCollections;
 import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
 import org.eclipse.rdf4j.model.vocabulary.FOAF;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.eclipse.rdf4j.model.vocabulary.XSD;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.Rio;
 import org.jbibtex.BibTeXEntry;
 import org.jbibtex.Key;
@@ -54,6 +53,12 @@ import org.slf4j.LoggerFactory;
 
 public class BibTeXBibliographicConverter implements BibliographicConverter<BibTeXEntry> {
     private static final Logger logger = LoggerFactory.getLogger(BibTeXBibliographicConverter.class);
+
+    /**
+     * Version of the BibTeX to BIBO mapping. It is increased whenever an unchanged entry may convert to a
+     * different document, and {@link ConversionCache} rejects cache files written under another version.
+     */
+    public static final int MAPPING_VERSION = 1;
     private static final Map<String, Integer> MONTH_ALIASES =
             Map.ofEntries(
                     Map.entry("jan", 1),
@@ -129,21 +134,86 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
     private static final Key TYPE_MANUAL = new Key("manual");
     private static final Key TYPE_UNPUBLISHED = new Key("unpublished");
     private static final Key TYPE_CONFERENCE = new Key("conference");
-    private final Set<String> usedCitationKeys = ConcurrentHashMap.newKeySet();
+    private final CitationKeyRegistry citationKeys;
     private final KeyGenerationStrategy keyStrategy;
+    private final ConversionListener listener;
+    /** Conversion cache, or {@code null} when entries are always converted. */
+    private final ConversionCache cache;
 
     public BibTeXBibliographicConverter() {
         this(KeyGenerationStrategy.AUTHOR_YEAR);
     }
 
     public BibTeXBibliographicConverter(KeyGenerationStrategy keyStrategy) {
+        this(keyStrategy, ConversionListener.NONE);
+    }
+
+    /**
+     * Creates a converter reporting per-entry events to {@code listener} instead of logging them.
+     *
+     * @param keyStrategy citation key generation strategy
+     * @param listener receiver of per-entry conversion events
+     */
+    public BibTeXBibliographicConverter(KeyGenerationStrategy keyStrategy, ConversionListener listener) {
+        this(keyStrategy, listener, new CitationKeyRegistry());
+    }
+
+    /**
+     * Creates a converter assigning citation keys from {@code citationKeys}, which may be shared with
+     * other converters to keep keys unique across them.
+     *
+     * @param keyStrategy citation key generation strategy
+     * @param listener receiver of per-entry conversion events
+     * @param citationKeys registry of keys already handed out
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The registry may be shared by design")
+    public BibTeXBibliographicConverter(KeyGenerationStrategy keyStrategy, ConversionListener listener,
+            CitationKeyRegistry citationKeys) {
+        this(keyStrategy, listener, citationKeys, null);
+    }
+
+    /**
+     * Creates a converter that looks entries up in {@code cache} before converting them, so that entries
+     * converted before, by this or another converter sharing the cache, are not converted again.
+     * Documents are then shared with the cache and built with
+     * {@link BiboDocument.Builder#retainRdfModel(boolean) retainRdfModel(false)}, so they do not keep an
+     * RDF model alive in memory.
+     *
+     * @param keyStrategy citation key generation strategy
+     * @param listener receiver of per-entry conversion events, including cache hits
+     * @param citationKeys registry of keys already handed out
+     * @param cache conversion cache, or {@code null} to convert every entry
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The registry and cache may be shared by design")
+    public BibTeXBibliographicConverter(KeyGenerationStrategy keyStrategy, ConversionListener listener,
+            CitationKeyRegistry citationKeys, ConversionCache cache) {
         this.keyStrategy = Objects.requireNonNull(keyStrategy, "keyStrategy");
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.citationKeys = Objects.requireNonNull(citationKeys, "citationKeys");
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the registry of citation keys assigned by {@link #convertFromBibo(BiboDocument)}.
+     *
+     * @return citation key registry
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Callers reset or persist the registry")
+    public CitationKeyRegistry citationKeyRegistry() {
+        return citationKeys;
     }
 
     @Override
     public Optional<BiboDocument> convertToBibo(BibTeXEntry source) {
-        logger.info("Starting BibTeX → BIBO conversion for entry: {}", citationKeyValue(source));
+        BiboDocument result = cache == null || source == null
+                ? convert(source, true)
+                : cache.getOrConvert(source, entry -> convert(entry, false));
+        listener.entryConverted(source, result);
 
+        return Optional.of(result);
+    }
+
+    private BiboDocument convert(BibTeXEntry source, boolean retainModel) {
         // Validate input
         BibliographicValidator.validateBibTeXEntry(source);
 
@@ -157,9 +227,10 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         }
 
         BiboDocumentType documentType = mapDocumentType(source.getType());
-        logger.debug("Mapped BibTeX type {} to BIBO type {}", source.getType(), documentType);
 
-        BiboDocument.Builder builder = BiboDocument.builder(documentType, title).id(citationKeyValue(source));
+        BiboDocument.Builder builder = BiboDocument.builder(documentType, title)
+                .id(citationKeyValue(source))
+                .retainRdfModel(retainModel);
 
         fieldValue(source, FIELD_SUBTITLE).ifPresent(builder::subtitle);
         parseContributors(fieldValue(source, BibTeXEntry.KEY_AUTHOR), BiboContributorRole.AUTHOR)
@@ -221,18 +292,11 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
             builder.notes(combinedNote);
         }
 
-        BiboDocument result = builder.build();
-        logger.info("Successfully converted BibTeX entry to BIBO document: {}", result.title());
-        logger.debug("Document details: type={}, contributors={}, identifiers={}",
-            result.type(), result.contributors().size(), result.identifiers().size());
-
-        return Optional.of(result);
+        return builder.build();
     }
 
     @Override
     public Optional<BibTeXEntry> convertFromBibo(BiboDocument source) {
-        logger.info("Starting BIBO → BibTeX conversion for document: {}", source.title());
-
         // Validate input (lenient mode to allow roundtrip of malformed identifiers)
         BibliographicValidator.validateBiboDocument(source, true);
 
@@ -251,7 +315,6 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
             entryType = mapEntryType(source.type());
         }
 
-        logger.debug("Mapped BIBO type {} to BibTeX type {}", source.type(), entryType);
         String citationKey = resolveCitationKey(source);
 
         BibTeXEntry entry = new BibTeXEntry(entryType, new Key(citationKey));
@@ -316,8 +379,7 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
             putField(entry, FIELD_KEYWORDS, keywordsString);
         }
 
-        logger.info("Successfully converted BIBO document to BibTeX entry: {}", citationKey);
-        logger.debug("Entry type: {}, fields count: {}", entryType, entry.getFields().size());
+        listener.documentConverted(source, entry);
 
         return Optional.of(entry);
     }
@@ -345,18 +407,44 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
      */
     public List<BiboDocument> convertAllFromRDF(Model model) {
         Objects.requireNonNull(model, "model");
+        RdfSubjectIndex index = new RdfSubjectIndex(model);
         List<BiboDocument> documents = new ArrayList<>();
 
-        for (Resource resource : selectDocumentSubjects(model)) {
-            try {
-                documents.add(buildDocumentFromModel(model, resource));
-            } catch (Exception ex) {
-                logger.warn("Skipping RDF resource {}: {}", resource, ex.getMessage());
-            }
+        for (Resource resource : index.documentSubjects()) {
+            readDocument(index, resource).ifPresent(documents::add);
         }
         return documents;
     }
 
+    /**
+     * Converts every BIBO document contained in the provided RDF model, reading documents in parallel
+     * on the common fork/join pool. Returns the same documents in the same order as
+     * {@link #convertAllFromRDF(Model)}.
+     *
+     * @param model RDF4J model containing BIBO resources; must not be modified during the call
+     * @return list of converted documents, skipping malformed resources
+     */
+    public List<BiboDocument> convertAllFromRDFParallel(Model model) {
+        Objects.requireNonNull(model, "model");
+        RdfSubjectIndex index = new RdfSubjectIndex(model);
+        return index.documentSubjects().parallelStream()
+                .map(resource -> readDocument(index, resource))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads one document, logging and skipping it if it cannot be converted.
+     */
+    static Optional<BiboDocument> readDocument(RdfStatements rdf, Resource resource) {
+        try {
+            return Optional.of(buildDocument(rdf, resource));
+        } catch (Exception ex) {
+            logger.warn("Skipping RDF resource {}: {}", resource, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Converts a single BIBO document identified by its URI inside the RDF model.
      *
@@ -372,7 +460,7 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         if (!model.contains(resource, null, null)) {
             throw new IllegalArgumentException("Document not found in RDF model: " + documentUri);
         }
-        return buildDocumentFromModel(model, resource);
+        return buildDocument(RdfStatements.of(model), resource);
     }
 
     /**
@@ -387,51 +475,65 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         if (!Files.exists(file)) {
             throw new IOException("RDF file not found: " + file.toAbsolutePath());
         }
-        RDFFormat format = Rio.getParserFormatForFileName(file.toString()).orElse(RDFFormat.TURTLE);
+        RDFFormat format = parserFormat(file);
         try (InputStream stream = Files.newInputStream(file)) {
             Model model = Rio.parse(stream, "", format);
             return convertAllFromRDF(model);
         }
     }
 
-    private String resolveCitationKey(BiboDocument source) {
-        return providedCitationKey(source).orElseGet(() -> generateUniqueKey(source));
-    }
-
-    private Optional<String> providedCitationKey(BiboDocument source) {
-        return source.id()
-                .map(String::trim)
-                .filter(value -> !value.isEmpty())
-                .filter(value -> {
-                    if (!isValidCitationKey(value)) {
-                        logger.warn("Invalid citation key '{}' for document '{}', regenerating.", value, source.title());
-                        return false;
-                    }
-                    return true;
-                })
-                .map(this::registerProvidedKey);
+    /**
+     * Reads an RDF file and passes each contained document to {@code consumer} as soon as it is complete,
+     * without parsing the file into a model first. The file must be grouped by subject as described in
+     * {@link RDFDocumentReader}; N-Triples streams best. Quad formats such as N-Quads and TriG are rejected,
+     * as no parser for them is bundled.
+     *
+     * @param file path to the RDF file
+     * @param consumer receives the converted documents
+     * @return number of documents passed to the consumer
+     * @throws IOException if the file cannot be read or parsed, or its format has no parser
+     */
+    public long readRDFFile(Path file, Consumer<? super BiboDocument> consumer) throws IOException {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(consumer, "consumer");
+        if (!Files.exists(file)) {
+            throw new IOException("RDF file not found: " + file.toAbsolutePath());
+        }
+        RDFFormat format = parserFormat(file);
+        RDFDocumentReader reader = new RDFDocumentReader(consumer);
+        try (InputStream stream = Files.newInputStream(file)) {
+            RDFParser parser = Rio.createParser(format);
+            parser.setRDFHandler(reader);
+            parser.parse(stream, "");
+        }
+        return reader.documentCount();
     }
 
-    private String registerProvidedKey(String key) {
-        String candidate = key;
-        int counter = 2;
-        while (usedCitationKeys.contains(candidate)) {
-            candidate = appendSuffix(key, counter++);
+    private static RDFFormat parserFormat(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        Optional<RDFFormat> parsable = Rio.getParserFormatForFileName(fileName);
+        if (parsable.isPresent()) {
+            return parsable.get();
         }
-        if (!candidate.equals(key)) {
-            logger.warn("Citation key '{}' already used, assigned '{}'.", key, candidate);
+        // Without this check a .nq or .trig file would silently be parsed as Turtle
+        Optional<RDFFormat> known = RDFFormatConverter.detectFormat(fileName);
+        if (known.isPresent()) {
+            throw new IOException("No RDF parser available for " + known.get().getName() + " file: "
+                    + file.toAbsolutePath());
         }
-        usedCitationKeys.add(candidate);
-        return candidate;
+        return RDFFormat.TURTLE;
     }
 
-    private static String appendSuffix(String base, int counter) {
-        String suffix = "_" + counter;
-        if (base.length() + suffix.length() > MAX_CITATION_KEY_LENGTH) {
-            int maxBaseLength = Math.max(MIN_CITATION_KEY_LENGTH, MAX_CITATION_KEY_LENGTH - suffix.length());
-            base = base.substring(0, Math.min(base.length(), maxBaseLength));
+    private String resolveCitationKey(BiboDocument source) {
+        Optional<String> requested = source.id().map(String::trim).filter(value -> !value.isEmpty());
+        String key = requested.filter(BibTeXBibliographicConverter::isValidCitationKey)
+                .map(citationKeys::register)
+                .orElseGet(() -> generateUniqueKey(source));
+        // Invalid and already used keys are reported to the listener instead of logged per document
+        if (requested.isPresent() && !requested.get().equals(key)) {
+            listener.citationKeyReplaced(source, requested.get(), key);
         }
-        return base + suffix;
+        return key;
     }
 
     private String generateUniqueKey(BiboDocument document) {
@@ -441,13 +543,8 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
 
     private String registerGeneratedKey(String rawBase) {
         String base = clampCitationKey(rawBase);
-        String candidate = base;
-        int counter = 2;
-        while (usedCitationKeys.contains(candidate)) {
-            candidate = clampCitationKey(appendSuffix(base, counter++));
-        }
-        usedCitationKeys.add(candidate);
-        return candidate;
+        return citationKeys.register(base,
+                counter -> clampCitationKey(CitationKeyRegistry.appendSuffix(base, counter)));
     }
 
     private Optional<String> baseKeyForStrategy(BiboDocument document) {
@@ -559,7 +656,6 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
     private static Optional<String> fieldValue(BibTeXEntry entry, Key primary, Key fallback) {
         Optional<String> result = fieldValue(entry, primary);
         if (result.isEmpty() && fallback != null) {
-            logger.debug("Field {} not found, using fallback {}", primary, fallback);
             result = fieldValue(entry, fallback);
         }
         return result;
@@ -1058,37 +1154,13 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         return vf.createIRI(identifier);
     }
 
-    private static List<Resource> selectDocumentSubjects(Model model) {
-        // Collect containers (resources that are targets of isPartOf relations)
-        Set<Resource> containers = new java.util.HashSet<>();
-        model.filter(null, DCTERMS.IS_PART_OF, null).forEach(statement -> {
-            org.eclipse.rdf4j.model.Value object = statement.getObject();
-            if (object instanceof Resource resource) {
-                containers.add(resource);
-            }
-        });
-
-        LinkedHashSet<Resource> subjects = new LinkedHashSet<>();
-        model.filter(null, RDF.TYPE, null).forEach(statement -> {
-            org.eclipse.rdf4j.model.Value object = statement.getObject();
-            if (object instanceof IRI type && type.stringValue().startsWith(BiboVocabulary.NAMESPACE)) {
-                Resource subject = (Resource) statement.getSubject();
-                // Exclude containers - they're not top-level documents
-                if (!containers.contains(subject)) {
-                    subjects.add(subject);
-                }
-            }
-        });
-        return new ArrayList<>(subjects);
-    }
-
-    private static BiboDocument buildDocumentFromModel(Model model, Resource subject) {
-        String title = literal(model, subject, DCTERMS.TITLE)
+    private static BiboDocument buildDocument(RdfStatements rdf, Resource subject) {
+        String title = literal(rdf, subject, DCTERMS.TITLE)
                 .orElseThrow(() -> new ValidationException("Document title is required in RDF source"));
 
         // Collect all type IRIs, filtering out bibo:Document (generic) to prefer specific types
         BiboDocumentType type =
-                model.filter(subject, RDF.TYPE, null).objects().stream()
+                rdf.objects(subject, RDF.TYPE).stream()
                         .filter(value -> value instanceof IRI)
                         .map(value -> (IRI) value)
                         .filter(iri -> !iri.equals(BiboVocabulary.DOCUMENT)) // Skip generic bibo:Document
@@ -1099,33 +1171,33 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
                         .orElse(BiboDocumentType.OTHER);
 
         BiboDocument.Builder builder = BiboDocument.builder(type, title);
-        literal(model, subject, DCTERMS.IDENTIFIER).ifPresent(builder::id);
-        literal(model, subject, BiboVocabulary.SUBTITLE).ifPresent(builder::subtitle);
-
-        builder.contributors(readContributors(model, subject));
-        parsePublicationDate(model, subject).ifPresent(builder::publicationDate);
-
-        literal(model, subject, DCTERMS.PUBLISHER).ifPresent(builder::publisher);
-        literal(model, subject, DCTERMS.SPATIAL).ifPresent(builder::placeOfPublication);
-        literal(model, subject, DCTERMS.LANGUAGE).ifPresent(builder::language);
-        literal(model, subject, DCTERMS.ABSTRACT).ifPresent(builder::abstractText);
-        literal(model, subject, RDFS.COMMENT).ifPresent(builder::notes);
-
-        literal(model, subject, BiboVocabulary.VOLUME).ifPresent(builder::volume);
-        literal(model, subject, BiboVocabulary.ISSUE).ifPresent(builder::issue);
-        literal(model, subject, BiboVocabulary.PAGES).ifPresent(builder::pages);
-        literal(model, subject, BiboVocabulary.SERIES).ifPresent(builder::series);
-        literal(model, subject, BiboVocabulary.EDITION).ifPresent(builder::edition);
-        literal(model, subject, BiboVocabulary.DEGREE).ifPresent(builder::degreeType);
-
-        containerTitle(model, subject).ifPresent(builder::containerTitle);
-        conferenceLocation(model, subject).ifPresent(builder::conferenceLocation);
-        conferenceOrganizer(model, subject).ifPresent(builder::conferenceOrganizer);
-        literal(model, subject, BiboVocabulary.DEGREE).ifPresent(builder::degreeType);
-        iriOrLiteral(model, subject, FOAF.PAGE).ifPresent(builder::url);
-
-        builder.identifiers(readIdentifiers(model, subject));
-        model.filter(subject, DCTERMS.SUBJECT, null).objects().stream()
+        literal(rdf, subject, DCTERMS.IDENTIFIER).ifPresent(builder::id);
+        literal(rdf, subject, BiboVocabulary.SUBTITLE).ifPresent(builder::subtitle);
+
+        builder.contributors(readContributors(rdf, subject));
+        parsePublicationDate(rdf, subject).ifPresent(builder::publicationDate);
+
+        literal(rdf, subject, DCTERMS.PUBLISHER).ifPresent(builder::publisher);
+        literal(rdf, subject, DCTERMS.SPATIAL).ifPresent(builder::placeOfPublication);
+        literal(rdf, subject, DCTERMS.LANGUAGE).ifPresent(builder::language);
+        literal(rdf, subject, DCTERMS.ABSTRACT).ifPresent(builder::abstractText);
+        literal(rdf, subject, RDFS.COMMENT).ifPresent(builder::notes);
+
+        literal(rdf, subject, BiboVocabulary.VOLUME).ifPresent(builder::volume);
+        literal(rdf, subject, BiboVocabulary.ISSUE).ifPresent(builder::issue);
+        literal(rdf, subject, BiboVocabulary.PAGES).ifPresent(builder::pages);
+        literal(rdf, subject, BiboVocabulary.SERIES).ifPresent(builder::series);
+        literal(rdf, subject, BiboVocabulary.EDITION).ifPresent(builder::edition);
+        literal(rdf, subject, BiboVocabulary.DEGREE).ifPresent(builder::degreeType);
+
+        containerTitle(rdf, subject).ifPresent(builder::containerTitle);
+        conferenceLocation(rdf, subject).ifPresent(builder::conferenceLocation);
+        conferenceOrganizer(rdf, subject).ifPresent(builder::conferenceOrganizer);
+        literal(rdf, subject, BiboVocabulary.DEGREE).ifPresent(builder::degreeType);
+        iriOrLiteral(rdf, subject, FOAF.PAGE).ifPresent(builder::url);
+
+        builder.identifiers(readIdentifiers(rdf, subject));
+        rdf.objects(subject, DCTERMS.SUBJECT).stream()
                 .filter(value -> value instanceof Literal)
                 .map(value -> ((Literal) value).getLabel().trim())
                 .filter(keyword -> !keyword.isEmpty())
@@ -1134,38 +1206,38 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         return builder.build();
     }
 
-    private static List<BiboContributor> readContributors(Model model, Resource subject) {
+    private static List<BiboContributor> readContributors(RdfStatements rdf, Resource subject) {
         List<BiboContributor> contributors = new ArrayList<>();
-        contributors.addAll(readContributorList(model, subject, BiboVocabulary.AUTHOR_LIST, BiboContributorRole.AUTHOR));
-        contributors.addAll(readContributorList(model, subject, BiboVocabulary.EDITOR_LIST, BiboContributorRole.EDITOR));
+        contributors.addAll(readContributorList(rdf, subject, BiboVocabulary.AUTHOR_LIST, BiboContributorRole.AUTHOR));
+        contributors.addAll(readContributorList(rdf, subject, BiboVocabulary.EDITOR_LIST, BiboContributorRole.EDITOR));
 
         for (Map.Entry<IRI, BiboContributorRole> entry : CONTRIBUTOR_PREDICATES.entrySet()) {
             if (entry.getValue() == BiboContributorRole.AUTHOR || entry.getValue() == BiboContributorRole.EDITOR) {
                 continue;
             }
-            model.filter(subject, entry.getKey(), null).objects().stream()
+            rdf.objects(subject, entry.getKey()).stream()
                     .filter(value -> value instanceof Resource)
                     .map(value -> (Resource) value)
                     .forEach(resource ->
-                            readPersonName(model, resource).ifPresent(name ->
+                            readPersonName(rdf, resource).ifPresent(name ->
                                     contributors.add(new BiboContributor(name, entry.getValue()))));
         }
         return contributors;
     }
 
     private static List<BiboContributor> readContributorList(
-            Model model, Resource subject, IRI predicate, BiboContributorRole role) {
+            RdfStatements rdf, Resource subject, IRI predicate, BiboContributorRole role) {
         List<BiboContributor> contributors = new ArrayList<>();
-        model.filter(subject, predicate, null).objects().stream()
+        rdf.objects(subject, predicate).stream()
                 .filter(value -> value instanceof Resource)
                 .map(value -> (Resource) value)
                 .findFirst()
                 .ifPresent(listHead -> {
                     List<org.eclipse.rdf4j.model.Value> values =
-                            RDFCollections.asValues(model, listHead, new ArrayList<>());
+                            rdf.listValues(listHead);
                     for (org.eclipse.rdf4j.model.Value value : values) {
                         if (value instanceof Resource person) {
-                            readPersonName(model, person)
+                            readPersonName(rdf, person)
                                     .ifPresent(name -> contributors.add(new BiboContributor(name, role)));
                         }
                     }
@@ -1173,10 +1245,10 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         return contributors;
     }
 
-    private static Optional<BiboPersonName> readPersonName(Model model, Resource person) {
-        Optional<String> given = literal(model, person, FOAF.GIVEN_NAME);
-        Optional<String> family = literal(model, person, FOAF.FAMILY_NAME);
-        String label = literal(model, person, FOAF.NAME)
+    private static Optional<BiboPersonName> readPersonName(RdfStatements rdf, Resource person) {
+        Optional<String> given = literal(rdf, person, FOAF.GIVEN_NAME);
+        Optional<String> family = literal(rdf, person, FOAF.FAMILY_NAME);
+        String label = literal(rdf, person, FOAF.NAME)
                 .orElseGet(() -> Stream.of(given.orElse(null), family.orElse(null))
                         .filter(Objects::nonNull)
                         .collect(Collectors.joining(" ")));
@@ -1191,10 +1263,10 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         return Optional.of(builder.build());
     }
 
-    private static List<BiboIdentifier> readIdentifiers(Model model, Resource subject) {
+    private static List<BiboIdentifier> readIdentifiers(RdfStatements rdf, Resource subject) {
         List<BiboIdentifier> identifiers = new ArrayList<>();
         for (Map.Entry<IRI, BiboIdentifierType> entry : IDENTIFIER_PREDICATES.entrySet()) {
-            model.filter(subject, entry.getKey(), null).objects().forEach(value -> {
+            rdf.objects(subject, entry.getKey()).forEach(value -> {
                 String text = value.stringValue().trim();
                 if (!text.isEmpty()) {
                     identifiers.add(new BiboIdentifier(entry.getValue(), text));
@@ -1204,8 +1276,8 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         return identifiers;
     }
 
-    private static Optional<BiboPublicationDate> parsePublicationDate(Model model, Resource subject) {
-        return Models.objectLiteral(model.filter(subject, DCTERMS.ISSUED, null)).flatMap(BibTeXBibliographicConverter::parseIssuedLiteral);
+    private static Optional<BiboPublicationDate> parsePublicationDate(RdfStatements rdf, Resource subject) {
+        return rdf.objectLiteral(subject, DCTERMS.ISSUED).flatMap(BibTeXBibliographicConverter::parseIssuedLiteral);
     }
 
     private static Optional<BiboPublicationDate> parseIssuedLiteral(Literal literal) {
@@ -1242,42 +1314,42 @@ public class BibTeXBibliographicConverter implements BibliographicConverter<BibT
         return Optional.empty();
     }
 
-    private static Optional<String> containerTitle(Model model, Resource subject) {
-        return model.filter(subject, DCTERMS.IS_PART_OF, null).objects().stream()
+    private static Optional<String> containerTitle(RdfStatements rdf, Resource subject) {
+        return rdf.objects(subject, DCTERMS.IS_PART_OF).stream()
                 .filter(value -> value instanceof Resource)
                 .map(value -> (Resource) value)
-                .map(container -> literal(model, container, DCTERMS.TITLE))
+                .map(container -> literal(rdf, container, DCTERMS.TITLE))
                 .flatMap(Optional::stream)
                 .findFirst();
     }
 
-    private static Optional<String> conferenceLocation(Model model, Resource subject) {
-        return model.filter(subject, DCTERMS.IS_PART_OF, null).objects().stream()
+    private static Optional<String> conferenceLocation(RdfStatements rdf, Resource subject) {
+        return rdf.objects(subject, DCTERMS.IS_PART_OF).stream()
                 .filter(value -> value instanceof Resource)
                 .map(value -> (Resource) value)
-                .map(container -> literal(model, container, DCTERMS.SPATIAL))
+                .map(container -> literal(rdf, container, DCTERMS.SPATIAL))
                 .flatMap(Optional::stream)
                 .findFirst();
     }
 
-    private static Optional<String> conferenceOrganizer(Model model, Resource subject) {
-        return model.filter(subject, DCTERMS.IS_PART_OF, null).objects().stream()
+    private static Optional<String> conferenceOrganizer(RdfStatements rdf, Resource subject) {
+        return rdf.objects(subject, DCTERMS.IS_PART_OF).stream()
                 .filter(value -> value instanceof Resource)
                 .map(value -> (Resource) value)
-                .map(container -> literal(model, container, BiboVocabulary.ORGANIZER))
+                .map(container -> literal(rdf, container, BiboVocabulary.ORGANIZER))
                 .flatMap(Optional::stream)
                 .findFirst();
     }
 
-    private static Optional<String> literal(Model model, Resource subject, IRI predicate) {
-        return Models.objectLiteral(model.filter(subject, predicate, null))
+    private static Optional<String> literal(RdfStatements rdf, Resource subject, IRI predicate) {
+        return rdf.objectLiteral(subject, predicate)
                 .map(Literal::getLabel)
                 .map(String::trim)
                 .filter(text -> !text.isEmpty());
     }
 
-    private static Optional<String> iriOrLiteral(Model model, Resource subject, IRI predicate) {
-        return model.filter(subject, predicate, null).objects().stream()
+    private static Optional<String> iriOrLiteral(RdfStatements rdf, Resource subject, IRI predicate) {
+        return rdf.objects(subject, predicate).stream()
                 .map(value -> value instanceof Literal literal ? literal.getLabel() : value.stringValue())
                 .map(String::trim)
                 .filter(text -> !text.isEmpty())
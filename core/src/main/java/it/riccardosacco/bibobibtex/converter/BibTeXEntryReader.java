@@ -0,0 +1,330 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import it.riccardosacco.bibobibtex.exception.BibliographicConversionException;
+import org.jbibtex.BibTeXDatabase;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.BibTeXObject;
+import org.jbibtex.BibTeXParser;
+import org.jbibtex.BibTeXPreamble;
+import org.jbibtex.BibTeXString;
+import org.jbibtex.Key;
+import org.jbibtex.ObjectResolutionException;
+import org.jbibtex.ParseException;
+import org.jbibtex.TokenMgrException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pull-based BibTeX reader that yields entries one at a time instead of materializing a whole
+ * {@link BibTeXDatabase}.
+ *
+ * <p>The input is scanned for top-level {@code @type{...}} / {@code @type(...)} objects; each object is
+ * handed to a single, reused jbibtex parser, so field syntax is handled exactly as in a whole-file parse.
+ * {@code @string} definitions are registered as parser macros as soon as they are read and therefore
+ * resolve in every later entry. {@code @preamble} values are collected, {@code @comment} blocks and text
+ * between objects are skipped. Cross-references are not resolved against other entries, because earlier
+ * entries are not retained; the converter does not inherit fields through {@code crossref} anyway.
+ *
+ * <p>Heap usage is bounded by the largest single object, so multi-gigabyte bibliographies can be fed
+ * to {@link BatchConverter#convertStream(Stream)} while output is already being written:
+ * <pre>{@code
+ * try (BibTeXEntryReader reader = BibTeXEntryReader.open(path);
+ *      Stream<BiboDocument> documents = batchConverter.convertStream(reader.stream())) {
+ *     documents.forEach(document -> document.emitTo(writer));
+ * }
+ * }</pre>
+ *
+ * <p>A malformed object is reported as a {@link BibliographicConversionException} from {@link #hasNext()};
+ * the object has already been consumed at that point, so callers may log it and keep iterating.
+ * Instances are not thread-safe.
+ */
+public final class BibTeXEntryReader implements Iterator<BibTeXEntry>, Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final BibTeXParser parser;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder object = new StringBuilder(1024);
+    private final List<BibTeXPreamble> preambles = new ArrayList<>();
+
+    private int position;
+    private int limit;
+    private int line = 1;
+    private boolean exhausted;
+    private BibTeXEntry next;
+
+    /**
+     * Creates a reader over a character stream. The stream is closed by {@link #close()}.
+     *
+     * @param reader source of BibTeX text
+     */
+    public BibTeXEntryReader(Reader reader) {
+        this(reader, List.of(), 0);
+    }
+
+    /**
+     * Creates a reader that resumes parsing in the middle of a file: its parser already knows the given
+     * macros, and keys generated for key-less entries continue after {@code generatedKeyOffset}.
+     */
+    BibTeXEntryReader(Reader reader, Collection<BibTeXString> macros, long generatedKeyOffset) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+        try {
+            this.parser = new LenientCrossReferenceParser(generatedKeyOffset);
+        } catch (ParseException | TokenMgrException e) {
+            throw new BibliographicConversionException("Failed to create BibTeX parser", e);
+        }
+        macros.forEach(parser::addMacro);
+    }
+
+    /**
+     * Opens a UTF-8 encoded BibTeX file.
+     *
+     * @param file path to the {@code .bib} file
+     * @return a reader positioned before the first entry
+     * @throws IOException if the file cannot be opened
+     */
+    public static BibTeXEntryReader open(Path file) throws IOException {
+        return new BibTeXEntryReader(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens a BibTeX byte channel with the given charset.
+     *
+     * @param channel channel to read from; closed by {@link #close()}
+     * @param charset character encoding of the channel content
+     * @return a reader positioned before the first entry
+     */
+    public static BibTeXEntryReader open(ReadableByteChannel channel, Charset charset) {
+        return new BibTeXEntryReader(Channels.newReader(channel, charset));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !exhausted) {
+            next = readEntry();
+        }
+        return next != null;
+    }
+
+    @Override
+    public BibTeXEntry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BibTeXEntry entry = next;
+        next = null;
+        return entry;
+    }
+
+    /**
+     * Returns a sequential, ordered stream over the remaining entries. Closing the stream closes this reader.
+     *
+     * @return lazily populated stream of entries
+     */
+    public Stream<BibTeXEntry> stream() {
+        Spliterator<BibTeXEntry> spliterator =
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Returns the {@code @string} macros read so far, including jbibtex's predefined month macros.
+     *
+     * @return unmodifiable view of the macros keyed by name
+     */
+    public Map<Key, BibTeXString> strings() {
+        return Collections.unmodifiableMap(parser.getMacros());
+    }
+
+    /**
+     * Returns the {@code @preamble} objects read so far, in document order.
+     *
+     * @return unmodifiable list of preambles
+     */
+    public List<BibTeXPreamble> preambles() {
+        return Collections.unmodifiableList(preambles);
+    }
+
+    @Override
+    public void close() throws IOException {
+        exhausted = true;
+        next = null;
+        reader.close();
+    }
+
+    /**
+     * Reads objects until an entry is found or the input ends.
+     */
+    private BibTeXEntry readEntry() {
+        while (readObject()) {
+            BibTeXEntry entry = parseObject();
+            if (entry != null) {
+                return entry;
+            }
+        }
+        exhausted = true;
+        return null;
+    }
+
+    /**
+     * Copies the next top-level object into {@link #object}, skipping {@code @comment} blocks.
+     *
+     * @return {@code false} at end of input
+     */
+    private boolean readObject() {
+        while (true) {
+            int c;
+            do {
+                c = read();
+                if (c < 0) {
+                    return false;
+                }
+            } while (c != '@');
+
+            object.setLength(0);
+            object.append('@');
+            int startLine = line;
+            c = read();
+            while (c >= 0 && (Character.isLetterOrDigit(c) || c == '_' || c == '-')) {
+                object.append((char) c);
+                c = read();
+            }
+            String type = object.substring(1).toLowerCase(Locale.ROOT);
+            while (c >= 0 && Character.isWhitespace(c)) {
+                object.append((char) c);
+                c = read();
+            }
+            if (c != '{' && c != '(') {
+                // Stray '@' in inter-object text: BibTeX ignores it, so do we
+                if (c < 0) {
+                    return false;
+                }
+                continue;
+            }
+            object.append((char) c);
+            readBody(c == '(', startLine);
+            if (!"comment".equals(type)) {
+                return true;
+            }
+        }
+    }
+
+    private void readBody(boolean parenthesized, int startLine) {
+        int depth = parenthesized ? 0 : 1;
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw new BibliographicConversionException(
+                        "Unterminated BibTeX object starting at line " + startLine);
+            }
+            object.append((char) c);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+                if (!parenthesized && depth == 0) {
+                    return;
+                }
+            } else if (c == '"' && depth == (parenthesized ? 0 : 1)) {
+                quoted = !quoted;
+            } else if (c == ')' && parenthesized && depth == 0 && !quoted) {
+                return;
+            }
+        }
+    }
+
+    private BibTeXEntry parseObject() {
+        BibTeXDatabase database;
+        try {
+            database = parser.parse(new StringReader(object.toString()));
+        } catch (ParseException | TokenMgrException | ObjectResolutionException e) {
+            throw new BibliographicConversionException(
+                    "Failed to parse BibTeX object near line " + line + ": " + e.getMessage(), e);
+        }
+        BibTeXEntry entry = null;
+        for (BibTeXObject parsed : database.getObjects()) {
+            if (parsed instanceof BibTeXString string) {
+                parser.addMacro(string);
+            } else if (parsed instanceof BibTeXPreamble preamble) {
+                preambles.add(preamble);
+            } else if (parsed instanceof BibTeXEntry parsedEntry) {
+                entry = parsedEntry;
+            }
+        }
+        return entry;
+    }
+
+    private int read() {
+        if (position == limit) {
+            try {
+                limit = reader.read(buffer, 0, buffer.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    /**
+     * Parser that leaves {@code crossref} values unresolved when the target entry was not part of the
+     * same object, instead of failing the whole read, and numbers key-less entries from a given offset.
+     */
+    private static final class LenientCrossReferenceParser extends BibTeXParser {
+        private long generatedKeys;
+
+        LenientCrossReferenceParser(long generatedKeyOffset) throws ParseException, TokenMgrException {
+            super();
+            this.generatedKeys = generatedKeyOffset;
+        }
+
+        @Override
+        public String nextKey() {
+            // Same scheme as jbibtex, with a counter that can start mid-file
+            return "jbibtex-" + (++generatedKeys);
+        }
+
+        @Override
+        public void checkCrossReferenceResolution(Key key, BibTeXEntry entry) {
+            // Targets live in other objects that are not retained
+        }
+    }
+}
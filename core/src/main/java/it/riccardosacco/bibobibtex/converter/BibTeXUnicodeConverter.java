@@ -1,9 +1,9 @@
 package it.riccardosacco.bibobibtex.converter;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Converts BibTeX LaTeX escape sequences to Unicode characters.
@@ -15,6 +15,12 @@ public final class BibTeXUnicodeConverter {
     private static final Map<String, String> ESCAPE_SEQUENCES = new HashMap<>();
     private static final Map<String, String> REVERSE_SEQUENCES = new HashMap<>();
 
+    // Accent commands that are also recognised without braces (e.g. \'e)
+    private static final String UNBRACED_ACCENT_COMMANDS = "'`\"^~=uv.rHk";
+    private static final int ASCII_LIMIT = 128;
+    private static final String[] UNBRACED_ACCENTS = new String[ASCII_LIMIT * ASCII_LIMIT];
+    private static final EscapeTrie BRACED_TRIE = new EscapeTrie();
+
     static {
         // Acute accent (')
         ESCAPE_SEQUENCES.put("{\\'a}", "á");
@@ -202,6 +208,15 @@ public final class BibTeXUnicodeConverter {
             if (!REVERSE_SEQUENCES.containsKey(unicode)) {
                 REVERSE_SEQUENCES.put(unicode, latex);
             }
+
+            BRACED_TRIE.put(latex, unicode);
+
+            // Simple accent forms such as {\'e} are also valid without braces
+            if (latex.length() == 5
+                    && UNBRACED_ACCENT_COMMANDS.indexOf(latex.charAt(2)) >= 0
+                    && isAsciiLetter(latex.charAt(3))) {
+                UNBRACED_ACCENTS[latex.charAt(2) * ASCII_LIMIT + latex.charAt(3)] = unicode;
+            }
         }
     }
 
@@ -209,10 +224,22 @@ public final class BibTeXUnicodeConverter {
         // Utility class
     }
 
+    /**
+     * Read-only view of the braced escape sequence table, used by benchmarks and tests.
+     */
+    static Map<String, String> escapeSequences() {
+        return Collections.unmodifiableMap(ESCAPE_SEQUENCES);
+    }
+
     /**
      * Converts a string containing BibTeX LaTeX escape sequences to Unicode.
      * Handles both braced forms (e.g., {\\'e}) and unbraced forms (e.g., \\'e).
      *
+     * <p>The input is scanned once: braced sequences are resolved through a prefix trie
+     * keyed on the opening brace and backslash, unbraced accents through a direct
+     * accent/letter table.
+     * Strings without a backslash are returned as the same instance without allocating.
+     *
      * @param input the input string with LaTeX escape sequences
      * @return the string with escape sequences converted to Unicode characters
      */
@@ -221,89 +248,138 @@ public final class BibTeXUnicodeConverter {
             return null;
         }
 
-        String result = input;
-
-        // First, replace all braced escape sequences
-        for (Map.Entry<String, String> entry : ESCAPE_SEQUENCES.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
+        int firstBackslash = input.indexOf('\\');
+        if (firstBackslash < 0) {
+            return input;
         }
 
-        // Then handle unbraced forms (remove the braces from the pattern)
-        // We need to be careful with the order and pattern matching
-        // Common unbraced patterns: \'e, \`a, \"u, \^o, \~n, etc.
-        result = convertUnbracedAccents(result);
+        // A braced sequence starts one character before its backslash
+        int start = firstBackslash > 0 && input.charAt(firstBackslash - 1) == '{'
+                ? firstBackslash - 1
+                : firstBackslash;
+
+        int length = input.length();
+        StringBuilder result = null;
+        int copied = 0;
+        int i = start;
+
+        while (i < length) {
+            char c = input.charAt(i);
+            String replacement = null;
+            int consumed = 0;
+
+            if (c == '{' && i + 1 < length && input.charAt(i + 1) == '\\') {
+                int end = BRACED_TRIE.match(input, i);
+                if (end > 0) {
+                    replacement = BRACED_TRIE.valueAt(input, i, end);
+                    consumed = end - i;
+                }
+            } else if (c == '\\' && i + 2 < length) {
+                replacement = unbracedAccent(input.charAt(i + 1), input.charAt(i + 2));
+                consumed = 3;
+            }
 
-        return result;
+            if (replacement == null) {
+                i++;
+                continue;
+            }
+
+            if (result == null) {
+                result = new StringBuilder(length);
+            }
+            result.append(input, copied, i).append(replacement);
+            i += consumed;
+            copied = i;
+        }
+
+        if (result == null) {
+            return input;
+        }
+        return result.append(input, copied, length).toString();
     }
 
     /**
-     * Converts unbraced LaTeX accent commands to Unicode.
-     * Handles patterns like \'e, \`a, \"u, etc.
+     * Resolves an unbraced accent command such as \\'e, using the braced mapping as source of truth.
      */
-    private static String convertUnbracedAccents(String input) {
-        String result = input;
-
-        // Acute accent: \'
-        result = replaceUnbracedPattern(result, "\\\\'([a-zA-Z])", "'");
-
-        // Grave accent: \`
-        result = replaceUnbracedPattern(result, "\\\\`([a-zA-Z])", "`");
-
-        // Umlaut/diaeresis: \"
-        result = replaceUnbracedPattern(result, "\\\\\"([a-zA-Z])", "\"");
-
-        // Circumflex: \^
-        result = replaceUnbracedPattern(result, "\\\\\\^([a-zA-Z])", "^");
-
-        // Tilde: \~
-        result = replaceUnbracedPattern(result, "\\\\~([a-zA-Z])", "~");
-
-        // Macron: \=
-        result = replaceUnbracedPattern(result, "\\\\=([a-zA-Z])", "=");
-
-        // Breve/Ring: backslash-u
-        result = replaceUnbracedPattern(result, "\\\\u([a-zA-Z])", "u");
-
-        // Caron: backslash-v
-        result = replaceUnbracedPattern(result, "\\\\v([a-zA-Z])", "v");
-
-        // Dot: \.
-        result = replaceUnbracedPattern(result, "\\\\.([a-zA-Z])", ".");
-
-        // Ring: \r
-        result = replaceUnbracedPattern(result, "\\\\r([a-zA-Z])", "r");
-
-        // Double acute: \H
-        result = replaceUnbracedPattern(result, "\\\\H([a-zA-Z])", "H");
-
-        // Ogonek: \k
-        result = replaceUnbracedPattern(result, "\\\\k([a-zA-Z])", "k");
+    private static String unbracedAccent(char accent, char letter) {
+        if (accent >= ASCII_LIMIT || !isAsciiLetter(letter)) {
+            return null;
+        }
+        return UNBRACED_ACCENTS[accent * ASCII_LIMIT + letter];
+    }
 
-        return result;
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
 
     /**
-     * Replaces unbraced accent patterns with Unicode characters.
+     * Compact prefix trie over the braced escape sequences (all starting with a brace and a backslash).
+     * Each node stores its outgoing edges as parallel sorted arrays, so matching a candidate
+     * sequence walks at most a handful of characters and never allocates.
      */
-    private static String replaceUnbracedPattern(String input, String regex, String accent) {
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(input);
-        StringBuilder sb = new StringBuilder();
-
-        while (matcher.find()) {
-            String letter = matcher.group(1);
-            String bracedForm = "{\\" + accent + letter + "}";
-            String unicode = ESCAPE_SEQUENCES.get(bracedForm);
-
-            if (unicode != null) {
-                matcher.appendReplacement(sb, Matcher.quoteReplacement(unicode));
-            } else {
-                matcher.appendReplacement(sb, Matcher.quoteReplacement(matcher.group()));
+    private static final class EscapeTrie {
+        private char[] edges = new char[0];
+        private EscapeTrie[] children = new EscapeTrie[0];
+        private String value;
+
+        void put(String key, String replacement) {
+            EscapeTrie node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+            }
+            node.value = replacement;
+        }
+
+        /**
+         * Returns the end index (exclusive) of the longest sequence matching at {@code from}, or -1.
+         */
+        int match(String input, int from) {
+            EscapeTrie node = this;
+            int matchEnd = -1;
+            for (int i = from; i < input.length(); i++) {
+                node = node.child(input.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.value != null) {
+                    matchEnd = i + 1;
+                }
+            }
+            return matchEnd;
+        }
+
+        String valueAt(String input, int from, int end) {
+            EscapeTrie node = this;
+            for (int i = from; i < end; i++) {
+                node = node.child(input.charAt(i));
             }
+            return node.value;
+        }
+
+        private EscapeTrie child(char c) {
+            int index = Arrays.binarySearch(edges, c);
+            return index >= 0 ? children[index] : null;
         }
-        matcher.appendTail(sb);
 
-        return sb.toString();
+        private EscapeTrie childOrCreate(char c) {
+            int index = Arrays.binarySearch(edges, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            EscapeTrie created = new EscapeTrie();
+            char[] newEdges = new char[edges.length + 1];
+            EscapeTrie[] newChildren = new EscapeTrie[children.length + 1];
+            System.arraycopy(edges, 0, newEdges, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newEdges[insertAt] = c;
+            newChildren[insertAt] = created;
+            System.arraycopy(edges, insertAt, newEdges, insertAt + 1, edges.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            edges = newEdges;
+            children = newChildren;
+            return created;
+        }
     }
 
     /**
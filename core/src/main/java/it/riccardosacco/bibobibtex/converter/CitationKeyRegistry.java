@@ -0,0 +1,144 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Thread-safe registry of citation keys handed out during BIBO → BibTeX conversion.
+ *
+ * <p>Colliding keys get the suffixes {@code _2}, {@code _3}, … in order. Instead of testing every
+ * candidate from {@code _2} up, the registry remembers the next free suffix for each base key and
+ * advances it atomically. Registering the n-th document with base {@code smith_2020} therefore costs
+ * a constant number of map operations rather than n probes. A candidate is only re-probed when it was
+ * registered by other means, for example as an explicit key.
+ *
+ * <p>A registry can be scoped to one export by giving each export its own converter, or shared between
+ * converters and threads when keys must be unique across several exports. {@link #reset()} and
+ * {@link #release(String)} evict keys, and {@link #save(Path)} / {@link #load(Path)} persist the set of
+ * registered keys across runs.
+ */
+public final class CitationKeyRegistry {
+    private static final int MIN_KEY_LENGTH = 3;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final Set<String> registered = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, AtomicInteger> nextSuffix = new ConcurrentHashMap<>();
+
+    /**
+     * Registers {@code base} or, if it is taken, the first free {@code base_n} with {@code n >= 2}.
+     * Suffixed keys are truncated so they do not exceed 64 characters.
+     *
+     * @param base desired citation key
+     * @return the registered key
+     */
+    public String register(String base) {
+        return register(base, counter -> appendSuffix(base, counter));
+    }
+
+    /**
+     * Registers {@code base} or, if it is taken, the first free candidate produced by {@code suffixed}
+     * for counters 2, 3, …
+     */
+    String register(String base, IntFunction<String> suffixed) {
+        Objects.requireNonNull(base, "base");
+        AtomicInteger counter = nextSuffix.computeIfAbsent(base, key -> new AtomicInteger(1));
+        while (true) {
+            int next = counter.getAndIncrement();
+            String candidate = next == 1 ? base : suffixed.apply(next);
+            if (registered.add(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Returns whether {@code key} is currently registered.
+     *
+     * @param key citation key
+     * @return {@code true} if registered
+     */
+    public boolean contains(String key) {
+        return registered.contains(key);
+    }
+
+    /**
+     * Returns the number of registered keys.
+     *
+     * @return registered key count
+     */
+    public int size() {
+        return registered.size();
+    }
+
+    /**
+     * Evicts a single key. The suffix counter of its base is kept, so later collisions still get fresh
+     * suffixes instead of reusing the released one.
+     *
+     * @param key citation key to release
+     * @return {@code true} if the key was registered
+     */
+    public boolean release(String key) {
+        return registered.remove(key);
+    }
+
+    /**
+     * Evicts all keys and suffix counters, for example between exports sharing one converter.
+     */
+    public void reset() {
+        registered.clear();
+        nextSuffix.clear();
+    }
+
+    /**
+     * Writes the registered keys to a UTF-8 file, one key per line.
+     *
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (String key : registered) {
+                writer.write(key);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Reads a registry written by {@link #save(Path)}. Suffix counters restart at 2 and skip over the
+     * loaded keys on first use.
+     *
+     * @param file file with one key per line
+     * @return registry containing the loaded keys
+     * @throws IOException if the file cannot be read
+     */
+    public static CitationKeyRegistry load(Path file) throws IOException {
+        CitationKeyRegistry registry = new CitationKeyRegistry();
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            String key = line.trim();
+            if (!key.isEmpty()) {
+                registry.registered.add(key);
+            }
+        }
+        return registry;
+    }
+
+    static String appendSuffix(String base, int counter) {
+        String suffix = "_" + counter;
+        if (base.length() + suffix.length() > MAX_KEY_LENGTH) {
+            int maxBaseLength = Math.max(MIN_KEY_LENGTH, MAX_KEY_LENGTH - suffix.length());
+            base = base.substring(0, Math.min(base.length(), maxBaseLength));
+        }
+        return base + suffix;
+    }
+}
@@ -0,0 +1,541 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboContributor;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentCodec;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentView;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifier;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.CrossReferenceValue;
+import org.jbibtex.Key;
+import org.jbibtex.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content-addressed cache of BibTeX → BIBO conversions, so that re-submitted entries that did not change
+ * cost a hash instead of a conversion.
+ *
+ * <p>Entries are keyed by a SHA-256 fingerprint of their normalized content: the lower-cased entry type,
+ * the citation key, and every field as a lower-cased name and trimmed value sorted by name. Values are
+ * taken after {@code @string} macro expansion, and fields inherited through {@code crossref} are
+ * included, so two entries with the same fingerprint convert to equal documents. Field order and the
+ * case of names do not matter.
+ *
+ * <p>Documents are kept as they are in a bounded in-memory tier, split in segments that each evict their
+ * least recently used documents once the estimated heap size of their documents exceeds their share of
+ * the maximum weight. Cached documents are shared by every lookup of the same content, so they should be
+ * built with {@link BiboDocument.Builder#retainRdfModel(boolean) retainRdfModel(false)}; otherwise the RDF
+ * model a caller builds stays in memory outside the estimate. A cache created with
+ * {@link #persistent(long, Path)} also encodes every new document with {@link BiboDocumentCodec} into a
+ * file, and serves documents evicted from memory, or converted by an earlier run, from it. Entries that
+ * fail to convert are not cached.
+ *
+ * <p>The file records the {@link BiboDocumentCodec#VERSION codec version} and the
+ * {@link BibTeXBibliographicConverter#MAPPING_VERSION mapping version} it was written with, and opening a
+ * file written with other versions fails, so conversions made by an older converter are never served;
+ * delete the file to start over. The file is append-only and never shrinks, and the index of its
+ * fingerprints is kept in memory, about 100 bytes per cached entry, however small the in-memory tier.
+ *
+ * <p>The cache is thread-safe. Two threads missing the same entry at once may both convert it.
+ */
+public final class ConversionCache implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ConversionCache.class);
+
+    /** Default maximum weight of the in-memory tier, in bytes. */
+    public static final long DEFAULT_MAX_WEIGHT = 64L << 20;
+
+    /** Estimated heap cost of a cached document without its strings and list elements. */
+    static final int ENTRY_OVERHEAD = 256;
+    /** Estimated heap cost of a string without its characters. */
+    private static final int STRING_OVERHEAD = 48;
+    /** Estimated heap cost of a contributor, person name or identifier object. */
+    private static final int VALUE_OVERHEAD = 32;
+
+    private static final int SEGMENTS = 16;
+    private static final int MAX_CROSSREF_DEPTH = 8;
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+    private static final ThreadLocal<BiboDocumentCodec> CODECS =
+            ThreadLocal.withInitial(() -> new BiboDocumentCodec().retainRdfModel(false));
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    /** Disk tier, or {@code null} for a memory-only cache. */
+    private final DiskTier disk;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a memory-only cache of {@link #DEFAULT_MAX_WEIGHT} bytes.
+     */
+    public ConversionCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Creates a memory-only cache.
+     *
+     * @param maxWeight maximum estimated heap size of the documents kept in memory, in bytes
+     */
+    public ConversionCache(long maxWeight) {
+        this(maxWeight, null);
+    }
+
+    private ConversionCache(long maxWeight, DiskTier disk) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("maxWeight must not be negative");
+        }
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maxWeight / SEGMENTS);
+        }
+        this.disk = disk;
+    }
+
+    /**
+     * Creates a cache backed by a file, which is created if missing and otherwise loaded, so that
+     * conversions are reused across runs.
+     *
+     * @param maxWeight maximum estimated heap size of the documents kept in memory, in bytes
+     * @param file cache file
+     * @return the cache, to be closed when no longer needed
+     * @throws IOException if the file cannot be opened, is not a cache file, or was written with another
+     *         codec or mapping version
+     */
+    public static ConversionCache persistent(long maxWeight, Path file) throws IOException {
+        return new ConversionCache(maxWeight, DiskTier.open(Objects.requireNonNull(file, "file")));
+    }
+
+    /**
+     * Returns the cached conversion of an entry, or converts it with {@code converter} and caches the
+     * result. The returned document may be returned again to later lookups of the same content.
+     *
+     * @param entry the entry to convert
+     * @param converter conversion applied on a miss; exceptions propagate and nothing is cached
+     * @return the converted document
+     */
+    public BiboDocument getOrConvert(BibTeXEntry entry, Function<? super BibTeXEntry, BiboDocument> converter) {
+        Objects.requireNonNull(converter, "converter");
+        Fingerprint fingerprint = fingerprint(entry);
+        Segment segment = segments[(int) fingerprint.low() & SEGMENTS - 1];
+
+        BiboDocument document = segment.get(fingerprint);
+        if (document != null) {
+            hits.increment();
+            return document;
+        }
+        if (disk != null) {
+            byte[] encoded = disk.read(fingerprint);
+            document = encoded == null ? null : decode(encoded);
+            if (document != null) {
+                diskHits.increment();
+                evictions.add(segment.put(fingerprint, document));
+                return document;
+            }
+        }
+
+        misses.increment();
+        document = converter.apply(entry);
+        evictions.add(segment.put(fingerprint, document));
+        if (disk != null) {
+            disk.append(fingerprint, CODECS.get().toBytes(document));
+        }
+        return document;
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return current statistics
+     */
+    public Stats stats() {
+        int size = 0;
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.documents.size();
+                weight += segment.weight;
+            }
+        }
+        return new Stats(hits.sum(), diskHits.sum(), misses.sum(), evictions.sum(), size, weight,
+                disk == null ? 0 : disk.size());
+    }
+
+    /**
+     * Empties the in-memory tier. The cache file, if any, is kept.
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Forces the cache file, if any, to disk and closes it.
+     */
+    @Override
+    public void close() throws IOException {
+        if (disk != null) {
+            disk.close();
+        }
+    }
+
+    /**
+     * Computes the fingerprint of an entry's normalized content.
+     */
+    static Fingerprint fingerprint(BibTeXEntry entry) {
+        Objects.requireNonNull(entry, "entry");
+        Map<String, String> fields = new TreeMap<>();
+        BibTeXEntry current = entry;
+        for (int depth = 0; current != null && depth < MAX_CROSSREF_DEPTH; depth++) {
+            BibTeXEntry parent = null;
+            for (Map.Entry<Key, Value> field : current.getFields().entrySet()) {
+                Value value = field.getValue();
+                if (value == null) {
+                    continue;
+                }
+                fields.putIfAbsent(normalize(field.getKey()), value.toUserString().trim());
+                if (value instanceof CrossReferenceValue reference) {
+                    parent = reference.getEntry();
+                }
+            }
+            current = parent;
+        }
+
+        MessageDigest digest = SHA_256.get();
+        update(digest, normalize(entry.getType()));
+        update(digest, entry.getKey() == null ? null : entry.getKey().getValue());
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            update(digest, field.getKey());
+            update(digest, field.getValue());
+        }
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+        return new Fingerprint(hash.getLong(), hash.getLong());
+    }
+
+    private static String normalize(Key key) {
+        return key == null ? null : key.getValue().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Feeds a string to the digest with its length, so that adjacent strings cannot run into each other.
+     */
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            updateInt(digest, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        updateInt(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateInt(MessageDigest digest, int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    /**
+     * Estimates the heap size of a document: fixed overheads plus one byte per character, as held by
+     * Latin-1 strings.
+     */
+    static long estimateWeight(BiboDocumentView document) {
+        long weight = ENTRY_OVERHEAD + weight(document.title());
+        for (Optional<String> field : List.of(document.id(), document.subtitle(), document.publisher(),
+                document.placeOfPublication(), document.conferenceLocation(), document.conferenceOrganizer(),
+                document.degreeType(), document.containerTitle(), document.volume(), document.issue(),
+                document.pages(), document.url(), document.language(), document.abstractText(),
+                document.notes(), document.series(), document.edition())) {
+            weight += weight(field);
+        }
+        for (BiboContributor contributor : document.contributors()) {
+            BiboPersonName name = contributor.name();
+            weight += 2 * VALUE_OVERHEAD + weight(name.fullName()) + weight(name.givenName())
+                    + weight(name.middleName()) + weight(name.nameParticle()) + weight(name.familyName())
+                    + weight(name.suffix()) + weight(contributor.affiliation());
+        }
+        for (BiboIdentifier identifier : document.identifiers()) {
+            weight += VALUE_OVERHEAD + weight(identifier.value());
+        }
+        for (String keyword : document.keywords()) {
+            weight += weight(keyword);
+        }
+        return weight;
+    }
+
+    private static long weight(Optional<String> text) {
+        return text.isPresent() ? weight(text.get()) : 0;
+    }
+
+    private static long weight(String text) {
+        return text == null ? 0 : STRING_OVERHEAD + text.length();
+    }
+
+    private static BiboDocument decode(byte[] encoded) {
+        try {
+            return CODECS.get().fromBytes(encoded);
+        } catch (IOException e) {
+            logger.warn("Discarding unreadable cached conversion: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 128 bits of the SHA-256 hash of an entry's normalized content.
+     */
+    record Fingerprint(long high, long low) {
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hits lookups served from memory
+     * @param diskHits lookups served from the cache file
+     * @param misses lookups that ran the conversion
+     * @param evictions documents evicted from memory
+     * @param size documents held in memory
+     * @param weight estimated heap size of the documents held in memory, in bytes
+     * @param diskSize documents in the cache file
+     */
+    public record Stats(long hits, long diskHits, long misses, long evictions, int size, long weight,
+            int diskSize) {
+
+        /**
+         * Returns the share of lookups served without converting, or 0 before the first lookup.
+         *
+         * @return hit rate between 0 and 1
+         */
+        public double hitRate() {
+            long lookups = hits + diskHits + misses;
+            return lookups == 0 ? 0 : (double) (hits + diskHits) / lookups;
+        }
+    }
+
+    /**
+     * LRU map of documents bounded by their estimated weight.
+     */
+    private static final class Segment {
+        private final long maxWeight;
+        private final LinkedHashMap<Fingerprint, Weighted> documents = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        Segment(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized BiboDocument get(Fingerprint fingerprint) {
+            Weighted cached = documents.get(fingerprint);
+            return cached == null ? null : cached.document();
+        }
+
+        /**
+         * Adds a document and returns the number of documents evicted to make room for it.
+         */
+        synchronized int put(Fingerprint fingerprint, BiboDocument document) {
+            long entryWeight = estimateWeight(document);
+            if (entryWeight > maxWeight) {
+                return 0;
+            }
+            Weighted previous = documents.put(fingerprint, new Weighted(document, entryWeight));
+            weight += entryWeight - (previous == null ? 0 : previous.weight());
+            int evicted = 0;
+            Iterator<Weighted> eldest = documents.values().iterator();
+            while (weight > maxWeight) {
+                weight -= eldest.next().weight();
+                eldest.remove();
+                evicted++;
+            }
+            return evicted;
+        }
+
+        synchronized void clear() {
+            documents.clear();
+            weight = 0;
+        }
+
+        private record Weighted(BiboDocument document, long weight) {
+        }
+    }
+
+    /**
+     * Append-only file of fingerprints and encoded documents, indexed in memory by fingerprint.
+     *
+     * <p>The file starts with a magic number, a format version, the codec version and the mapping version,
+     * followed by records of a 16-byte fingerprint, an {@code int} length and the encoded document. A
+     * record cut short by a crash is dropped when the file is opened.
+     */
+    private static final class DiskTier implements Closeable {
+        private static final int MAGIC = 0x4249424B;
+        private static final int VERSION = 2;
+        private static final int HEADER_BYTES = 16;
+        private static final int RECORD_HEADER_BYTES = 20;
+
+        private final FileChannel channel;
+        private final Map<Fingerprint, Location> index = new ConcurrentHashMap<>();
+        private long end;
+
+        private DiskTier(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        static DiskTier open(Path file) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                DiskTier disk = new DiskTier(channel);
+                disk.load(file);
+                return disk;
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        private void load(Path file) throws IOException {
+            long size = channel.size();
+            if (size == 0) {
+                writeFully(ByteBuffer.allocate(HEADER_BYTES)
+                        .putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putInt(BiboDocumentCodec.VERSION)
+                        .putInt(BibTeXBibliographicConverter.MAPPING_VERSION)
+                        .flip(), 0);
+                end = HEADER_BYTES;
+                return;
+            }
+            ByteBuffer header = readFully(0, HEADER_BYTES);
+            if (header == null || header.getInt() != MAGIC) {
+                throw new IOException("Not a conversion cache file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported conversion cache version " + version + ": " + file);
+            }
+            int codecVersion = header.getInt();
+            int mappingVersion = header.getInt();
+            if (codecVersion != BiboDocumentCodec.VERSION
+                    || mappingVersion != BibTeXBibliographicConverter.MAPPING_VERSION) {
+                throw new IOException("Conversion cache written with codec version " + codecVersion
+                        + " and mapping version " + mappingVersion + ", delete it to convert again: " + file);
+            }
+            long position = HEADER_BYTES;
+            while (true) {
+                ByteBuffer record = readFully(position, RECORD_HEADER_BYTES);
+                if (record == null) {
+                    break;
+                }
+                Fingerprint fingerprint = new Fingerprint(record.getLong(), record.getLong());
+                int length = record.getInt();
+                long next = position + RECORD_HEADER_BYTES + length;
+                if (length <= 0 || next > size) {
+                    break;
+                }
+                index.put(fingerprint, new Location(position + RECORD_HEADER_BYTES, length));
+                position = next;
+            }
+            if (position < size) {
+                logger.warn("Dropping {} bytes of incomplete records from {}", size - position, file);
+                channel.truncate(position);
+            }
+            end = position;
+            logger.info("Loaded {} cached conversions from {}", index.size(), file);
+        }
+
+        byte[] read(Fingerprint fingerprint) {
+            Location location = index.get(fingerprint);
+            if (location == null) {
+                return null;
+            }
+            try {
+                ByteBuffer bytes = readFully(location.position(), location.length());
+                return bytes == null ? null : bytes.array();
+            } catch (IOException e) {
+                logger.warn("Cannot read cached conversion: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        synchronized void append(Fingerprint fingerprint, byte[] encoded) {
+            if (index.containsKey(fingerprint)) {
+                return;
+            }
+            ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + encoded.length)
+                    .putLong(fingerprint.high())
+                    .putLong(fingerprint.low())
+                    .putInt(encoded.length)
+                    .put(encoded)
+                    .flip();
+            try {
+                writeFully(record, end);
+                index.put(fingerprint, new Location(end + RECORD_HEADER_BYTES, encoded.length));
+                end += record.capacity();
+            } catch (IOException e) {
+                logger.warn("Cannot write cached conversion: {}", e.getMessage());
+            }
+        }
+
+        int size() {
+            return index.size();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            try (channel) {
+                if (channel.isOpen()) {
+                    channel.force(false);
+                }
+            }
+        }
+
+        /**
+         * Reads {@code length} bytes at {@code position}, or returns {@code null} if the file ends first.
+         */
+        private ByteBuffer readFully(long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    return null;
+                }
+            }
+            return buffer.flip();
+        }
+
+        private void writeFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+
+        private record Location(long position, int length) {
+        }
+    }
+}
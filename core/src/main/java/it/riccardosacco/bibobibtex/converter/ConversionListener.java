@@ -0,0 +1,159 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import org.jbibtex.BibTeXEntry;
+import org.slf4j.Logger;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Receives per-entry conversion events.
+ *
+ * <p>Converters no longer log every entry; instead they report to a listener, which defaults to
+ * {@link #NONE} and then costs a single no-op call. Batch-level summaries are still logged by
+ * {@link BatchConverter}. To get per-entry diagnostics back at a tolerable volume, combine
+ * {@link #logging(Logger)} with {@link #sampled(ConversionListener, int)}:
+ * <pre>{@code
+ * BatchConverter converter = new BatchConverter(4, ConversionListener.sampled(ConversionListener.logging(logger), 1000));
+ * }</pre>
+ *
+ * <p>Implementations used with parallel conversion must be thread-safe.
+ */
+public interface ConversionListener {
+
+    /** Listener that ignores all events. */
+    ConversionListener NONE = new ConversionListener() { };
+
+    /**
+     * Called after a BibTeX entry has been converted to a BIBO document.
+     *
+     * @param source the converted entry
+     * @param document the resulting document
+     */
+    default void entryConverted(BibTeXEntry source, BiboDocument document) {
+    }
+
+    /**
+     * Called when a BibTeX entry is skipped because it could not be converted.
+     *
+     * @param source the skipped entry
+     * @param reason why the entry was skipped, usually a {@code ValidationException}
+     */
+    default void entrySkipped(BibTeXEntry source, Exception reason) {
+    }
+
+    /**
+     * Called after a BIBO document has been converted to a BibTeX entry.
+     *
+     * @param source the converted document
+     * @param entry the resulting entry
+     */
+    default void documentConverted(BiboDocument source, BibTeXEntry entry) {
+    }
+
+    /**
+     * Called when a BIBO document is exported under another citation key than its id, because the id is
+     * not a valid citation key or is already used by another entry of the export.
+     *
+     * @param source the document being converted
+     * @param requestedKey the document's id
+     * @param assignedKey the citation key the entry gets instead
+     */
+    default void citationKeyReplaced(BiboDocument source, String requestedKey, String assignedKey) {
+    }
+
+    /**
+     * Returns a listener that logs conversions and replaced citation keys at DEBUG and skipped entries at WARN.
+     * Messages are only formatted when the corresponding level is enabled.
+     *
+     * @param logger destination logger
+     * @return logging listener
+     */
+    static ConversionListener logging(Logger logger) {
+        Objects.requireNonNull(logger, "logger");
+        return new ConversionListener() {
+            @Override
+            public void entryConverted(BibTeXEntry source, BiboDocument document) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Converted BibTeX entry {} to BIBO document: type={}, contributors={}, identifiers={}",
+                        citationKey(source), document.type(), document.contributors().size(),
+                        document.identifiers().size());
+                }
+            }
+
+            @Override
+            public void entrySkipped(BibTeXEntry source, Exception reason) {
+                logger.warn("Skipping entry {} due to validation error: {}", citationKey(source), reason.getMessage());
+            }
+
+            @Override
+            public void documentConverted(BiboDocument source, BibTeXEntry entry) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Converted BIBO document '{}' to BibTeX entry {}: type={}, fields={}",
+                        source.title(), citationKey(entry), entry.getType(), entry.getFields().size());
+                }
+            }
+
+            @Override
+            public void citationKeyReplaced(BiboDocument source, String requestedKey, String assignedKey) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Citation key '{}' of BIBO document '{}' replaced by '{}'",
+                        requestedKey, source.title(), assignedKey);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a listener that forwards only the first and then every {@code interval}-th event of each
+     * kind to {@code delegate}.
+     *
+     * @param delegate listener receiving the sampled events
+     * @param interval sampling interval, 1 forwards every event
+     * @return sampling listener
+     */
+    static ConversionListener sampled(ConversionListener delegate, int interval) {
+        Objects.requireNonNull(delegate, "delegate");
+        if (interval < 1) {
+            throw new IllegalArgumentException("Sampling interval must be at least 1");
+        }
+        AtomicLong converted = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        AtomicLong exported = new AtomicLong();
+        AtomicLong replaced = new AtomicLong();
+        return new ConversionListener() {
+            @Override
+            public void entryConverted(BibTeXEntry source, BiboDocument document) {
+                if (converted.getAndIncrement() % interval == 0) {
+                    delegate.entryConverted(source, document);
+                }
+            }
+
+            @Override
+            public void entrySkipped(BibTeXEntry source, Exception reason) {
+                if (skipped.getAndIncrement() % interval == 0) {
+                    delegate.entrySkipped(source, reason);
+                }
+            }
+
+            @Override
+            public void documentConverted(BiboDocument source, BibTeXEntry entry) {
+                if (exported.getAndIncrement() % interval == 0) {
+                    delegate.documentConverted(source, entry);
+                }
+            }
+
+            @Override
+            public void citationKeyReplaced(BiboDocument source, String requestedKey, String assignedKey) {
+                if (replaced.getAndIncrement() % interval == 0) {
+                    delegate.citationKeyReplaced(source, requestedKey, assignedKey);
+                }
+            }
+        };
+    }
+
+    private static String citationKey(BibTeXEntry entry) {
+        return entry != null && entry.getKey() != null ? entry.getKey().getValue() : "<unknown>";
+    }
+}
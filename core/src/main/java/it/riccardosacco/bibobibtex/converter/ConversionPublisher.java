@@ -0,0 +1,211 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import org.jbibtex.BibTeXEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Single-subscriber {@link Flow.Publisher} that reads BibTeX entries from an iterator and converts them
+ * concurrently, emitting documents in source order.
+ *
+ * <p>The pipeline is demand-driven: at most {@code bufferSize} entries are read ahead of what the
+ * subscriber has consumed, and at most {@code concurrency} of them are being read or converted at once.
+ * Reads are chained so the source iterator is only ever accessed by one thread at a time. Entries the
+ * converter skips do not consume demand. A failure reading the source or an unexpected conversion error
+ * terminates the stream with {@code onError}.
+ *
+ * <p>Created through {@link BatchConverter#publish(Iterator, int, int)}.
+ */
+final class ConversionPublisher implements Flow.Publisher<BiboDocument> {
+    private static final Logger logger = LoggerFactory.getLogger(ConversionPublisher.class);
+
+    private final Iterator<BibTeXEntry> source;
+    private final Function<BibTeXEntry, Optional<BiboDocument>> converter;
+    private final Executor executor;
+    private final int concurrency;
+    private final int bufferSize;
+    private final Runnable onComplete;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    ConversionPublisher(Iterator<BibTeXEntry> source, Function<BibTeXEntry, Optional<BiboDocument>> converter,
+            Executor executor, int concurrency, int bufferSize, Runnable onComplete) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        if (bufferSize < concurrency) {
+            throw new IllegalArgumentException("Buffer size must be at least the concurrency");
+        }
+        this.source = Objects.requireNonNull(source, "source");
+        this.converter = Objects.requireNonNull(converter, "converter");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.concurrency = concurrency;
+        this.bufferSize = bufferSize;
+        this.onComplete = Objects.requireNonNull(onComplete, "onComplete");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BiboDocument> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("ConversionPublisher supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new PipelineSubscription(subscriber));
+    }
+
+    /**
+     * Subscription driving the pipeline. All signals to the subscriber and all access to {@link #pending}
+     * happen inside {@link #drain()}, which is serialized by the {@link #wip} counter.
+     */
+    private final class PipelineSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super BiboDocument> subscriber;
+        private final Deque<CompletableFuture<Optional<BiboDocument>>> pending = new ArrayDeque<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private CompletableFuture<BibTeXEntry> lastRead = CompletableFuture.completedFuture(null);
+        private volatile boolean exhausted;
+        private volatile boolean cancelled;
+        private volatile Throwable requestError;
+        private boolean done;
+
+        PipelineSubscription(Flow.Subscriber<? super BiboDocument> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("Requested " + n + " items; must be positive");
+            } else {
+                demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    clearPending();
+                } else if (!done) {
+                    emitAndRefill();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitAndRefill() {
+            if (requestError != null) {
+                terminate(requestError);
+                return;
+            }
+            while (!pending.isEmpty() && pending.peek().isDone()) {
+                Optional<BiboDocument> document;
+                try {
+                    document = pending.peek().join();
+                } catch (CompletionException e) {
+                    terminate(e.getCause() != null ? e.getCause() : e);
+                    return;
+                }
+                if (document.isPresent()) {
+                    if (demand.get() == 0) {
+                        break;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    pending.poll();
+                    try {
+                        subscriber.onNext(document.get());
+                    } catch (RuntimeException e) {
+                        logger.error("Subscriber failed in onNext; cancelling conversion pipeline", e);
+                        cancelled = true;
+                        clearPending();
+                        return;
+                    }
+                    if (cancelled) {
+                        clearPending();
+                        return;
+                    }
+                } else {
+                    pending.poll();
+                }
+            }
+            while (!exhausted && pending.size() < bufferSize && inFlight.get() < concurrency) {
+                startSlot();
+            }
+            if (exhausted && pending.isEmpty()) {
+                done = true;
+                onComplete.run();
+                subscriber.onComplete();
+            }
+        }
+
+        private void startSlot() {
+            inFlight.incrementAndGet();
+            CompletableFuture<BibTeXEntry> read = lastRead.thenApplyAsync(previous -> readNext(), executor);
+            lastRead = read;
+            CompletableFuture<Optional<BiboDocument>> slot = read.thenApplyAsync(
+                entry -> entry == null ? Optional.<BiboDocument>empty() : converter.apply(entry), executor);
+            pending.add(slot);
+            slot.whenComplete((document, failure) -> {
+                inFlight.decrementAndGet();
+                drain();
+            });
+        }
+
+        private BibTeXEntry readNext() {
+            if (cancelled || !source.hasNext()) {
+                exhausted = true;
+                return null;
+            }
+            return source.next();
+        }
+
+        private void terminate(Throwable failure) {
+            done = true;
+            clearPending();
+            subscriber.onError(failure);
+        }
+
+        private void clearPending() {
+            done = true;
+            pending.forEach(slot -> slot.cancel(false));
+            pending.clear();
+        }
+    }
+}
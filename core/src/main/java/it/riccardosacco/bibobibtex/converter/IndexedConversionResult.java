@@ -0,0 +1,88 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Per-entry outcome of a parallel batch conversion, indexed by input position.
+ *
+ * <p>Position {@code i} holds either the document converted from the {@code i}-th input entry or the
+ * reason that entry failed, so callers keep an audit trail for every record.
+ */
+public final class IndexedConversionResult {
+    private final BiboDocument[] documents;
+    private final Exception[] failures;
+    private final ConversionStatistics statistics;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Arrays are filled by BatchConverter and handed over")
+    IndexedConversionResult(BiboDocument[] documents, Exception[] failures, ConversionStatistics statistics) {
+        if (documents.length != failures.length) {
+            throw new IllegalArgumentException("documents and failures must have the same length");
+        }
+        this.documents = documents;
+        this.failures = failures;
+        this.statistics = Objects.requireNonNull(statistics, "statistics");
+    }
+
+    /**
+     * Returns the number of input entries.
+     */
+    public int size() {
+        return documents.length;
+    }
+
+    /**
+     * Returns whether the entry at {@code index} was converted.
+     */
+    public boolean isSuccess(int index) {
+        return documents[index] != null;
+    }
+
+    /**
+     * Returns the document converted from the entry at {@code index}, or empty if it failed.
+     */
+    public Optional<BiboDocument> getDocument(int index) {
+        return Optional.ofNullable(documents[index]);
+    }
+
+    /**
+     * Returns the reason the entry at {@code index} failed, or empty if it was converted.
+     */
+    public Optional<Exception> getFailure(int index) {
+        return Optional.ofNullable(failures[index]);
+    }
+
+    /**
+     * Returns the converted documents in input order, omitting failed positions.
+     */
+    public List<BiboDocument> getDocuments() {
+        List<BiboDocument> converted = new ArrayList<>(statistics.getSuccessfulConversions());
+        for (BiboDocument document : documents) {
+            if (document != null) {
+                converted.add(document);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Returns the input positions whose conversion failed, in ascending order.
+     */
+    public List<Integer> getFailedIndices() {
+        List<Integer> failed = new ArrayList<>(statistics.getFailedConversions());
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                failed.add(i);
+            }
+        }
+        return failed;
+    }
+
+    public ConversionStatistics getStatistics() {
+        return statistics;
+    }
+}
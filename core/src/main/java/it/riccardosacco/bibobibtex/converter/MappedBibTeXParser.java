@@ -0,0 +1,471 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.riccardosacco.bibobibtex.exception.BibliographicConversionException;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.BibTeXPreamble;
+import org.jbibtex.BibTeXString;
+import org.jbibtex.Key;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parses large {@code .bib} files by memory-mapping them and parsing chunks in parallel.
+ *
+ * <p>A single sequential pass over the mapped bytes finds top-level {@code @type{...}} objects at brace
+ * depth zero and cuts the file into chunks at object boundaries. The pass is byte-based, which is safe for
+ * UTF-8 because every delimiter it looks at is ASCII. {@code @string} objects are then parsed in file
+ * order so that each chunk starts with exactly the macros defined before it; the chunks themselves are
+ * parsed (and optionally mapped, e.g. converted to BIBO) concurrently on a {@link ForkJoinPool} (or a
+ * caller-supplied executor), each with
+ * its own {@link BibTeXEntryReader}. Results and {@code @preamble} objects are returned in file order.
+ *
+ * <p>As in a sequential read, a malformed object is skipped and its chunk goes on with the next object;
+ * skipped objects are counted in {@link Parsed#malformed()} and summarized in one log line per file.
+ *
+ * <p>Files must be UTF-8 and smaller than 2 GiB, the limit of a single mapping; use
+ * {@link BibTeXEntryReader} to stream larger inputs.
+ */
+public final class MappedBibTeXParser {
+    private static final Logger logger = LoggerFactory.getLogger(MappedBibTeXParser.class);
+
+    /** Lower bound for a chunk, so small files are not split into trivially small tasks. */
+    private static final long MIN_CHUNK_BYTES = 256 * 1024;
+    /** Chunks per worker, to even out chunks that happen to contain larger entries. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final int parallelism;
+    private final long minChunkBytes;
+    /** Caller-managed executor, or {@code null} to use a pool per parse. */
+    private final ExecutorService executor;
+
+    /**
+     * Creates a parser using all available processors.
+     */
+    @SuppressFBWarnings(value = "CT_CONSTRUCTOR_THROW", justification = "Argument validation may throw intentionally")
+    public MappedBibTeXParser() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a parser with the given number of worker threads.
+     *
+     * @param parallelism number of chunks parsed concurrently
+     */
+    @SuppressFBWarnings(value = "CT_CONSTRUCTOR_THROW", justification = "Argument validation may throw intentionally")
+    public MappedBibTeXParser(int parallelism) {
+        this(parallelism, MIN_CHUNK_BYTES);
+    }
+
+    /**
+     * Creates a parser with a custom chunk floor; small values force multi-chunk parses in tests.
+     */
+    @SuppressFBWarnings(value = "CT_CONSTRUCTOR_THROW", justification = "Argument validation may throw intentionally")
+    MappedBibTeXParser(int parallelism, long minChunkBytes) {
+        this(null, parallelism, minChunkBytes);
+    }
+
+    /**
+     * Creates a parser that runs chunks on a caller-managed executor, which is not shut down.
+     *
+     * @param executor executor parsing the chunks
+     * @param parallelism expected number of concurrently running chunks, used to size chunks
+     */
+    @SuppressFBWarnings(value = {"CT_CONSTRUCTOR_THROW", "EI_EXPOSE_REP2"},
+            justification = "Argument validation may throw intentionally; the executor is shared by design")
+    public MappedBibTeXParser(ExecutorService executor, int parallelism) {
+        this(Objects.requireNonNull(executor, "executor"), parallelism, MIN_CHUNK_BYTES);
+    }
+
+    private MappedBibTeXParser(ExecutorService executor, int parallelism, long minChunkBytes) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.minChunkBytes = minChunkBytes;
+    }
+
+    /**
+     * Result of a parallel parse, with values in the order their entries appear in the file.
+     *
+     * @param values mapped entries, in file order
+     * @param preambles {@code @preamble} objects, in file order
+     * @param strings all {@code @string} macros defined in the file, including jbibtex's month macros
+     * @param malformed number of objects skipped because they could not be parsed
+     * @param <T> type of the mapped values
+     */
+    public record Parsed<T>(List<T> values, List<BibTeXPreamble> preambles, Map<Key, BibTeXString> strings,
+            int malformed) {
+        public Parsed {
+            values = Collections.unmodifiableList(values);
+            preambles = Collections.unmodifiableList(preambles);
+            strings = Collections.unmodifiableMap(strings);
+        }
+    }
+
+    /**
+     * Parses all entries of a file.
+     *
+     * @param file UTF-8 encoded {@code .bib} file
+     * @return entries in file order, with preambles and string macros
+     * @throws IOException if the file cannot be mapped or is not valid UTF-8
+     */
+    public Parsed<BibTeXEntry> parse(Path file) throws IOException {
+        return parse(file, Optional::of);
+    }
+
+    /**
+     * Parses all entries of a file and maps each of them on the worker thread that parsed it.
+     * Entries for which the mapper returns an empty optional are dropped.
+     *
+     * @param file UTF-8 encoded {@code .bib} file
+     * @param mapper function applied to each entry; must be safe to call from several threads
+     * @param <T> type of the mapped values
+     * @return mapped values in file order, with preambles and string macros
+     * @throws IOException if the file cannot be mapped or is not valid UTF-8
+     */
+    public <T> Parsed<T> parse(Path file, Function<? super BibTeXEntry, Optional<T>> mapper) throws IOException {
+        List<T> values = new ArrayList<>();
+        Parsed<T> parsed = parse(file, mapper, values::add);
+        return new Parsed<>(values, parsed.preambles(), parsed.strings(), parsed.malformed());
+    }
+
+    /**
+     * Parses all entries of a file, maps each of them on the worker thread that parsed it and hands the
+     * mapped values to {@code consumer} in file order. Values are passed on the calling thread as soon as
+     * their chunk and every chunk before it are done, so they need not be collected first.
+     *
+     * @param file UTF-8 encoded {@code .bib} file
+     * @param mapper function applied to each entry; must be safe to call from several threads
+     * @param consumer receives the mapped values in file order
+     * @param <T> type of the mapped values
+     * @return preambles, string macros and the malformed object count; the values list is empty
+     * @throws IOException if the file cannot be mapped or is not valid UTF-8
+     */
+    public <T> Parsed<T> parse(Path file, Function<? super BibTeXEntry, Optional<T>> mapper,
+            Consumer<? super T> consumer) throws IOException {
+        Objects.requireNonNull(consumer, "consumer");
+        long startTime = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map (" + size + " bytes), use BibTeXEntryReader: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            long targetChunkBytes = Math.max(minChunkBytes, size / ((long) parallelism * CHUNKS_PER_THREAD));
+            Layout layout = Layout.scan(buffer, targetChunkBytes);
+            List<List<BibTeXString>> macrosPerChunk = macrosAtChunkStarts(buffer, layout);
+
+            ChunkTotals totals = parseChunks(buffer, layout, macrosPerChunk, mapper, consumer);
+
+            if (totals.malformed > 0) {
+                logger.warn("Skipped {} malformed BibTeX objects in {}; first: {}", totals.malformed,
+                        file.getFileName(), totals.firstError);
+            }
+            logger.info("Parsed {} in {} chunks ({} values) in {}ms", file.getFileName(), layout.chunkCount(),
+                    totals.values, System.currentTimeMillis() - startTime);
+            return new Parsed<>(List.of(), totals.preambles, totals.strings, totals.malformed);
+        }
+    }
+
+    /**
+     * Replays the {@code @string} objects in file order and snapshots the macro table at the start of
+     * every chunk.
+     */
+    private static List<List<BibTeXString>> macrosAtChunkStarts(ByteBuffer buffer, Layout layout)
+            throws IOException {
+        List<List<BibTeXString>> snapshots = new ArrayList<>(layout.chunkCount());
+        Map<Key, BibTeXString> macros = new LinkedHashMap<>();
+        int next = 0;
+        for (int chunk = 0; chunk < layout.chunkCount(); chunk++) {
+            snapshots.add(List.copyOf(macros.values()));
+            int chunkEnd = layout.chunkEnd(chunk);
+            while (next < layout.stringCount() && layout.stringStart(next) < chunkEnd) {
+                String text = decode(buffer, layout.stringStart(next), layout.stringEnd(next));
+                try (BibTeXEntryReader reader = new BibTeXEntryReader(new StringReader(text), macros.values(), 0)) {
+                    reader.forEachRemaining(entry -> { });
+                    macros.putAll(reader.strings());
+                } catch (BibliographicConversionException e) {
+                    // Counted when the chunk holding the object is parsed
+                }
+                next++;
+            }
+        }
+        return snapshots;
+    }
+
+    private <T> ChunkTotals parseChunks(ByteBuffer buffer, Layout layout,
+            List<List<BibTeXString>> macrosPerChunk, Function<? super BibTeXEntry, Optional<T>> mapper,
+            Consumer<? super T> consumer) throws IOException {
+        ExecutorService pool = executor != null ? executor : new ForkJoinPool(parallelism);
+        List<Future<ChunkResult<T>>> futures = new ArrayList<>(layout.chunkCount());
+        try {
+            for (int chunk = 0; chunk < layout.chunkCount(); chunk++) {
+                int start = layout.chunkStart(chunk);
+                int end = layout.chunkEnd(chunk);
+                List<BibTeXString> macros = macrosPerChunk.get(chunk);
+                long keyOffset = layout.keylessEntriesBefore(chunk);
+                futures.add(pool.submit(() -> parseChunk(buffer, start, end, macros, keyOffset, mapper)));
+            }
+            ChunkTotals totals = new ChunkTotals();
+            for (int chunk = 0; chunk < futures.size(); chunk++) {
+                ChunkResult<T> result = futures.get(chunk).get();
+                // Drop the reference so the chunk's values can be collected once consumed
+                futures.set(chunk, null);
+                result.values().forEach(consumer);
+                totals.add(result);
+            }
+            return totals;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BibliographicConversionException("Interrupted while parsing BibTeX chunks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new BibliographicConversionException("Failed to parse BibTeX chunk", cause);
+        } finally {
+            if (pool != executor) {
+                pool.shutdownNow();
+            } else {
+                futures.stream().filter(Objects::nonNull).forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private static <T> ChunkResult<T> parseChunk(ByteBuffer buffer, int start, int end,
+            List<BibTeXString> macros, long keyOffset, Function<? super BibTeXEntry, Optional<T>> mapper)
+            throws IOException {
+        List<T> values = new ArrayList<>();
+        String text = decode(buffer, start, end);
+        int malformed = 0;
+        String firstError = null;
+        try (BibTeXEntryReader reader = new BibTeXEntryReader(new StringReader(text), macros, keyOffset)) {
+            while (true) {
+                try {
+                    if (!reader.hasNext()) {
+                        break;
+                    }
+                } catch (BibliographicConversionException e) {
+                    // The malformed object has been consumed; continue with the next one
+                    malformed++;
+                    if (firstError == null) {
+                        firstError = e.getMessage();
+                    }
+                    continue;
+                }
+                mapper.apply(reader.next()).ifPresent(values::add);
+            }
+            return new ChunkResult<>(values, List.copyOf(reader.preambles()), new LinkedHashMap<>(reader.strings()),
+                    malformed, firstError);
+        }
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int end) throws CharacterCodingException {
+        // A fresh decoder per call: decoders are stateful and chunks are decoded concurrently
+        return StandardCharsets.UTF_8.newDecoder().decode(buffer.slice(start, end - start)).toString();
+    }
+
+    private record ChunkResult<T>(List<T> values, List<BibTeXPreamble> preambles, Map<Key, BibTeXString> strings,
+            int malformed, String firstError) {
+    }
+
+    /**
+     * Running totals over the chunks consumed so far, in file order.
+     */
+    private static final class ChunkTotals {
+        private final List<BibTeXPreamble> preambles = new ArrayList<>();
+        private Map<Key, BibTeXString> strings = Map.of();
+        private long values;
+        private int malformed;
+        private String firstError;
+
+        void add(ChunkResult<?> chunk) {
+            values += chunk.values().size();
+            preambles.addAll(chunk.preambles());
+            // The last chunk has seen every macro of the file
+            strings = chunk.strings();
+            malformed += chunk.malformed();
+            if (firstError == null) {
+                firstError = chunk.firstError();
+            }
+        }
+    }
+
+    /**
+     * Chunk boundaries and {@code @string} object ranges found by the byte scan, stored as offsets.
+     */
+    private static final class Layout {
+        private final List<Integer> chunkStarts = new ArrayList<>();
+        private final List<int[]> stringRanges = new ArrayList<>();
+        /** Running count of key-less entries ({@code @misc{,...}}) before each chunk, for jbibtex-N keys. */
+        private final List<Long> keylessBefore = new ArrayList<>();
+        private final int size;
+
+        private Layout(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Mirrors the object recognition of {@link BibTeXEntryReader} on raw bytes.
+         */
+        static Layout scan(ByteBuffer buffer, long targetChunkBytes) {
+            int limit = buffer.limit();
+            Layout layout = new Layout(limit);
+            layout.chunkStarts.add(0);
+            layout.keylessBefore.add(0L);
+            int chunkStart = 0;
+            long keyless = 0;
+            int pos = 0;
+            while (pos < limit) {
+                if (buffer.get(pos++) != '@') {
+                    continue;
+                }
+                int objectStart = pos - 1;
+                int typeStart = pos;
+                while (pos < limit && isTypeByte(buffer.get(pos))) {
+                    pos++;
+                }
+                int typeEnd = pos;
+                while (pos < limit && isWhitespaceByte(buffer.get(pos))) {
+                    pos++;
+                }
+                if (pos >= limit) {
+                    break;
+                }
+                byte open = buffer.get(pos++);
+                if (open != '{' && open != '(') {
+                    continue;
+                }
+                int bodyStart = pos;
+                pos = skipBody(buffer, pos, open == '(');
+
+                if (objectStart - chunkStart >= targetChunkBytes) {
+                    layout.chunkStarts.add(objectStart);
+                    layout.keylessBefore.add(keyless);
+                    chunkStart = objectStart;
+                }
+                if (typeEquals(buffer, typeStart, typeEnd, "string")) {
+                    layout.stringRanges.add(new int[] {objectStart, pos});
+                } else if (!typeEquals(buffer, typeStart, typeEnd, "preamble")
+                        && !typeEquals(buffer, typeStart, typeEnd, "comment")
+                        && startsWithComma(buffer, bodyStart, pos)) {
+                    keyless++;
+                }
+            }
+            return layout;
+        }
+
+        /**
+         * Returns the offset just past the object's closing delimiter, or the buffer limit when the object
+         * is unterminated (the chunk's reader then reports the error).
+         */
+        private static int skipBody(ByteBuffer buffer, int pos, boolean parenthesized) {
+            int limit = buffer.limit();
+            int baseDepth = parenthesized ? 0 : 1;
+            int depth = baseDepth;
+            boolean quoted = false;
+            while (pos < limit) {
+                byte b = buffer.get(pos++);
+                if (b == '{') {
+                    depth++;
+                } else if (b == '}') {
+                    depth--;
+                    if (!parenthesized && depth == 0) {
+                        return pos;
+                    }
+                } else if (b == '"' && depth == baseDepth) {
+                    quoted = !quoted;
+                } else if (b == ')' && parenthesized && depth == 0 && !quoted) {
+                    return pos;
+                }
+            }
+            return limit;
+        }
+
+        private static boolean startsWithComma(ByteBuffer buffer, int start, int end) {
+            int pos = start;
+            while (pos < end && isWhitespaceByte(buffer.get(pos))) {
+                pos++;
+            }
+            return pos < end && buffer.get(pos) == ',';
+        }
+
+        private static boolean isTypeByte(byte b) {
+            // Non-ASCII bytes belong to letters as far as Character.isLetterOrDigit is concerned
+            return b < 0 || Character.isLetterOrDigit(b) || b == '_' || b == '-';
+        }
+
+        private static boolean isWhitespaceByte(byte b) {
+            return b >= 0 && Character.isWhitespace(b);
+        }
+
+        private static boolean typeEquals(ByteBuffer buffer, int start, int end, String type) {
+            if (end - start != type.length()) {
+                return false;
+            }
+            for (int i = 0; i < type.length(); i++) {
+                if (Character.toLowerCase(buffer.get(start + i)) != type.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int chunkCount() {
+            return chunkStarts.size();
+        }
+
+        int chunkStart(int chunk) {
+            return chunkStarts.get(chunk);
+        }
+
+        int chunkEnd(int chunk) {
+            return chunk + 1 < chunkStarts.size() ? chunkStarts.get(chunk + 1) : size;
+        }
+
+        long keylessEntriesBefore(int chunk) {
+            return keylessBefore.get(chunk);
+        }
+
+        int stringCount() {
+            return stringRanges.size();
+        }
+
+        int stringStart(int index) {
+            return stringRanges.get(index)[0];
+        }
+
+        int stringEnd(int index) {
+            return stringRanges.get(index)[1];
+        }
+    }
+}
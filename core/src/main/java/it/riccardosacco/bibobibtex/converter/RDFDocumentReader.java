@@ -0,0 +1,436 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboVocabulary;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streaming RDF → BIBO reader: an {@link org.eclipse.rdf4j.rio.RDFHandler} that assembles documents
+ * subject by subject while a parser reports statements, and hands each {@link BiboDocument} to a consumer
+ * as soon as it is complete. No {@link org.eclipse.rdf4j.model.Model} of the whole input is built.
+ *
+ * <pre>{@code
+ * RDFParser parser = Rio.createParser(RDFFormat.NTRIPLES);
+ * parser.setRDFHandler(new RDFDocumentReader(documents::add));
+ * parser.parse(input);
+ * }</pre>
+ *
+ * <p>The input must be grouped by subject, as in N-Triples written from {@link BiboDocument#emitTo},
+ * subject-sorted N-Triples or Turtle. A named document ends when the parser moves on to another named
+ * subject, and is complete once every blank node it refers to (author and editor lists, persons, its
+ * container) has been described; blank nodes may come before the document, inside it or after it.
+ * Blank nodes are released with the document that refers to them. Named resources are kept after their
+ * statements end, as several documents may share them, and must be described before the documents that
+ * use them end. A named container described before every document that refers to it cannot be told apart
+ * from a document yet, and is also delivered as one. A blank-node document ends once the input has moved
+ * past the next named subject, or through the buffer bound or the end of the input if no named subject
+ * follows.
+ *
+ * <p>Incomplete subjects are held in a buffer bounded by a statement count. When it is exceeded, kept named
+ * resources are released first, oldest first; then blank nodes nothing refers to that are older than the
+ * previous named subject; then the oldest pending documents are read from the statements received so far.
+ * The document being read and the most recently started one are never released, so a document larger
+ * than the bound is still read whole. Subject-sorted N-Triples lists blank nodes after all IRIs, so
+ * documents with blank nodes wait for them and are only read completely if the buffer can hold them.
+ *
+ * <p>Documents are delivered in the order they complete. Statement contexts are ignored. Documents that
+ * cannot be converted are logged and skipped, as by {@link BibTeXBibliographicConverter#convertAllFromRDF}.
+ * Instances are not thread-safe and read a single input.
+ */
+public final class RDFDocumentReader extends AbstractRDFHandler {
+    /** Default bound on the number of buffered statements. */
+    public static final int DEFAULT_BUFFER_SIZE = 100_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(RDFDocumentReader.class);
+
+    private final Consumer<? super BiboDocument> consumer;
+    private final int bufferSize;
+    private final Map<Resource, Bucket> subjects = new LinkedHashMap<>();
+    private final Set<Resource> pendingDocuments = new LinkedHashSet<>();
+    private final Deque<BNode> blankDocuments = new ArrayDeque<>();
+    private final Map<Resource, List<Resource>> waiting = new HashMap<>();
+    private final Set<Resource> retained = new LinkedHashSet<>();
+    private final Set<Resource> containers = new HashSet<>();
+    private final BufferView view = new BufferView();
+    private Resource current;
+    private Resource last;
+    private Resource newestDocument;
+    private long group;
+    private int buffered;
+    private int shrinkAt;
+    private long documents;
+    private long skipped;
+
+    /**
+     * Creates a reader buffering at most {@link #DEFAULT_BUFFER_SIZE} statements.
+     *
+     * @param consumer receives each document as soon as it is complete
+     */
+    public RDFDocumentReader(Consumer<? super BiboDocument> consumer) {
+        this(consumer, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a reader buffering at most {@code bufferSize} statements of incomplete subjects.
+     *
+     * @param consumer receives each document as soon as it is complete
+     * @param bufferSize bound on the number of buffered statements
+     */
+    @SuppressFBWarnings(value = {"CT_CONSTRUCTOR_THROW", "EI_EXPOSE_REP2"},
+        justification = "Argument validation may throw intentionally; the consumer is the caller's sink")
+    public RDFDocumentReader(Consumer<? super BiboDocument> consumer, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be at least 1");
+        }
+        this.consumer = Objects.requireNonNull(consumer, "consumer");
+        this.bufferSize = bufferSize;
+        this.shrinkAt = bufferSize;
+    }
+
+    @Override
+    public void handleStatement(Statement statement) {
+        Resource subject = statement.getSubject();
+        if (!subject.equals(last)) {
+            if (last instanceof BNode finished) {
+                described(finished);
+            }
+            last = subject;
+            if (!(subject instanceof BNode) && !subject.equals(current)) {
+                if (current != null) {
+                    close(current);
+                }
+                current = subject;
+                group++;
+                retained.remove(subject);
+                closeBlankDocuments();
+            }
+        }
+
+        IRI predicate = statement.getPredicate();
+        Value object = statement.getObject();
+        bucket(subject).add(predicate, object);
+        buffered++;
+        if (object instanceof BNode node) {
+            bucket(node).referenced = true;
+        }
+        if (RDF.TYPE.equals(predicate)) {
+            if (object instanceof IRI type && type.stringValue().startsWith(BiboVocabulary.NAMESPACE)
+                    && !containers.contains(subject) && pendingDocuments.add(subject)) {
+                newestDocument = subject;
+                if (subject instanceof BNode blank) {
+                    blankDocuments.add(blank);
+                }
+            }
+        } else if (DCTERMS.IS_PART_OF.equals(predicate) && object instanceof Resource container) {
+            containers.add(container);
+            pendingDocuments.remove(container);
+        }
+
+        if (buffered > shrinkAt) {
+            shrink();
+        }
+    }
+
+    @Override
+    public void endRDF() {
+        if (current != null) {
+            close(current);
+        }
+        for (Resource document : new ArrayList<>(pendingDocuments)) {
+            emit(document);
+        }
+        subjects.clear();
+        blankDocuments.clear();
+        waiting.clear();
+        retained.clear();
+        containers.clear();
+        current = null;
+        last = null;
+        newestDocument = null;
+        buffered = 0;
+    }
+
+    /**
+     * Returns the number of documents delivered to the consumer so far.
+     *
+     * @return delivered document count
+     */
+    public long documentCount() {
+        return documents;
+    }
+
+    /**
+     * Returns the number of BIBO-typed resources skipped because they could not be converted.
+     *
+     * @return skipped resource count
+     */
+    public long skippedCount() {
+        return skipped;
+    }
+
+    /**
+     * Returns the number of statements currently buffered.
+     *
+     * @return buffered statement count
+     */
+    public int bufferedStatements() {
+        return buffered;
+    }
+
+    private Bucket bucket(Resource subject) {
+        return subjects.computeIfAbsent(subject, key -> new Bucket(group));
+    }
+
+    private void close(Resource subject) {
+        if (pendingDocuments.contains(subject)) {
+            emitWhenDescribed(subject);
+        } else if (subjects.containsKey(subject)) {
+            retained.add(subject);
+        }
+    }
+
+    /**
+     * Ends the blank-node documents that started before the previous named subject. Blank nodes reported
+     * just before a named subject may still belong to it, for instance a container nested in Turtle.
+     */
+    private void closeBlankDocuments() {
+        while (!blankDocuments.isEmpty()) {
+            BNode document = blankDocuments.peek();
+            if (pendingDocuments.contains(document)) {
+                Bucket bucket = subjects.get(document);
+                if (bucket != null && bucket.group >= group - 1) {
+                    return;
+                }
+                emitWhenDescribed(document);
+            }
+            blankDocuments.poll();
+        }
+    }
+
+    /**
+     * Called when the statements of a blank node end; reads the documents that were waiting for it.
+     */
+    private void described(BNode node) {
+        List<Resource> documentsWaiting = waiting.remove(node);
+        if (documentsWaiting != null) {
+            for (Resource document : documentsWaiting) {
+                if (pendingDocuments.contains(document)) {
+                    emitWhenDescribed(document);
+                }
+            }
+        }
+    }
+
+    private void emitWhenDescribed(Resource document) {
+        BNode missing = firstUndescribedBlankNode(document);
+        if (missing == null) {
+            emit(document);
+        } else {
+            waiting.computeIfAbsent(missing, key -> new ArrayList<>(1)).add(document);
+        }
+    }
+
+    private BNode firstUndescribedBlankNode(Resource document) {
+        Deque<Resource> pending = new ArrayDeque<>();
+        Set<Resource> visited = new HashSet<>();
+        pending.add(document);
+        while (!pending.isEmpty()) {
+            Resource node = pending.poll();
+            if (!visited.add(node)) {
+                continue;
+            }
+            Bucket bucket = subjects.get(node);
+            if (bucket == null || bucket.size == 0) {
+                if (node instanceof BNode blank) {
+                    return blank;
+                }
+                continue;
+            }
+            for (int i = 0; i < bucket.size; i++) {
+                if (bucket.objects[i] instanceof BNode child) {
+                    pending.add(child);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void emit(Resource document) {
+        pendingDocuments.remove(document);
+        BibTeXBibliographicConverter.readDocument(view, document).ifPresentOrElse(parsed -> {
+            documents++;
+            consumer.accept(parsed);
+        }, () -> skipped++);
+        release(document);
+        Bucket bucket = document instanceof BNode ? null : subjects.get(document);
+        if (bucket != null) {
+            // Kept in case a later document names it as its container; its blank nodes are gone
+            buffered -= bucket.removeBlankNodeObjects();
+            retained.add(document);
+        }
+    }
+
+    /**
+     * Drops the blank nodes reachable from a document, such as its lists, persons and container, and the
+     * document itself if it is a blank node.
+     */
+    private void release(Resource document) {
+        Deque<Resource> pending = new ArrayDeque<>();
+        Set<Resource> visited = new HashSet<>();
+        pending.add(document);
+        while (!pending.isEmpty()) {
+            Resource node = pending.poll();
+            if (!visited.add(node)) {
+                continue;
+            }
+            Bucket bucket = node instanceof BNode ? subjects.remove(node) : subjects.get(node);
+            if (bucket == null) {
+                continue;
+            }
+            if (node instanceof BNode) {
+                buffered -= bucket.size;
+                containers.remove(node);
+            }
+            for (int i = 0; i < bucket.size; i++) {
+                if (bucket.objects[i] instanceof BNode child && !pendingDocuments.contains(child)) {
+                    pending.add(child);
+                }
+            }
+        }
+    }
+
+    private void shrink() {
+        Iterator<Resource> oldest = retained.iterator();
+        while (buffered > bufferSize && oldest.hasNext()) {
+            Bucket bucket = subjects.remove(oldest.next());
+            oldest.remove();
+            if (bucket != null) {
+                buffered -= bucket.size;
+            }
+        }
+        Iterator<Map.Entry<Resource, Bucket>> entries = subjects.entrySet().iterator();
+        while (buffered > bufferSize && entries.hasNext()) {
+            Map.Entry<Resource, Bucket> entry = entries.next();
+            Bucket bucket = entry.getValue();
+            if (bucket.group >= group - 1) {
+                break;
+            }
+            if (entry.getKey() instanceof BNode && !bucket.referenced && !pendingDocuments.contains(entry.getKey())) {
+                buffered -= bucket.size;
+                entries.remove();
+            }
+        }
+        while (buffered > bufferSize) {
+            Resource document = oldestPendingDocument();
+            if (document == null) {
+                break;
+            }
+            logger.debug("Buffer full, reading RDF resource {} from the statements received so far", document);
+            emit(document);
+        }
+        // A document larger than the bound cannot be released; grow before scanning again
+        shrinkAt = Math.max(bufferSize, buffered + buffered / 4);
+    }
+
+    private Resource oldestPendingDocument() {
+        for (Resource document : pendingDocuments) {
+            if (!document.equals(current) && !document.equals(newestDocument)) {
+                return document;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lookups against the buffered statements.
+     */
+    private final class BufferView implements RdfStatements {
+        @Override
+        public List<Value> objects(Resource subject, IRI predicate) {
+            Bucket bucket = subjects.get(subject);
+            if (bucket == null) {
+                return List.of();
+            }
+            List<Value> objects = null;
+            for (int i = 0; i < bucket.size; i++) {
+                if (bucket.predicates[i].equals(predicate)) {
+                    if (objects == null) {
+                        objects = new ArrayList<>(2);
+                    }
+                    if (!objects.contains(bucket.objects[i])) {
+                        objects.add(bucket.objects[i]);
+                    }
+                }
+            }
+            return objects == null ? List.of() : objects;
+        }
+    }
+
+    /**
+     * Predicate/object pairs of one subject, in statement order.
+     */
+    private static final class Bucket {
+        private final long group;
+        private IRI[] predicates = new IRI[4];
+        private Value[] objects = new Value[4];
+        private int size;
+        private boolean referenced;
+
+        Bucket(long group) {
+            this.group = group;
+        }
+
+        void add(IRI predicate, Value object) {
+            if (size == predicates.length) {
+                predicates = Arrays.copyOf(predicates, size * 2);
+                objects = Arrays.copyOf(objects, size * 2);
+            }
+            predicates[size] = predicate;
+            objects[size] = object;
+            size++;
+        }
+
+        /**
+         * Removes the pairs whose object is a blank node and returns how many were removed.
+         */
+        int removeBlankNodeObjects() {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!(objects[i] instanceof BNode)) {
+                    predicates[kept] = predicates[i];
+                    objects[kept] = objects[i];
+                    kept++;
+                }
+            }
+            Arrays.fill(predicates, kept, size, null);
+            Arrays.fill(objects, kept, size, null);
+            int removed = size - kept;
+            size = kept;
+            return removed;
+        }
+    }
+}
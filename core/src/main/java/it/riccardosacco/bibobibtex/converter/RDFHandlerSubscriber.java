@@ -0,0 +1,128 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import org.eclipse.rdf4j.rio.RDFHandler;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Serialization stage of a conversion pipeline: a {@link Flow.Subscriber} that writes each document's
+ * statements to an {@link RDFHandler} and only requests more documents once the previous batch has been
+ * written, so a slow sink (a network writer, a triple store) throttles conversion instead of letting it
+ * fill the heap.
+ *
+ * <pre>{@code
+ * RDFHandlerSubscriber sink = new RDFHandlerSubscriber(Rio.createWriter(RDFFormat.TURTLE, out), 64);
+ * batchConverter.publish(reader, 4, 256).subscribe(sink);
+ * long written = sink.completion().join();
+ * }</pre>
+ *
+ * <p>The handler is started on subscription, BIBO namespaces are declared once, and the handler is ended
+ * when the publisher completes. On error the handler is left open and {@link #completion()} fails.
+ */
+public final class RDFHandlerSubscriber implements Flow.Subscriber<BiboDocument> {
+    private final RDFHandler handler;
+    private final int batchSize;
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+    private long emitted;
+    private int remainingInBatch;
+
+    /**
+     * Creates a subscriber requesting {@link Flow#defaultBufferSize()} documents at a time.
+     *
+     * @param handler handler receiving namespaces and statements
+     */
+    public RDFHandlerSubscriber(RDFHandler handler) {
+        this(handler, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a subscriber requesting {@code batchSize} documents at a time.
+     *
+     * @param handler handler receiving namespaces and statements
+     * @param batchSize number of documents requested per round
+     */
+    @SuppressFBWarnings(value = {"CT_CONSTRUCTOR_THROW", "EI_EXPOSE_REP2"},
+        justification = "Argument validation may throw intentionally; the handler is the caller's sink")
+    public RDFHandlerSubscriber(RDFHandler handler, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.handler = Objects.requireNonNull(handler, "handler");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        try {
+            handler.startRDF();
+            BiboDocument.emitNamespaces(handler);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            completion.completeExceptionally(e);
+            return;
+        }
+        requestBatch();
+    }
+
+    @Override
+    public void onNext(BiboDocument document) {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            document.emitTo(handler);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            completion.completeExceptionally(e);
+            return;
+        }
+        emitted++;
+        if (--remainingInBatch == 0) {
+            requestBatch();
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        completion.completeExceptionally(failure);
+    }
+
+    @Override
+    public void onComplete() {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            handler.endRDF();
+            completion.complete(emitted);
+        } catch (RuntimeException e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns a future completed with the number of documents written once the stream ends, or
+     * completed exceptionally if the publisher or the handler failed.
+     *
+     * @return completion of the serialization stage
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The future is the completion signal by design")
+    public CompletableFuture<Long> completion() {
+        return completion;
+    }
+
+    private void requestBatch() {
+        remainingInBatch = batchSize;
+        subscription.request(batchSize);
+    }
+}
@@ -0,0 +1,75 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.util.ModelException;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+/**
+ * Read access to the statements describing BIBO documents, as needed by the RDF → BIBO reader.
+ * Implemented directly on a {@link Model} and, for bulk reading, by {@link RdfSubjectIndex}.
+ */
+interface RdfStatements {
+
+    /**
+     * Returns the distinct objects of {@code subject}'s {@code predicate} statements, in statement order.
+     */
+    List<Value> objects(Resource subject, IRI predicate);
+
+    /**
+     * Returns the first literal object, like {@code Models.objectLiteral(model.filter(subject, predicate, null))}.
+     */
+    default Optional<Literal> objectLiteral(Resource subject, IRI predicate) {
+        for (Value value : objects(subject, predicate)) {
+            if (value instanceof Literal literal) {
+                return Optional.of(literal);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the members of the RDF list starting at {@code head}, like {@code RDFCollections.asValues}.
+     *
+     * @throws ModelException if the list has a cycle or a node without {@code rdf:first} or {@code rdf:rest}
+     */
+    default List<Value> listValues(Resource head) {
+        List<Value> values = new ArrayList<>();
+        Set<Resource> visited = new HashSet<>();
+        Resource current = head;
+        while (!RDF.NIL.equals(current)) {
+            if (!visited.add(current)) {
+                throw new ModelException("list not wellformed: cycle detected");
+            }
+            List<Value> first = objects(current, RDF.FIRST);
+            if (first.isEmpty()) {
+                throw new ModelException("list not wellformed: rdf:first statement missing.");
+            }
+            values.add(first.get(0));
+            List<Value> rest = objects(current, RDF.REST);
+            if (rest.isEmpty()) {
+                throw new ModelException("list not wellformed: rdf:rest statement missing.");
+            }
+            if (!(rest.get(0) instanceof Resource next)) {
+                throw new ModelException("list not wellformed: value of rdf:rest should be one of (IRI, BNode).");
+            }
+            current = next;
+        }
+        return values;
+    }
+
+    /**
+     * Returns a view answering lookups with {@link Model#filter}.
+     */
+    static RdfStatements of(Model model) {
+        return (subject, predicate) -> new ArrayList<>(model.filter(subject, predicate, null).objects());
+    }
+}
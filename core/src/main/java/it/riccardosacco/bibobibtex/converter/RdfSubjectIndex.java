@@ -0,0 +1,104 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboVocabulary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+/**
+ * Statements of an RDF model grouped by subject in a single pass, so that each BIBO document is read
+ * from its own statement bucket instead of through repeated {@link Model#filter} calls.
+ *
+ * <p>The same pass selects the document subjects: resources with a BIBO {@code rdf:type}, in the order
+ * of their first such statement, that are not the {@code dcterms:isPartOf} target of another resource.
+ * Buckets keep statement order, so lookups return the same first match as on the model. Statement
+ * contexts are not kept, as the reader never distinguishes graphs. After construction the index is
+ * read-only and can be used from several threads.
+ */
+final class RdfSubjectIndex implements RdfStatements {
+    private final Map<IRI, IRI> predicates = new HashMap<>();
+    private final Map<Resource, Bucket> bySubject = new HashMap<>();
+    private final List<Resource> documentSubjects;
+
+    RdfSubjectIndex(Model model) {
+        // Predicates are mapped to one instance each, so lookups compare references instead of IRI strings
+        predicates.put(RDF.TYPE, RDF.TYPE);
+        predicates.put(DCTERMS.IS_PART_OF, DCTERMS.IS_PART_OF);
+        Set<Resource> containers = new HashSet<>();
+        Set<Resource> typed = new LinkedHashSet<>();
+        for (Statement statement : model) {
+            Resource subject = statement.getSubject();
+            IRI predicate = predicates.computeIfAbsent(statement.getPredicate(), key -> key);
+            Value object = statement.getObject();
+            bySubject.computeIfAbsent(subject, key -> new Bucket()).add(predicate, object);
+            if (predicate == RDF.TYPE) {
+                if (object instanceof IRI type && type.stringValue().startsWith(BiboVocabulary.NAMESPACE)) {
+                    typed.add(subject);
+                }
+            } else if (predicate == DCTERMS.IS_PART_OF && object instanceof Resource container) {
+                containers.add(container);
+            }
+        }
+        typed.removeAll(containers);
+        this.documentSubjects = List.copyOf(typed);
+    }
+
+    /**
+     * Returns the document subjects, excluding containers.
+     */
+    List<Resource> documentSubjects() {
+        return documentSubjects;
+    }
+
+    @Override
+    public List<Value> objects(Resource subject, IRI predicate) {
+        Bucket bucket = bySubject.get(subject);
+        IRI canonical = predicates.get(predicate);
+        if (bucket == null || canonical == null) {
+            return List.of();
+        }
+        List<Value> objects = null;
+        for (int i = 0; i < bucket.size; i++) {
+            if (bucket.predicates[i] == canonical) {
+                if (objects == null) {
+                    objects = new ArrayList<>(2);
+                }
+                if (!objects.contains(bucket.objects[i])) {
+                    objects.add(bucket.objects[i]);
+                }
+            }
+        }
+        return objects == null ? List.of() : objects;
+    }
+
+    /**
+     * Predicate/object pairs of one subject, in statement order.
+     */
+    private static final class Bucket {
+        private IRI[] predicates = new IRI[8];
+        private Value[] objects = new Value[8];
+        private int size;
+
+        void add(IRI predicate, Value object) {
+            if (size == predicates.length) {
+                predicates = Arrays.copyOf(predicates, size * 2);
+                objects = Arrays.copyOf(objects, size * 2);
+            }
+            predicates[size] = predicate;
+            objects[size] = object;
+            size++;
+        }
+    }
+}
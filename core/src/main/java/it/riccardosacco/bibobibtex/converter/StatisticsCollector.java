@@ -2,91 +2,202 @@ package it.riccardosacco.bibobibtex.converter;
 
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Collects statistics during batch conversion and builds an immutable snapshot.
+ *
+ * <p>The collector is thread-safe and lock-free, so parallel workers can share one instance: counters
+ * are {@link LongAdder}s, one per {@link Field}, and warnings go to a bounded ring buffer that keeps the
+ * most recent {@link #DEFAULT_WARNING_CAPACITY} messages. {@link #build()} should be called once all
+ * workers have finished.
  */
 public final class StatisticsCollector {
-    private int totalEntries;
-    private int successfulConversions;
-    private int failedConversions;
-    private final List<String> warnings = new ArrayList<>();
-    private final Map<String, Integer> fieldCounts = new HashMap<>();
-    private long startTimeMs;
+
+    /** Default number of warning messages retained. */
+    public static final int DEFAULT_WARNING_CAPACITY = 1000;
+
+    /**
+     * Document fields counted on successful conversions.
+     */
+    public enum Field {
+        TITLE("title"),
+        CONTRIBUTORS("contributors"),
+        DATE("date"),
+        DATE_MONTH("date-month"),
+        DATE_DAY("date-day"),
+        PUBLISHER("publisher"),
+        PLACE("place"),
+        CONFERENCE_LOCATION("conferenceLocation"),
+        CONFERENCE_ORGANIZER("conferenceOrganizer"),
+        DEGREE_TYPE("degreeType"),
+        CONTAINER_TITLE("containerTitle"),
+        VOLUME("volume"),
+        ISSUE("issue"),
+        PAGES("pages"),
+        IDENTIFIERS("identifiers"),
+        URL("url"),
+        LANGUAGE("language"),
+        ABSTRACT("abstract"),
+        NOTES("notes"),
+        SERIES("series"),
+        EDITION("edition"),
+        KEYWORDS("keywords");
+
+        private static final Field[] VALUES = values();
+
+        private final String key;
+
+        Field(String key) {
+            this.key = key;
+        }
+
+        /**
+         * Returns the key used for this field in {@link ConversionStatistics#getFieldStatistics()}.
+         */
+        public String key() {
+            return key;
+        }
+    }
+
+    private final LongAdder totalEntries = new LongAdder();
+    private final LongAdder successfulConversions = new LongAdder();
+    private final LongAdder failedConversions = new LongAdder();
+    private final LongAdder[] fieldCounts = new LongAdder[Field.VALUES.length];
+    private final AtomicReferenceArray<String> warnings;
+    private final AtomicLong warningCount = new AtomicLong();
+    private volatile long startTimeMs;
+
+    public StatisticsCollector() {
+        this(DEFAULT_WARNING_CAPACITY);
+    }
+
+    /**
+     * Creates a collector retaining at most {@code warningCapacity} warning messages.
+     *
+     * @param warningCapacity maximum number of warnings kept; older ones are overwritten
+     */
+    public StatisticsCollector(int warningCapacity) {
+        if (warningCapacity < 1) {
+            throw new IllegalArgumentException("Warning capacity must be at least 1");
+        }
+        this.warnings = new AtomicReferenceArray<>(warningCapacity);
+        for (int i = 0; i < fieldCounts.length; i++) {
+            fieldCounts[i] = new LongAdder();
+        }
+    }
 
     public void startTracking() {
         startTimeMs = System.currentTimeMillis();
     }
 
     public void recordEntry() {
-        totalEntries++;
+        totalEntries.increment();
     }
 
     public void recordSuccess(BiboDocument doc) {
-        successfulConversions++;
+        successfulConversions.increment();
         if (doc == null) {
             return;
         }
-        incrementField("title");
+        increment(Field.TITLE);
         if (!doc.contributors().isEmpty()) {
-            incrementField("contributors");
+            increment(Field.CONTRIBUTORS);
         }
         doc.publicationDate().ifPresent(date -> {
-            incrementField("date");
-            date.month().ifPresent(month -> incrementField("date-month"));
-            date.day().ifPresent(day -> incrementField("date-day"));
+            increment(Field.DATE);
+            date.month().ifPresent(month -> increment(Field.DATE_MONTH));
+            date.day().ifPresent(day -> increment(Field.DATE_DAY));
         });
-        doc.publisher().ifPresent(p -> incrementField("publisher"));
-        doc.placeOfPublication().ifPresent(p -> incrementField("place"));
-        doc.conferenceLocation().ifPresent(p -> incrementField("conferenceLocation"));
-        doc.conferenceOrganizer().ifPresent(p -> incrementField("conferenceOrganizer"));
-        doc.degreeType().ifPresent(p -> incrementField("degreeType"));
-        doc.containerTitle().ifPresent(p -> incrementField("containerTitle"));
-        doc.volume().ifPresent(p -> incrementField("volume"));
-        doc.issue().ifPresent(p -> incrementField("issue"));
-        doc.pages().ifPresent(p -> incrementField("pages"));
+        doc.publisher().ifPresent(p -> increment(Field.PUBLISHER));
+        doc.placeOfPublication().ifPresent(p -> increment(Field.PLACE));
+        doc.conferenceLocation().ifPresent(p -> increment(Field.CONFERENCE_LOCATION));
+        doc.conferenceOrganizer().ifPresent(p -> increment(Field.CONFERENCE_ORGANIZER));
+        doc.degreeType().ifPresent(p -> increment(Field.DEGREE_TYPE));
+        doc.containerTitle().ifPresent(p -> increment(Field.CONTAINER_TITLE));
+        doc.volume().ifPresent(p -> increment(Field.VOLUME));
+        doc.issue().ifPresent(p -> increment(Field.ISSUE));
+        doc.pages().ifPresent(p -> increment(Field.PAGES));
         if (!doc.identifiers().isEmpty()) {
-            incrementField("identifiers");
+            increment(Field.IDENTIFIERS);
         }
-        doc.url().ifPresent(p -> incrementField("url"));
-        doc.language().ifPresent(p -> incrementField("language"));
-        doc.abstractText().ifPresent(p -> incrementField("abstract"));
-        doc.notes().ifPresent(p -> incrementField("notes"));
-        doc.series().ifPresent(p -> incrementField("series"));
-        doc.edition().ifPresent(p -> incrementField("edition"));
+        doc.url().ifPresent(p -> increment(Field.URL));
+        doc.language().ifPresent(p -> increment(Field.LANGUAGE));
+        doc.abstractText().ifPresent(p -> increment(Field.ABSTRACT));
+        doc.notes().ifPresent(p -> increment(Field.NOTES));
+        doc.series().ifPresent(p -> increment(Field.SERIES));
+        doc.edition().ifPresent(p -> increment(Field.EDITION));
         if (!doc.keywords().isEmpty()) {
-            incrementField("keywords");
+            increment(Field.KEYWORDS);
         }
     }
 
     public void recordFailure(Exception e) {
-        failedConversions++;
+        failedConversions.increment();
         if (e != null && e.getMessage() != null && !e.getMessage().isBlank()) {
-            warnings.add(e.getMessage());
+            addWarning(e.getMessage());
         }
     }
 
     public void recordWarning(String message) {
         if (message != null && !message.isBlank()) {
-            warnings.add(message.trim());
+            addWarning(message.trim());
         }
     }
 
+    /**
+     * Returns how often a field was present on successfully converted documents so far.
+     */
+    public long fieldCount(Field field) {
+        return fieldCounts[field.ordinal()].sum();
+    }
+
     public ConversionStatistics build() {
         long endTime = System.currentTimeMillis();
+        Map<String, Integer> fields = new LinkedHashMap<>();
+        for (Field field : Field.VALUES) {
+            long count = fieldCount(field);
+            if (count > 0) {
+                fields.put(field.key(), (int) count);
+            }
+        }
         return new ConversionStatistics(
-                totalEntries,
-                successfulConversions,
-                failedConversions,
-                warnings,
-                fieldCounts,
+                totalEntries.intValue(),
+                successfulConversions.intValue(),
+                failedConversions.intValue(),
+                retainedWarnings(),
+                fields,
                 endTime - startTimeMs);
     }
 
-    private void incrementField(String field) {
-        fieldCounts.compute(field, (key, current) -> current == null ? 1 : current + 1);
+    private void increment(Field field) {
+        fieldCounts[field.ordinal()].increment();
+    }
+
+    private void addWarning(String message) {
+        long slot = warningCount.getAndIncrement();
+        warnings.set((int) (slot % warnings.length()), message);
+    }
+
+    /**
+     * Returns the retained warnings, oldest first.
+     */
+    private List<String> retainedWarnings() {
+        long count = warningCount.get();
+        int capacity = warnings.length();
+        long first = Math.max(0, count - capacity);
+        List<String> retained = new ArrayList<>((int) (count - first));
+        for (long slot = first; slot < count; slot++) {
+            String warning = warnings.get((int) (slot % capacity));
+            if (warning != null) {
+                retained.add(warning);
+            }
+        }
+        return retained;
     }
 }
@@ -1,24 +1,22 @@
 package it.riccardosacco.bibobibtex.examples;
 
+import it.riccardosacco.bibobibtex.converter.BatchConverter;
 import it.riccardosacco.bibobibtex.converter.BibTeXBibliographicConverter;
+import it.riccardosacco.bibobibtex.converter.BibTeXEntryReader;
+import it.riccardosacco.bibobibtex.exception.BibliographicConversionException;
 import it.riccardosacco.bibobibtex.exception.ValidationException;
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
-import org.jbibtex.BibTeXDatabase;
 import org.jbibtex.BibTeXEntry;
-import org.jbibtex.BibTeXParser;
-import org.jbibtex.ObjectResolutionException;
-import org.jbibtex.ParseException;
 
 import java.io.IOException;
-import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -27,6 +25,9 @@ import java.util.stream.Stream;
  * Much faster than calling SampleConversion for each file separately.
  */
 public final class BatchConversion {
+    /** Files at least this large are memory-mapped and parsed/converted in parallel chunks. */
+    private static final long PARALLEL_PARSE_THRESHOLD_BYTES = 64L * 1024 * 1024;
+
     private BatchConversion() {
         // utility class
     }
@@ -74,34 +75,31 @@ public final class BatchConversion {
     }
 
     private static int processBibTeXFile(Path bibFile, Path outputDir, BibTeXBibliographicConverter converter)
-            throws IOException, ParseException {
-        BibTeXParser parser = new BibTeXParser();
-
-        try (Reader reader = Files.newBufferedReader(bibFile, StandardCharsets.UTF_8)) {
-            BibTeXDatabase database;
-            try {
-                database = parser.parse(reader);
-            } catch (ObjectResolutionException e) {
-                System.err.println("  Warning: Cross-reference resolution failed, continuing with partial data");
-                database = parser.getDatabase();
-            }
+            throws IOException {
+        Path outputFile = outputFile(bibFile, outputDir);
+        if (outputFile == null) {
+            return 0;
+        }
+        if (Files.size(bibFile) >= PARALLEL_PARSE_THRESHOLD_BYTES) {
+            return processLargeBibTeXFile(bibFile, outputFile);
+        }
 
-            Collection<BibTeXEntry> entries = database.getEntries().values();
-            if (entries.isEmpty()) {
-                System.out.println("  No entries found");
-                return 0;
-            }
+        int converted = 0;
+        int skipped = 0;
 
-            // Create a single RDF model for all entries in this file
-            Model combinedModel = new org.eclipse.rdf4j.model.impl.LinkedHashModel();
-            int converted = 0;
-            int skipped = 0;
+        // Entries are read, converted and written one at a time, so the file never sits fully in memory
+        try (BibTeXEntryReader entries = BibTeXEntryReader.open(bibFile);
+             Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+            RDFWriter rdfWriter = Rio.createWriter(RDFFormat.TURTLE, writer);
+            rdfWriter.startRDF();
+            BiboDocument.emitNamespaces(rdfWriter);
 
-            for (BibTeXEntry entry : entries) {
+            while (hasNextEntry(entries)) {
+                BibTeXEntry entry = entries.next();
                 try {
                     Optional<BiboDocument> document = converter.convertToBibo(entry);
                     if (document.isPresent()) {
-                        combinedModel.addAll(document.get().rdfModel());
+                        document.get().emitTo(rdfWriter);
                         converted++;
                     }
                 } catch (ValidationException validationException) {
@@ -112,36 +110,75 @@ public final class BatchConversion {
                             + validationException.getMessage());
                 }
             }
+            rdfWriter.endRDF();
+        }
 
-            // Write all entries to a single file with the same name as the input file
-            if (converted > 0) {
-                writeRdf(combinedModel, bibFile, outputDir);
-            }
+        if (converted == 0) {
+            // Keep the previous behaviour of not leaving empty output files behind
+            Files.deleteIfExists(outputFile);
+            System.out.println("  No entries found");
+            return 0;
+        }
 
-            System.out.println("  Converted: " + converted + " entries");
-            if (skipped > 0) {
-                System.out.println("  Skipped: " + skipped + " entries due to validation errors");
+        System.out.println("  Converted: " + converted + " entries");
+        if (skipped > 0) {
+            System.out.println("  Skipped: " + skipped + " entries due to validation errors");
+        }
+        return converted;
+    }
+
+    private static int processLargeBibTeXFile(Path bibFile, Path outputFile) throws IOException {
+        // Parsing dominates for large exports: split the mapped file into chunks and convert them in
+        // parallel. Documents are written in file order as each chunk completes; malformed objects and
+        // entries that fail to convert are skipped and counted.
+        long converted;
+        long skipped;
+        try (BatchConverter converter = new BatchConverter();
+             Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+            RDFWriter rdfWriter = Rio.createWriter(RDFFormat.TURTLE, writer);
+            rdfWriter.startRDF();
+            BiboDocument.emitNamespaces(rdfWriter);
+            converted = converter.convertFileParallel(bibFile, document -> document.emitTo(rdfWriter));
+            rdfWriter.endRDF();
+            skipped = converter.skippedCount();
+        }
+
+        if (converted == 0) {
+            Files.deleteIfExists(outputFile);
+            System.out.println("  No entries found");
+            return 0;
+        }
+
+        System.out.println("  Converted: " + converted + " entries (parallel)");
+        if (skipped > 0) {
+            System.out.println("  Skipped: " + skipped + " malformed or invalid entries");
+        }
+        return Math.toIntExact(converted);
+    }
+
+    private static boolean hasNextEntry(BibTeXEntryReader entries) {
+        while (true) {
+            try {
+                return entries.hasNext();
+            } catch (BibliographicConversionException e) {
+                // The malformed object has been consumed; continue with the next one
+                System.err.println("  Warning: " + e.getMessage() + ", continuing with partial data");
             }
-            return converted;
         }
     }
 
-    private static void writeRdf(Model model, Path inputFile, Path outputDir) throws IOException {
+    private static Path outputFile(Path inputFile, Path outputDir) {
         // Use the same filename as the input file, but with .ttl extension
         Path fileName = inputFile.getFileName();
         if (fileName == null) {
-            return;
+            return null;
         }
         String baseName = fileName.toString();
         int dot = baseName.lastIndexOf('.');
         if (dot > 0) {
             baseName = baseName.substring(0, dot);
         }
-        Path outputFile = outputDir.resolve(baseName + ".ttl");
-
-        try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
-            Rio.write(model, writer, RDFFormat.TURTLE);
-        }
+        return outputDir.resolve(baseName + ".ttl");
     }
 
     private static String citationKey(BibTeXEntry entry) {
@@ -5,14 +5,20 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Namespace;
 import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
@@ -22,13 +28,20 @@ import org.eclipse.rdf4j.model.vocabulary.FOAF;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.WriterConfig;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
 
-public final class BiboDocument {
+public final class BiboDocument implements BiboDocumentView {
     private static final ValueFactory VF = SimpleValueFactory.getInstance();
+    private static final List<Namespace> NAMESPACES =
+            List.of(BiboVocabulary.NS, DCTERMS.NS, FOAF.NS, RDF.NS, RDFS.NS);
+    // Retained models carry no namespaces; they are added to copies and declared on writers instead
+    private static final Set<Namespace> NAMESPACE_SET = Collections.unmodifiableSet(new LinkedHashSet<>(NAMESPACES));
+    // Values shared by many documents (publishers, journals, languages, names) reuse one literal and label
+    private static final LiteralCache SHARED_LITERALS = new LiteralCache(8192);
 
     private final String id;
     private final BiboDocumentType type;
@@ -53,10 +66,11 @@ public final class BiboDocument {
     private final String series;
     private final String edition;
     private final List<String> keywords;
-    private final Model model;
     private final Resource resource;
+    private final boolean retainModel;
+    private volatile List<Statement> statements;
 
-    private BiboDocument(Builder builder, Resource resource, Model model) {
+    private BiboDocument(Builder builder, Resource resource) {
         this.id = builder.id;
         this.type = builder.type;
         this.title = builder.title;
@@ -80,123 +94,170 @@ public final class BiboDocument {
         this.series = builder.series;
         this.edition = builder.edition;
         this.keywords = List.copyOf(builder.keywords);
-        this.model = new LinkedHashModel(model);
         this.resource = resource;
+        this.retainModel = builder.retainModel;
     }
 
     public static Builder builder(BiboDocumentType type, String title) {
         return new Builder(type, title);
     }
 
+    /**
+     * Builds a document with the fields of a view, such as a row of a {@link BiboDocumentTable}.
+     */
+    static BiboDocument copyOf(BiboDocumentView view) {
+        if (view instanceof BiboDocument document) {
+            return document;
+        }
+        Builder builder = builder(view.type(), view.title())
+                .contributors(view.contributors())
+                .identifiers(view.identifiers())
+                .keywords(view.keywords());
+        view.id().ifPresent(builder::id);
+        view.subtitle().ifPresent(builder::subtitle);
+        view.publicationDate().ifPresent(builder::publicationDate);
+        view.publisher().ifPresent(builder::publisher);
+        view.placeOfPublication().ifPresent(builder::placeOfPublication);
+        view.conferenceLocation().ifPresent(builder::conferenceLocation);
+        view.conferenceOrganizer().ifPresent(builder::conferenceOrganizer);
+        view.degreeType().ifPresent(builder::degreeType);
+        view.containerTitle().ifPresent(builder::containerTitle);
+        view.volume().ifPresent(builder::volume);
+        view.issue().ifPresent(builder::issue);
+        view.pages().ifPresent(builder::pages);
+        view.url().ifPresent(builder::url);
+        view.language().ifPresent(builder::language);
+        view.abstractText().ifPresent(builder::abstractText);
+        view.notes().ifPresent(builder::notes);
+        view.series().ifPresent(builder::series);
+        view.edition().ifPresent(builder::edition);
+        return builder.build();
+    }
+
+    @Override
     public Optional<String> id() {
         return Optional.ofNullable(id);
     }
 
+    @Override
     public BiboDocumentType type() {
         return type;
     }
 
+    @Override
     public String title() {
         return title;
     }
 
+    @Override
     public Optional<String> subtitle() {
         return Optional.ofNullable(subtitle);
     }
 
+    @Override
     public List<BiboContributor> contributors() {
         return contributors;
     }
 
-    public List<BiboContributor> contributorsByRole(BiboContributorRole role) {
-        Objects.requireNonNull(role, "role");
-        return contributors.stream()
-                .filter(contributor -> contributor.role() == role)
-                .collect(Collectors.toUnmodifiableList());
-    }
-
-    public List<BiboContributor> authors() {
-        return contributorsByRole(BiboContributorRole.AUTHOR);
-    }
-
-    public List<BiboContributor> editors() {
-        return contributorsByRole(BiboContributorRole.EDITOR);
-    }
-
+    @Override
     public Optional<BiboPublicationDate> publicationDate() {
         return Optional.ofNullable(publicationDate);
     }
 
+    @Override
     public Optional<String> publisher() {
         return Optional.ofNullable(publisher);
     }
 
+    @Override
     public Optional<String> placeOfPublication() {
         return Optional.ofNullable(placeOfPublication);
     }
 
+    @Override
     public Optional<String> conferenceLocation() {
         return Optional.ofNullable(conferenceLocation);
     }
 
+    @Override
     public Optional<String> conferenceOrganizer() {
         return Optional.ofNullable(conferenceOrganizer);
     }
 
+    @Override
     public Optional<String> degreeType() {
         return Optional.ofNullable(degreeType);
     }
 
+    @Override
     public Optional<String> containerTitle() {
         return Optional.ofNullable(containerTitle);
     }
 
+    @Override
     public Optional<String> volume() {
         return Optional.ofNullable(volume);
     }
 
+    @Override
     public Optional<String> issue() {
         return Optional.ofNullable(issue);
     }
 
+    @Override
     public Optional<String> pages() {
         return Optional.ofNullable(pages);
     }
 
+    @Override
     public List<BiboIdentifier> identifiers() {
         return identifiers;
     }
 
+    @Override
     public Optional<String> url() {
         return Optional.ofNullable(url);
     }
 
+    @Override
     public Optional<String> language() {
         return Optional.ofNullable(language);
     }
 
+    @Override
     public Optional<String> abstractText() {
         return Optional.ofNullable(abstractText);
     }
 
+    @Override
     public Optional<String> notes() {
         return Optional.ofNullable(notes);
     }
 
+    @Override
     public Optional<String> series() {
         return Optional.ofNullable(series);
     }
 
+    @Override
     public Optional<String> edition() {
         return Optional.ofNullable(edition);
     }
 
+    @Override
     public List<String> keywords() {
         return keywords;
     }
 
+    /**
+     * Returns a copy of the RDF representation of this document.
+     * The model is built on first access; unless retention was disabled on the builder,
+     * it is then kept so that repeated calls share the same blank nodes.
+     *
+     * @return a mutable copy of the document's RDF model
+     */
     public Model rdfModel() {
-        return new LinkedHashModel(model);
+        return new LinkedHashModel(NAMESPACE_SET, statements());
     }
 
     public Resource resource() {
@@ -287,13 +348,284 @@ public final class BiboDocument {
             config.set(BasicWriterSettings.XSD_STRING_TO_PLAIN_LITERAL, true);
             config.set(BasicWriterSettings.RDF_LANGSTRING_TO_LANG_LITERAL, true);
 
-            Rio.write(model, rdfWriter);
+            rdfWriter.startRDF();
+            emitNamespaces(rdfWriter);
+            statements().forEach(rdfWriter::handleStatement);
+            rdfWriter.endRDF();
         } catch (Exception e) {
             throw new it.riccardosacco.bibobibtex.exception.BibliographicConversionException(
                     "Failed to write RDF in format " + format, e);
         }
     }
 
+    private List<Statement> statements() {
+        List<Statement> current = statements;
+        if (current != null) {
+            return current;
+        }
+        if (!retainModel) {
+            return createStatements();
+        }
+        synchronized (this) {
+            if (statements == null) {
+                statements = createStatements();
+            }
+            return statements;
+        }
+    }
+
+    /**
+     * Builds the distinct statements of this document, in emission order. The retained model is kept
+     * as this array-backed list rather than as a {@link Model}, whose per-value indexes cost far more
+     * memory than the statements themselves; {@link #rdfModel()} builds a model from it on demand.
+     */
+    private List<Statement> createStatements() {
+        Set<Statement> distinct = new LinkedHashSet<>(64);
+        emitStatements((subject, predicate, object) ->
+                distinct.add(VF.createStatement(subject, predicate, object)));
+        return List.copyOf(distinct);
+    }
+
+    /**
+     * Streams the triples describing this document to an {@link RDFHandler}.
+     * No {@link Model} is built: statements are generated from the document fields and handed
+     * to the handler one by one, unless a retained model already exists, in which case it is replayed.
+     * The caller is responsible for {@code startRDF()}/{@code endRDF()} and, optionally,
+     * for declaring namespaces once through {@link #emitNamespaces(RDFHandler)}.
+     *
+     * @param handler the handler receiving the statements
+     */
+    public void emitTo(RDFHandler handler) {
+        Objects.requireNonNull(handler, "handler");
+        List<Statement> current = statements;
+        if (current != null) {
+            current.forEach(handler::handleStatement);
+            return;
+        }
+        emitStatements((subject, predicate, object) ->
+                handler.handleStatement(VF.createStatement(subject, predicate, object)));
+    }
+
+    /**
+     * Declares the namespaces used by BIBO documents on an {@link RDFHandler}.
+     *
+     * @param handler the handler receiving the namespace declarations
+     */
+    public static void emitNamespaces(RDFHandler handler) {
+        Objects.requireNonNull(handler, "handler");
+        NAMESPACES.forEach(namespace -> handler.handleNamespace(namespace.getPrefix(), namespace.getName()));
+    }
+
+    /**
+     * Hands the triples describing this document to a sink, replaying the retained model if one exists.
+     * Unlike {@link #emitTo(RDFHandler)}, freshly generated triples are not wrapped in statements.
+     *
+     * @param sink the sink receiving the triples
+     */
+    void forEachStatement(StatementSink sink) {
+        List<Statement> current = statements;
+        if (current != null) {
+            current.forEach(sink::add);
+            return;
+        }
+        emitStatements(sink);
+    }
+
+    private void emitStatements(StatementSink sink) {
+        Resource subject = resource;
+        sink.add(subject, RDF.TYPE, BiboVocabulary.DOCUMENT);
+        sink.add(subject, RDF.TYPE, type.iri());
+        sink.add(subject, DCTERMS.TITLE, VF.createLiteral(title));
+        if (subtitle != null) {
+            sink.add(subject, BiboVocabulary.SUBTITLE, VF.createLiteral(subtitle));
+        }
+        if (id != null) {
+            sink.add(subject, DCTERMS.IDENTIFIER, VF.createLiteral(id));
+        }
+
+        addContributors(sink, subject);
+
+        if (publicationDate != null) {
+            sink.add(subject, DCTERMS.ISSUED, publicationDate.toLiteral(VF));
+        }
+        if (publisher != null) {
+            sink.add(subject, DCTERMS.PUBLISHER, SHARED_LITERALS.literal(publisher));
+        }
+        if (placeOfPublication != null) {
+            sink.add(subject, DCTERMS.SPATIAL, SHARED_LITERALS.literal(placeOfPublication));
+        }
+
+        if (containerTitle != null) {
+            Resource container = VF.createBNode();
+            sink.add(subject, DCTERMS.IS_PART_OF, container);
+            sink.add(container, RDF.TYPE, BiboVocabulary.DOCUMENT);
+            sink.add(container, DCTERMS.TITLE, SHARED_LITERALS.literal(containerTitle));
+
+            // Add conference-specific metadata to container
+            if (conferenceLocation != null) {
+                sink.add(container, DCTERMS.SPATIAL, SHARED_LITERALS.literal(conferenceLocation));
+            }
+            if (conferenceOrganizer != null) {
+                sink.add(container, BiboVocabulary.ORGANIZER, SHARED_LITERALS.literal(conferenceOrganizer));
+            }
+        }
+
+        // Add thesis degree type
+        if (degreeType != null) {
+            sink.add(subject, BiboVocabulary.DEGREE, SHARED_LITERALS.literal(degreeType));
+        }
+
+        if (volume != null) {
+            sink.add(subject, BiboVocabulary.VOLUME, SHARED_LITERALS.literal(volume));
+        }
+        if (issue != null) {
+            sink.add(subject, BiboVocabulary.ISSUE, SHARED_LITERALS.literal(issue));
+        }
+        if (pages != null) {
+            sink.add(subject, BiboVocabulary.PAGES, VF.createLiteral(pages));
+        }
+
+        identifiers.forEach(identifier -> addIdentifier(sink, subject, identifier));
+
+        if (url != null) {
+            addIriOrLiteral(sink, subject, FOAF.PAGE, url);
+        }
+        if (language != null) {
+            sink.add(subject, DCTERMS.LANGUAGE, SHARED_LITERALS.literal(language));
+        }
+        if (abstractText != null) {
+            sink.add(subject, DCTERMS.ABSTRACT, VF.createLiteral(abstractText));
+        }
+        if (notes != null) {
+            sink.add(subject, RDFS.COMMENT, VF.createLiteral(notes));
+        }
+        if (series != null) {
+            sink.add(subject, BiboVocabulary.SERIES, SHARED_LITERALS.literal(series));
+        }
+        if (edition != null) {
+            sink.add(subject, BiboVocabulary.EDITION, SHARED_LITERALS.literal(edition));
+        }
+        keywords.forEach(keyword ->
+            sink.add(subject, DCTERMS.SUBJECT, SHARED_LITERALS.literal(keyword))
+        );
+    }
+
+    /**
+     * Emits contributors using RDF Collections for authors and editors.
+     * Authors are stored in bibo:authorList, editors in bibo:editorList, both as ordered RDF Lists.
+     * Other contributor roles (translator, advisor, reviewer) are stored as individual properties.
+     */
+    private void addContributors(StatementSink sink, Resource subject) {
+        // Group contributors by role
+        Map<BiboContributorRole, List<BiboContributor>> byRole = contributors.stream()
+            .collect(Collectors.groupingBy(BiboContributor::role));
+
+        // Process authors as RDF List
+        List<BiboContributor> authors = byRole.get(BiboContributorRole.AUTHOR);
+        if (authors != null && !authors.isEmpty()) {
+            List<Resource> authorNodes = authors.stream()
+                .map(contributor -> createPersonNode(sink, contributor.name()))
+                .collect(Collectors.toList());
+
+            Resource authorListHead = VF.createBNode();
+            RDFCollections.consumeCollection(authorNodes, authorListHead, sink::add);
+            sink.add(subject, BiboVocabulary.AUTHOR_LIST, authorListHead);
+        }
+
+        // Process editors as RDF List
+        List<BiboContributor> editors = byRole.get(BiboContributorRole.EDITOR);
+        if (editors != null && !editors.isEmpty()) {
+            List<Resource> editorNodes = editors.stream()
+                .map(contributor -> createPersonNode(sink, contributor.name()))
+                .collect(Collectors.toList());
+
+            Resource editorListHead = VF.createBNode();
+            RDFCollections.consumeCollection(editorNodes, editorListHead, sink::add);
+            sink.add(subject, BiboVocabulary.EDITOR_LIST, editorListHead);
+        }
+
+        // Process other roles individually (not as lists)
+        for (BiboContributorRole role : Arrays.asList(
+                BiboContributorRole.TRANSLATOR,
+                BiboContributorRole.ADVISOR,
+                BiboContributorRole.REVIEWER,
+                BiboContributorRole.CONTRIBUTOR)) {
+            List<BiboContributor> others = byRole.get(role);
+            if (others != null) {
+                for (BiboContributor contributor : others) {
+                    Resource person = createPersonNode(sink, contributor.name());
+                    sink.add(subject, predicateForRole(role), person);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a person node with FOAF properties.
+     *
+     * @param sink the sink receiving the person statements
+     * @param name the person's name information
+     * @return the Resource representing the person (blank node)
+     */
+    private Resource createPersonNode(StatementSink sink, BiboPersonName name) {
+        Resource person = VF.createBNode();
+        sink.add(person, RDF.TYPE, FOAF.PERSON);
+        sink.add(person, FOAF.NAME, SHARED_LITERALS.literal(name.fullName()));
+        name.givenName().ifPresent(value ->
+            sink.add(person, FOAF.GIVEN_NAME, SHARED_LITERALS.literal(value)));
+        name.familyName().ifPresent(value ->
+            sink.add(person, FOAF.FAMILY_NAME, SHARED_LITERALS.literal(value)));
+        return person;
+    }
+
+    private void addIdentifier(StatementSink sink, Resource subject, BiboIdentifier identifier) {
+        identifier.type()
+                .predicate()
+                .ifPresent(predicate -> {
+                    if (predicate.equals(BiboVocabulary.URI) || predicate.equals(FOAF.PAGE)) {
+                        addIriOrLiteral(sink, subject, predicate, identifier.value());
+                    } else {
+                        sink.add(subject, predicate, VF.createLiteral(identifier.value()));
+                    }
+                });
+    }
+
+    private void addIriOrLiteral(StatementSink sink, Resource subject, IRI predicate, String value) {
+        if (isAbsoluteIri(value)) {
+            sink.add(subject, predicate, VF.createIRI(value));
+        } else {
+            sink.add(subject, predicate, VF.createLiteral(value));
+        }
+    }
+
+    /**
+     * Checks a value against the rule {@link ValueFactory#createIRI(String)} enforces, so that values
+     * that are not IRIs can be routed without throwing and catching an exception per document.
+     */
+    private static boolean isAbsoluteIri(String value) {
+        return value.indexOf(':') >= 0;
+    }
+
+    private static org.eclipse.rdf4j.model.IRI predicateForRole(BiboContributorRole role) {
+        return switch (role) {
+            case AUTHOR -> DCTERMS.CREATOR;
+            case EDITOR -> BiboVocabulary.EDITOR;
+            case TRANSLATOR -> BiboVocabulary.TRANSLATOR;
+            case ADVISOR -> BiboVocabulary.ADVISOR;
+            case REVIEWER -> BiboVocabulary.REVIEWER;
+            case CONTRIBUTOR -> DCTERMS.CONTRIBUTOR;
+        };
+    }
+
+    @FunctionalInterface
+    interface StatementSink {
+        void add(Resource subject, IRI predicate, Value object);
+
+        default void add(Statement statement) {
+            add(statement.getSubject(), statement.getPredicate(), statement.getObject());
+        }
+    }
+
     public static final class Builder {
         private final BiboDocumentType type;
         private final String title;
@@ -318,6 +650,7 @@ public final class BiboDocument {
         private String series;
         private String edition;
         private final List<String> keywords = new ArrayList<>();
+        private boolean retainModel = true;
 
         private Builder(BiboDocumentType type, String title) {
             this.type = Objects.requireNonNull(type, "type");
@@ -360,42 +693,42 @@ public final class BiboDocument {
         }
 
         public Builder publisher(String publisher) {
-            this.publisher = normalizeOptional(publisher);
+            this.publisher = shared(normalizeOptional(publisher));
             return this;
         }
 
         public Builder placeOfPublication(String placeOfPublication) {
-            this.placeOfPublication = normalizeOptional(placeOfPublication);
+            this.placeOfPublication = shared(normalizeOptional(placeOfPublication));
             return this;
         }
 
         public Builder conferenceLocation(String conferenceLocation) {
-            this.conferenceLocation = normalizeOptional(conferenceLocation);
+            this.conferenceLocation = shared(normalizeOptional(conferenceLocation));
             return this;
         }
 
         public Builder conferenceOrganizer(String conferenceOrganizer) {
-            this.conferenceOrganizer = normalizeOptional(conferenceOrganizer);
+            this.conferenceOrganizer = shared(normalizeOptional(conferenceOrganizer));
             return this;
         }
 
         public Builder degreeType(String degreeType) {
-            this.degreeType = normalizeOptional(degreeType);
+            this.degreeType = shared(normalizeOptional(degreeType));
             return this;
         }
 
         public Builder containerTitle(String containerTitle) {
-            this.containerTitle = normalizeOptional(containerTitle);
+            this.containerTitle = shared(normalizeOptional(containerTitle));
             return this;
         }
 
         public Builder volume(String volume) {
-            this.volume = normalizeOptional(volume);
+            this.volume = shared(normalizeOptional(volume));
             return this;
         }
 
         public Builder issue(String issue) {
-            this.issue = normalizeOptional(issue);
+            this.issue = shared(normalizeOptional(issue));
             return this;
         }
 
@@ -422,7 +755,7 @@ public final class BiboDocument {
         }
 
         public Builder language(String language) {
-            this.language = normalizeOptional(language);
+            this.language = shared(normalizeOptional(language));
             return this;
         }
 
@@ -437,18 +770,18 @@ public final class BiboDocument {
         }
 
         public Builder series(String series) {
-            this.series = normalizeOptional(series);
+            this.series = shared(normalizeOptional(series));
             return this;
         }
 
         public Builder edition(String edition) {
-            this.edition = normalizeOptional(edition);
+            this.edition = shared(normalizeOptional(edition));
             return this;
         }
 
         public Builder addKeyword(String keyword) {
             if (keyword != null && !keyword.isBlank()) {
-                keywords.add(keyword.strip());
+                keywords.add(shared(keyword.strip()));
             }
             return this;
         }
@@ -460,204 +793,36 @@ public final class BiboDocument {
             return this;
         }
 
-        public BiboDocument build() {
-            Model model = new LinkedHashModel();
-            model.setNamespace(BiboVocabulary.NS);
-            model.setNamespace(DCTERMS.NS);
-            model.setNamespace(FOAF.NS);
-            model.setNamespace(RDF.NS);
-            model.setNamespace(RDFS.NS);
-
-            Resource subject = createSubject();
-            model.add(subject, RDF.TYPE, BiboVocabulary.DOCUMENT);
-            model.add(subject, RDF.TYPE, type.iri());
-            model.add(subject, DCTERMS.TITLE, VF.createLiteral(title));
-            if (subtitle != null) {
-                model.add(subject, BiboVocabulary.SUBTITLE, VF.createLiteral(subtitle));
-            }
-            if (id != null) {
-                model.add(subject, DCTERMS.IDENTIFIER, VF.createLiteral(id));
-            }
-
-            addContributors(model, subject);
+        /**
+         * Controls whether the document keeps its RDF model once built.
+         * Retained models (the default) are built at most once per document; non-retained
+         * documents rebuild the model on every {@link BiboDocument#rdfModel()} or write call,
+         * which keeps large batches that only need the Java fields free of RDF graphs.
+         *
+         * @param retainModel {@code false} to rebuild the RDF model on demand without keeping it
+         * @return this builder
+         */
+        public Builder retainRdfModel(boolean retainModel) {
+            this.retainModel = retainModel;
+            return this;
+        }
 
+        public BiboDocument build() {
+            // The RDF model is built lazily, so calendar-invalid dates (e.g. Feb 29 in a
+            // non-leap year) must still be rejected here rather than on first serialization
             if (publicationDate != null) {
-                model.add(subject, DCTERMS.ISSUED, publicationDate.toLiteral(VF));
-            }
-            if (publisher != null) {
-                model.add(subject, DCTERMS.PUBLISHER, VF.createLiteral(publisher));
-            }
-            if (placeOfPublication != null) {
-                model.add(subject, DCTERMS.SPATIAL, VF.createLiteral(placeOfPublication));
+                publicationDate.toLocalDate();
             }
-
-            if (containerTitle != null) {
-                Resource container = VF.createBNode();
-                model.add(subject, DCTERMS.IS_PART_OF, container);
-                model.add(container, RDF.TYPE, BiboVocabulary.DOCUMENT);
-                model.add(container, DCTERMS.TITLE, VF.createLiteral(containerTitle));
-
-                // Add conference-specific metadata to container
-                if (conferenceLocation != null) {
-                    model.add(container, DCTERMS.SPATIAL, VF.createLiteral(conferenceLocation));
-                }
-                if (conferenceOrganizer != null) {
-                    model.add(container, BiboVocabulary.ORGANIZER, VF.createLiteral(conferenceOrganizer));
-                }
-            }
-
-            // Add thesis degree type
-            if (degreeType != null) {
-                model.add(subject, BiboVocabulary.DEGREE, VF.createLiteral(degreeType));
-            }
-
-            if (volume != null) {
-                model.add(subject, BiboVocabulary.VOLUME, VF.createLiteral(volume));
-            }
-            if (issue != null) {
-                model.add(subject, BiboVocabulary.ISSUE, VF.createLiteral(issue));
-            }
-            if (pages != null) {
-                model.add(subject, BiboVocabulary.PAGES, VF.createLiteral(pages));
-            }
-
-            identifiers.forEach(identifier -> addIdentifier(model, subject, identifier));
-
-            if (url != null) {
-                addIriOrLiteral(model, subject, FOAF.PAGE, url);
-            }
-            if (language != null) {
-                model.add(subject, DCTERMS.LANGUAGE, VF.createLiteral(language));
-            }
-            if (abstractText != null) {
-                model.add(subject, DCTERMS.ABSTRACT, VF.createLiteral(abstractText));
-            }
-            if (notes != null) {
-                model.add(subject, RDFS.COMMENT, VF.createLiteral(notes));
-            }
-            if (series != null) {
-                model.add(subject, BiboVocabulary.SERIES, VF.createLiteral(series));
-            }
-            if (edition != null) {
-                model.add(subject, BiboVocabulary.EDITION, VF.createLiteral(edition));
-            }
-            keywords.forEach(keyword ->
-                model.add(subject, DCTERMS.SUBJECT, VF.createLiteral(keyword))
-            );
-
-            return new BiboDocument(this, subject, model);
+            return new BiboDocument(this, createSubject());
         }
 
         private Resource createSubject() {
-            if (id != null) {
-                try {
-                    return VF.createIRI(id);
-                } catch (IllegalArgumentException ignored) {
-                    // fall through to blank node
-                }
+            if (id != null && isAbsoluteIri(id)) {
+                return VF.createIRI(id);
             }
             return VF.createBNode();
         }
 
-        /**
-         * Adds contributors to the model using RDF Collections for authors and editors.
-         * Authors are stored in bibo:authorList, editors in bibo:editorList, both as ordered RDF Lists.
-         * Other contributor roles (translator, advisor, reviewer) are stored as individual properties.
-         */
-        private void addContributors(Model model, Resource subject) {
-            // Group contributors by role
-            Map<BiboContributorRole, List<BiboContributor>> byRole = contributors.stream()
-                .collect(Collectors.groupingBy(BiboContributor::role));
-
-            // Process authors as RDF List
-            List<BiboContributor> authors = byRole.get(BiboContributorRole.AUTHOR);
-            if (authors != null && !authors.isEmpty()) {
-                List<Resource> authorNodes = authors.stream()
-                    .map(contributor -> createPersonNode(model, contributor.name()))
-                    .collect(Collectors.toList());
-
-                Resource authorListHead = VF.createBNode();
-                RDFCollections.asRDF(authorNodes, authorListHead, model);
-                model.add(subject, BiboVocabulary.AUTHOR_LIST, authorListHead);
-            }
-
-            // Process editors as RDF List
-            List<BiboContributor> editors = byRole.get(BiboContributorRole.EDITOR);
-            if (editors != null && !editors.isEmpty()) {
-                List<Resource> editorNodes = editors.stream()
-                    .map(contributor -> createPersonNode(model, contributor.name()))
-                    .collect(Collectors.toList());
-
-                Resource editorListHead = VF.createBNode();
-                RDFCollections.asRDF(editorNodes, editorListHead, model);
-                model.add(subject, BiboVocabulary.EDITOR_LIST, editorListHead);
-            }
-
-            // Process other roles individually (not as lists)
-            for (BiboContributorRole role : Arrays.asList(
-                    BiboContributorRole.TRANSLATOR,
-                    BiboContributorRole.ADVISOR,
-                    BiboContributorRole.REVIEWER,
-                    BiboContributorRole.CONTRIBUTOR)) {
-                List<BiboContributor> others = byRole.get(role);
-                if (others != null) {
-                    for (BiboContributor contributor : others) {
-                        Resource person = createPersonNode(model, contributor.name());
-                        model.add(subject, predicateForRole(role), person);
-                    }
-                }
-            }
-        }
-
-        /**
-         * Creates a person node in the RDF model with FOAF properties.
-         *
-         * @param model the RDF model to add statements to
-         * @param name the person's name information
-         * @return the Resource representing the person (blank node)
-         */
-        private Resource createPersonNode(Model model, BiboPersonName name) {
-            Resource person = VF.createBNode();
-            model.add(person, RDF.TYPE, FOAF.PERSON);
-            model.add(person, FOAF.NAME, VF.createLiteral(name.fullName()));
-            name.givenName().ifPresent(value ->
-                model.add(person, FOAF.GIVEN_NAME, VF.createLiteral(value)));
-            name.familyName().ifPresent(value ->
-                model.add(person, FOAF.FAMILY_NAME, VF.createLiteral(value)));
-            return person;
-        }
-
-        private void addIdentifier(Model model, Resource subject, BiboIdentifier identifier) {
-            identifier.type()
-                    .predicate()
-                    .ifPresent(predicate -> {
-                        if (predicate.equals(BiboVocabulary.URI) || predicate.equals(FOAF.PAGE)) {
-                            addIriOrLiteral(model, subject, predicate, identifier.value());
-                        } else {
-                            model.add(subject, predicate, VF.createLiteral(identifier.value()));
-                        }
-                    });
-        }
-
-        private void addIriOrLiteral(Model model, Resource subject, IRI predicate, String value) {
-            try {
-                model.add(subject, predicate, VF.createIRI(value));
-            } catch (IllegalArgumentException ex) {
-                model.add(subject, predicate, VF.createLiteral(value));
-            }
-        }
-
-        private static org.eclipse.rdf4j.model.IRI predicateForRole(BiboContributorRole role) {
-            return switch (role) {
-                case AUTHOR -> DCTERMS.CREATOR;
-                case EDITOR -> BiboVocabulary.EDITOR;
-                case TRANSLATOR -> BiboVocabulary.TRANSLATOR;
-                case ADVISOR -> BiboVocabulary.ADVISOR;
-                case REVIEWER -> BiboVocabulary.REVIEWER;
-                case CONTRIBUTOR -> DCTERMS.CONTRIBUTOR;
-            };
-        }
-
         private static String normalizeRequired(String value, String fieldName) {
             Objects.requireNonNull(value, fieldName);
             String trimmed = value.strip();
@@ -667,6 +832,10 @@ public final class BiboDocument {
             return trimmed;
         }
 
+        private static String shared(String value) {
+            return value == null ? null : SHARED_LITERALS.literal(value).getLabel();
+        }
+
         private static String normalizeOptional(String value) {
             if (value == null) {
                 return null;
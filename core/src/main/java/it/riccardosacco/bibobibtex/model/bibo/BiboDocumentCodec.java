@@ -0,0 +1,577 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.ABSTRACT;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.AFFILIATION;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONFERENCE_LOCATION;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONFERENCE_ORGANIZER;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONTAINER_TITLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONTRIBUTORS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.DATE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.DEGREE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.EDITION;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.FAMILY;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.GIVEN;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.ID;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.IDENTIFIERS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.ISSUE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.KEYWORDS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.LANGUAGE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.MIDDLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.NOTES;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PAGES;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PARTICLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PLACE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PUBLISHER;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SCALAR_FIELDS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SERIES;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SUBTITLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SUFFIX;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.URL;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.VOLUME;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.packDate;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.unpackDate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Binary encoding of BIBO documents, for caches and for handing documents to another process.
+ *
+ * <p>A stream starts with a header (magic {@code "BIBC"}, format {@link #VERSION} and a fingerprint of
+ * the document type, contributor role and identifier type constants) followed by any number of
+ * documents. Enum values are written as ordinals; the fingerprint makes a reader reject data written
+ * with a different set of constants instead of decoding them to the wrong ones. Each document is a
+ * varint length followed by the record layout of a {@link BiboSegment} record, except that every
+ * string is stored inline as length-prefixed UTF-8, so documents decode independently of each other.
+ *
+ * <p>Documents are encoded into a reusable buffer and handed to the {@link DataOutput} or
+ * {@link ByteBuffer} in one call. Instances are not thread-safe; they are cheap to create.
+ */
+public final class BiboDocumentCodec {
+    /** Version of the encoding, written in the header. */
+    public static final int VERSION = 1;
+
+    static final int MAGIC = 0x42494243;
+    static final int HEADER_BYTES = 9;
+    static final int FINGERPRINT = fingerprint();
+
+    private static final BiboDocumentType[] TYPES = BiboDocumentType.values();
+    private static final BiboContributorRole[] ROLES = BiboContributorRole.values();
+    private static final BiboIdentifierType[] IDENTIFIER_TYPES = BiboIdentifierType.values();
+    // Room left before a record for its length prefix
+    private static final int LENGTH_BYTES = 5;
+
+    private final String[] scalars = new String[SCALAR_FIELDS];
+    private byte[] buffer = new byte[1024];
+    private int count;
+    private boolean retainRdfModel = true;
+
+    /**
+     * Controls whether decoded documents keep their RDF model once built, as
+     * {@link BiboDocument.Builder#retainRdfModel(boolean)} does.
+     *
+     * @param retainModel {@code false} for decoded documents that rebuild the RDF model on demand
+     * @return this codec
+     */
+    public BiboDocumentCodec retainRdfModel(boolean retainModel) {
+        this.retainRdfModel = retainModel;
+        return this;
+    }
+
+    /**
+     * Writes the stream header.
+     *
+     * @param out destination
+     * @throws IOException if the output fails
+     */
+    public void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(FINGERPRINT);
+    }
+
+    /**
+     * Writes the stream header.
+     *
+     * @param out destination
+     * @throws java.nio.BufferOverflowException if the buffer has less than 9 bytes left
+     */
+    public void writeHeader(ByteBuffer out) {
+        out.putInt(MAGIC).put((byte) VERSION).putInt(FINGERPRINT);
+    }
+
+    /**
+     * Reads and checks the stream header.
+     *
+     * @param in source
+     * @throws IOException if the input fails, or was not written by a compatible codec
+     */
+    public void readHeader(DataInput in) throws IOException {
+        checkHeader(in.readInt(), in.readUnsignedByte(), in.readInt());
+    }
+
+    /**
+     * Reads and checks the stream header.
+     *
+     * @param in source
+     * @throws IOException if the input was not written by a compatible codec
+     */
+    public void readHeader(ByteBuffer in) throws IOException {
+        if (in.remaining() < HEADER_BYTES) {
+            throw new IOException("Truncated BIBO codec header");
+        }
+        checkHeader(in.getInt(), in.get() & 0xFF, in.getInt());
+    }
+
+    /**
+     * Encodes a document.
+     *
+     * @param document the document to encode
+     * @param out destination
+     * @throws IOException if the output fails
+     */
+    public void encode(BiboDocumentView document, DataOutput out) throws IOException {
+        int start = encodeRecord(document);
+        out.write(buffer, start, count - start);
+    }
+
+    /**
+     * Encodes a document.
+     *
+     * @param document the document to encode
+     * @param out destination
+     * @throws java.nio.BufferOverflowException if the document does not fit; nothing is written then
+     */
+    public void encode(BiboDocumentView document, ByteBuffer out) {
+        int start = encodeRecord(document);
+        out.put(buffer, start, count - start);
+    }
+
+    /**
+     * Decodes the next document.
+     *
+     * @param in source, positioned after the header
+     * @return the decoded document
+     * @throws java.io.EOFException if the input ends before the next document
+     * @throws IOException if the input fails or is corrupt
+     */
+    public BiboDocument decode(DataInput in) throws IOException {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+            if (shift >= 28) {
+                throw new IOException("Corrupt BIBO codec record length");
+            }
+        }
+        if (length <= 0) {
+            throw new IOException("Corrupt BIBO codec record length");
+        }
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+        }
+        in.readFully(buffer, 0, length);
+        return decodeRecord(ByteBuffer.wrap(buffer, 0, length));
+    }
+
+    /**
+     * Decodes the next document and advances the buffer past it.
+     *
+     * @param in source, positioned after the header
+     * @return the decoded document
+     * @throws IOException if the buffer ends before the end of the document, or is corrupt
+     */
+    public BiboDocument decode(ByteBuffer in) throws IOException {
+        int length;
+        try {
+            length = readVarint(in);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated BIBO codec record", e);
+        }
+        if (length <= 0 || length > in.remaining()) {
+            throw new IOException("Truncated or corrupt BIBO codec record");
+        }
+        ByteBuffer record = in.slice(in.position(), length);
+        in.position(in.position() + length);
+        return decodeRecord(record);
+    }
+
+    /**
+     * Encodes a document with its own header, for example as a cache value.
+     *
+     * @param document the document to encode
+     * @return the header and the document
+     */
+    public byte[] toBytes(BiboDocumentView document) {
+        int start = encodeRecord(document);
+        ByteBuffer bytes = ByteBuffer.allocate(HEADER_BYTES + count - start);
+        writeHeader(bytes);
+        bytes.put(buffer, start, count - start);
+        return bytes.array();
+    }
+
+    /**
+     * Decodes a document encoded by {@link #toBytes(BiboDocumentView)}.
+     *
+     * @param bytes the header and the document
+     * @return the decoded document
+     * @throws IOException if the bytes are not a complete, compatible encoding
+     */
+    public BiboDocument fromBytes(byte[] bytes) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        readHeader(in);
+        BiboDocument document = decode(in);
+        if (in.hasRemaining()) {
+            throw new IOException("Trailing bytes after BIBO codec record");
+        }
+        return document;
+    }
+
+    /**
+     * Encodes a document into {@link #buffer} after room for its length, then writes the length in front.
+     *
+     * @return the offset of the length prefix; the record ends at {@link #count}
+     */
+    private int encodeRecord(BiboDocumentView document) {
+        Objects.requireNonNull(document, "document");
+        scalars[ID] = document.id().orElse(null);
+        scalars[SUBTITLE] = document.subtitle().orElse(null);
+        scalars[PUBLISHER] = document.publisher().orElse(null);
+        scalars[PLACE] = document.placeOfPublication().orElse(null);
+        scalars[CONFERENCE_LOCATION] = document.conferenceLocation().orElse(null);
+        scalars[CONFERENCE_ORGANIZER] = document.conferenceOrganizer().orElse(null);
+        scalars[DEGREE] = document.degreeType().orElse(null);
+        scalars[CONTAINER_TITLE] = document.containerTitle().orElse(null);
+        scalars[VOLUME] = document.volume().orElse(null);
+        scalars[ISSUE] = document.issue().orElse(null);
+        scalars[PAGES] = document.pages().orElse(null);
+        scalars[URL] = document.url().orElse(null);
+        scalars[LANGUAGE] = document.language().orElse(null);
+        scalars[ABSTRACT] = document.abstractText().orElse(null);
+        scalars[NOTES] = document.notes().orElse(null);
+        scalars[SERIES] = document.series().orElse(null);
+        scalars[EDITION] = document.edition().orElse(null);
+        BiboPublicationDate date = document.publicationDate().orElse(null);
+        List<BiboContributor> contributors = document.contributors();
+        List<BiboIdentifier> identifiers = document.identifiers();
+        List<String> keywords = document.keywords();
+
+        int present = 0;
+        for (int field = 0; field < SCALAR_FIELDS; field++) {
+            if (scalars[field] != null) {
+                present |= 1 << field;
+            }
+        }
+        present |= date == null ? 0 : 1 << DATE;
+        present |= contributors.isEmpty() ? 0 : 1 << CONTRIBUTORS;
+        present |= identifiers.isEmpty() ? 0 : 1 << IDENTIFIERS;
+        present |= keywords.isEmpty() ? 0 : 1 << KEYWORDS;
+
+        count = LENGTH_BYTES;
+        ensure(1 + 2 * LENGTH_BYTES);
+        buffer[count++] = (byte) document.type().ordinal();
+        putVarint(present);
+        putText(document.title());
+        for (int field = 0; field < SCALAR_FIELDS; field++) {
+            if (scalars[field] != null) {
+                putText(scalars[field]);
+            }
+        }
+        if (date != null) {
+            putVarint(packDate(date));
+        }
+        if (!contributors.isEmpty()) {
+            putVarint(contributors.size());
+            for (BiboContributor contributor : contributors) {
+                putContributor(contributor);
+            }
+        }
+        if (!identifiers.isEmpty()) {
+            putVarint(identifiers.size());
+            for (BiboIdentifier identifier : identifiers) {
+                ensure(1);
+                buffer[count++] = (byte) identifier.type().ordinal();
+                putText(identifier.value());
+            }
+        }
+        if (!keywords.isEmpty()) {
+            putVarint(keywords.size());
+            for (String keyword : keywords) {
+                putText(keyword);
+            }
+        }
+
+        int length = count - LENGTH_BYTES;
+        int start = LENGTH_BYTES - varintSize(length);
+        int end = count;
+        count = start;
+        putVarint(length);
+        count = end;
+        return start;
+    }
+
+    private void putContributor(BiboContributor contributor) {
+        BiboPersonName name = contributor.name();
+        String given = name.givenName().orElse(null);
+        String middle = name.middleName().orElse(null);
+        String particle = name.nameParticle().orElse(null);
+        String family = name.familyName().orElse(null);
+        String suffix = name.suffix().orElse(null);
+        String affiliation = contributor.affiliation().orElse(null);
+        int parts = (given == null ? 0 : GIVEN)
+                | (middle == null ? 0 : MIDDLE)
+                | (particle == null ? 0 : PARTICLE)
+                | (family == null ? 0 : FAMILY)
+                | (suffix == null ? 0 : SUFFIX)
+                | (affiliation == null ? 0 : AFFILIATION);
+
+        ensure(2);
+        buffer[count++] = (byte) contributor.role().ordinal();
+        buffer[count++] = (byte) parts;
+        putText(name.fullName());
+        putOptionalText(given);
+        putOptionalText(middle);
+        putOptionalText(particle);
+        putOptionalText(family);
+        putOptionalText(suffix);
+        putOptionalText(affiliation);
+    }
+
+    private void putOptionalText(String value) {
+        if (value != null) {
+            putText(value);
+        }
+    }
+
+    /**
+     * Writes the UTF-8 length and bytes of a string, encoding unpaired surrogates as {@code '?'} like
+     * {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private void putText(String value) {
+        int length = value.length();
+        int bytes = 0;
+        boolean ascii = true;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+                continue;
+            }
+            ascii = false;
+            if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        ensure(LENGTH_BYTES + bytes);
+        putVarint(bytes);
+        if (ascii) {
+            for (int i = 0; i < length; i++) {
+                buffer[count++] = (byte) value.charAt(i);
+            }
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[count++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | c >> 6);
+                buffer[count++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[count++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[count++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[count++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[count++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xE0 | c >> 12);
+                buffer[count++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[count++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    private void putVarint(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[count++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[count++] = (byte) value;
+    }
+
+    private void ensure(int bytes) {
+        if (count + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(count + bytes, buffer.length * 2));
+        }
+    }
+
+    private static int varintSize(int value) {
+        return value < 1 << 7 ? 1 : value < 1 << 14 ? 2 : value < 1 << 21 ? 3 : value < 1 << 28 ? 4 : 5;
+    }
+
+    private BiboDocument decodeRecord(ByteBuffer in) throws IOException {
+        try {
+            BiboDocumentType type = TYPES[in.get()];
+            int present = readVarint(in);
+            BiboDocument.Builder builder = BiboDocument.builder(type, readText(in)).retainRdfModel(retainRdfModel);
+            String[] values = new String[SCALAR_FIELDS];
+            for (int field = 0; field < SCALAR_FIELDS; field++) {
+                if ((present & 1 << field) != 0) {
+                    values[field] = readText(in);
+                }
+            }
+            builder.id(values[ID])
+                    .subtitle(values[SUBTITLE])
+                    .publisher(values[PUBLISHER])
+                    .placeOfPublication(values[PLACE])
+                    .conferenceLocation(values[CONFERENCE_LOCATION])
+                    .conferenceOrganizer(values[CONFERENCE_ORGANIZER])
+                    .degreeType(values[DEGREE])
+                    .containerTitle(values[CONTAINER_TITLE])
+                    .volume(values[VOLUME])
+                    .issue(values[ISSUE])
+                    .pages(values[PAGES])
+                    .url(values[URL])
+                    .language(values[LANGUAGE])
+                    .abstractText(values[ABSTRACT])
+                    .notes(values[NOTES])
+                    .series(values[SERIES])
+                    .edition(values[EDITION]);
+            if ((present & 1 << DATE) != 0) {
+                builder.publicationDate(unpackDate(readVarlong(in)));
+            }
+            if ((present & 1 << CONTRIBUTORS) != 0) {
+                int size = readVarint(in);
+                List<BiboContributor> contributors = new ArrayList<>(Math.min(size, in.remaining()));
+                for (int i = 0; i < size; i++) {
+                    contributors.add(readContributor(in));
+                }
+                builder.contributors(contributors);
+            }
+            if ((present & 1 << IDENTIFIERS) != 0) {
+                int size = readVarint(in);
+                List<BiboIdentifier> identifiers = new ArrayList<>(Math.min(size, in.remaining()));
+                for (int i = 0; i < size; i++) {
+                    BiboIdentifierType identifierType = IDENTIFIER_TYPES[in.get()];
+                    identifiers.add(new BiboIdentifier(identifierType, readText(in)));
+                }
+                builder.identifiers(identifiers);
+            }
+            if ((present & 1 << KEYWORDS) != 0) {
+                int size = readVarint(in);
+                List<String> keywords = new ArrayList<>(Math.min(size, in.remaining()));
+                for (int i = 0; i < size; i++) {
+                    keywords.add(readText(in));
+                }
+                builder.keywords(keywords);
+            }
+            if (in.hasRemaining()) {
+                throw new IOException("Corrupt BIBO codec record: " + in.remaining() + " unread bytes");
+            }
+            return builder.build();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt BIBO codec record", e);
+        }
+    }
+
+    private static BiboContributor readContributor(ByteBuffer in) {
+        BiboContributorRole role = ROLES[in.get()];
+        int parts = in.get() & 0xFF;
+        BiboPersonName.Builder name = BiboPersonName.builder(readText(in));
+        if ((parts & GIVEN) != 0) {
+            name.givenName(readText(in));
+        }
+        if ((parts & MIDDLE) != 0) {
+            name.middleName(readText(in));
+        }
+        if ((parts & PARTICLE) != 0) {
+            name.nameParticle(readText(in));
+        }
+        if ((parts & FAMILY) != 0) {
+            name.familyName(readText(in));
+        }
+        if ((parts & SUFFIX) != 0) {
+            name.suffix(readText(in));
+        }
+        String affiliation = (parts & AFFILIATION) != 0 ? readText(in) : null;
+        return new BiboContributor(name.build(), role, affiliation);
+    }
+
+    private static String readText(ByteBuffer in) {
+        int length = readVarint(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(in.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        return (int) readVarlong(in);
+    }
+
+    private static long readVarlong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+
+    private static void checkHeader(int magic, int version, int fingerprint) throws IOException {
+        if (magic != MAGIC) {
+            throw new IOException("Not BIBO codec data");
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported BIBO codec version " + version);
+        }
+        if (fingerprint != FINGERPRINT) {
+            throw new IOException("BIBO codec data was written with different enum constants");
+        }
+    }
+
+    private static int fingerprint() {
+        CRC32 crc = new CRC32();
+        String schema = Stream.of(BiboDocumentType.values(), BiboContributorRole.values(), BiboIdentifierType.values())
+                .map(constants -> Arrays.stream(constants).map(Enum::name).collect(Collectors.joining(",")))
+                .collect(Collectors.joining("|"));
+        crc.update(schema.getBytes(StandardCharsets.UTF_8));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,466 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, column-oriented store for large collections of BIBO documents.
+ *
+ * <p>Each field is kept in its own array indexed by row. Fields whose values repeat across a corpus
+ * (language, publisher, container title, place, conference, degree, volume, issue, series, edition,
+ * keywords) and contributors are dictionary-encoded to {@code int} codes; document types and identifier
+ * types are stored as enum ordinals and publication dates as packed {@code int}s. Contributors,
+ * identifiers and keywords of row {@code r} occupy the range {@code offsets[r]..offsets[r + 1]} of shared
+ * child columns. No RDF model is kept.
+ *
+ * <p>{@link #get(int)} returns a flyweight {@link BiboDocumentView} over a row that decodes fields on
+ * access; {@link #document(int)} materializes a {@link BiboDocument}. A document without an IRI
+ * identifier gets a new blank node each time it is materialized.
+ *
+ * <p>Tables are not thread-safe while being filled. Once filled, they can be read from several threads.
+ */
+public final class BiboDocumentTable implements Iterable<BiboDocumentView> {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final BiboDocumentType[] TYPES = BiboDocumentType.values();
+    private static final BiboIdentifierType[] IDENTIFIER_TYPES = BiboIdentifierType.values();
+
+    // Free-text columns, one String per row
+    private static final int ID = 0;
+    private static final int TITLE = 1;
+    private static final int SUBTITLE = 2;
+    private static final int PAGES = 3;
+    private static final int URL = 4;
+    private static final int ABSTRACT = 5;
+    private static final int NOTES = 6;
+    private static final int TEXT_COLUMNS = 7;
+
+    // Dictionary-encoded columns, one code per row
+    private static final int PUBLISHER = 0;
+    private static final int PLACE = 1;
+    private static final int CONFERENCE_LOCATION = 2;
+    private static final int CONFERENCE_ORGANIZER = 3;
+    private static final int DEGREE = 4;
+    private static final int CONTAINER_TITLE = 5;
+    private static final int VOLUME = 6;
+    private static final int ISSUE = 7;
+    private static final int LANGUAGE = 8;
+    private static final int SERIES = 9;
+    private static final int EDITION = 10;
+    private static final int CODED_COLUMNS = 11;
+
+    // Packed dates: year << 9 | month << 5 | day, with 0 for an absent month or day
+    private static final int NO_DATE = 0;
+    private static final int MAX_PACKED_YEAR = (1 << 22) - 1;
+
+    private final ValueDictionary<String> strings = new ValueDictionary<>();
+    private final ValueDictionary<BiboContributor> contributors = new ValueDictionary<>();
+    // Dates whose year does not fit the packed layout; referenced by -(index + 1)
+    private final List<BiboPublicationDate> wideDates = new ArrayList<>();
+
+    private int size;
+    private byte[] types;
+    private int[] dates;
+    private final String[][] text = new String[TEXT_COLUMNS][];
+    private final int[][] coded = new int[CODED_COLUMNS][];
+    private int[] contributorOffsets;
+    private int[] identifierOffsets;
+    private int[] keywordOffsets;
+
+    private int[] contributorCodes = new int[DEFAULT_CAPACITY];
+    private int contributorCount;
+    private byte[] identifierTypes = new byte[DEFAULT_CAPACITY];
+    private String[] identifierValues = new String[DEFAULT_CAPACITY];
+    private int identifierCount;
+    private int[] keywordCodes = new int[DEFAULT_CAPACITY];
+    private int keywordCount;
+
+    public BiboDocumentTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of documents to allocate room for
+     */
+    public BiboDocumentTable(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative");
+        }
+        resize(initialCapacity);
+    }
+
+    /**
+     * Returns a collector that appends documents to a new table, for example
+     * {@code converter.convertStream(entries).collect(BiboDocumentTable.collector())}.
+     * Parallel streams fill one table per thread and append them in encounter order.
+     */
+    public static Collector<BiboDocumentView, ?, BiboDocumentTable> collector() {
+        return Collector.of(BiboDocumentTable::new, BiboDocumentTable::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /**
+     * Appends a document, or a row of another table.
+     *
+     * @param document the document to append
+     * @return the row index of the appended document
+     */
+    public int add(BiboDocumentView document) {
+        Objects.requireNonNull(document, "document");
+        if (size == types.length) {
+            resize(Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        int row = size;
+        types[row] = (byte) document.type().ordinal();
+        dates[row] = packDate(document.publicationDate().orElse(null));
+
+        text[ID][row] = document.id().orElse(null);
+        text[TITLE][row] = document.title();
+        text[SUBTITLE][row] = document.subtitle().orElse(null);
+        text[PAGES][row] = document.pages().orElse(null);
+        text[URL][row] = document.url().orElse(null);
+        text[ABSTRACT][row] = document.abstractText().orElse(null);
+        text[NOTES][row] = document.notes().orElse(null);
+
+        coded[PUBLISHER][row] = strings.encode(document.publisher().orElse(null));
+        coded[PLACE][row] = strings.encode(document.placeOfPublication().orElse(null));
+        coded[CONFERENCE_LOCATION][row] = strings.encode(document.conferenceLocation().orElse(null));
+        coded[CONFERENCE_ORGANIZER][row] = strings.encode(document.conferenceOrganizer().orElse(null));
+        coded[DEGREE][row] = strings.encode(document.degreeType().orElse(null));
+        coded[CONTAINER_TITLE][row] = strings.encode(document.containerTitle().orElse(null));
+        coded[VOLUME][row] = strings.encode(document.volume().orElse(null));
+        coded[ISSUE][row] = strings.encode(document.issue().orElse(null));
+        coded[LANGUAGE][row] = strings.encode(document.language().orElse(null));
+        coded[SERIES][row] = strings.encode(document.series().orElse(null));
+        coded[EDITION][row] = strings.encode(document.edition().orElse(null));
+
+        for (BiboContributor contributor : document.contributors()) {
+            if (contributorCount == contributorCodes.length) {
+                contributorCodes = Arrays.copyOf(contributorCodes, grown(contributorCount));
+            }
+            contributorCodes[contributorCount++] = contributors.encode(contributor);
+        }
+        contributorOffsets[row + 1] = contributorCount;
+
+        for (BiboIdentifier identifier : document.identifiers()) {
+            if (identifierCount == identifierTypes.length) {
+                identifierTypes = Arrays.copyOf(identifierTypes, grown(identifierCount));
+                identifierValues = Arrays.copyOf(identifierValues, grown(identifierCount));
+            }
+            identifierTypes[identifierCount] = (byte) identifier.type().ordinal();
+            identifierValues[identifierCount++] = identifier.value();
+        }
+        identifierOffsets[row + 1] = identifierCount;
+
+        for (String keyword : document.keywords()) {
+            if (keywordCount == keywordCodes.length) {
+                keywordCodes = Arrays.copyOf(keywordCodes, grown(keywordCount));
+            }
+            keywordCodes[keywordCount++] = strings.encode(keyword);
+        }
+        keywordOffsets[row + 1] = keywordCount;
+
+        size++;
+        return row;
+    }
+
+    /**
+     * Appends every row of another table, in order.
+     *
+     * @param other the table to append
+     */
+    public void addAll(BiboDocumentTable other) {
+        Objects.requireNonNull(other, "other");
+        int rows = other.size;
+        for (int row = 0; row < rows; row++) {
+            add(other.get(row));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a view of a row. Views are cheap to create and read through to the table.
+     *
+     * @param row the row index
+     * @return a view of the row
+     */
+    public BiboDocumentView get(int row) {
+        return new Row(Objects.checkIndex(row, size));
+    }
+
+    /**
+     * Materializes a row as a {@link BiboDocument}.
+     *
+     * @param row the row index
+     * @return a document equal to the one that was added at {@code row}
+     */
+    public BiboDocument document(int row) {
+        return BiboDocument.copyOf(get(row));
+    }
+
+    public Stream<BiboDocumentView> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public Iterator<BiboDocumentView> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public BiboDocumentView next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return new Row(next++);
+            }
+        };
+    }
+
+    /**
+     * Shrinks the columns to the current number of rows.
+     */
+    public void trimToSize() {
+        resize(size);
+        contributorCodes = Arrays.copyOf(contributorCodes, contributorCount);
+        identifierTypes = Arrays.copyOf(identifierTypes, identifierCount);
+        identifierValues = Arrays.copyOf(identifierValues, identifierCount);
+        keywordCodes = Arrays.copyOf(keywordCodes, keywordCount);
+    }
+
+    private static int grown(int length) {
+        // trimToSize() may leave a value column empty
+        return Math.max(DEFAULT_CAPACITY, length + (length >> 1));
+    }
+
+    private void resize(int capacity) {
+        if (types == null) {
+            types = new byte[capacity];
+            dates = new int[capacity];
+            Arrays.setAll(text, column -> new String[capacity]);
+            Arrays.setAll(coded, column -> new int[capacity]);
+            contributorOffsets = new int[capacity + 1];
+            identifierOffsets = new int[capacity + 1];
+            keywordOffsets = new int[capacity + 1];
+            return;
+        }
+        types = Arrays.copyOf(types, capacity);
+        dates = Arrays.copyOf(dates, capacity);
+        Arrays.setAll(text, column -> Arrays.copyOf(text[column], capacity));
+        Arrays.setAll(coded, column -> Arrays.copyOf(coded[column], capacity));
+        contributorOffsets = Arrays.copyOf(contributorOffsets, capacity + 1);
+        identifierOffsets = Arrays.copyOf(identifierOffsets, capacity + 1);
+        keywordOffsets = Arrays.copyOf(keywordOffsets, capacity + 1);
+    }
+
+    private int packDate(BiboPublicationDate date) {
+        if (date == null) {
+            return NO_DATE;
+        }
+        if (date.year() > MAX_PACKED_YEAR) {
+            wideDates.add(date);
+            return -wideDates.size();
+        }
+        return date.year() << 9 | date.month().orElse(0) << 5 | date.day().orElse(0);
+    }
+
+    private BiboPublicationDate unpackDate(int packed) {
+        if (packed == NO_DATE) {
+            return null;
+        }
+        if (packed < 0) {
+            return wideDates.get(-packed - 1);
+        }
+        int year = packed >>> 9;
+        int month = packed >>> 5 & 0xF;
+        int day = packed & 0x1F;
+        if (month == 0) {
+            return BiboPublicationDate.ofYear(year);
+        }
+        return day == 0
+                ? BiboPublicationDate.ofYearMonth(year, month)
+                : BiboPublicationDate.ofFullDate(year, month, day);
+    }
+
+    private static <T> List<T> slice(int[] offsets, int row, IntFunction<T> element) {
+        int from = offsets[row];
+        int length = offsets[row + 1] - from;
+        if (length == 0) {
+            return List.of();
+        }
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return element.apply(from + Objects.checkIndex(index, length));
+            }
+
+            @Override
+            public int size() {
+                return length;
+            }
+        };
+    }
+
+    /**
+     * Flyweight view of one row.
+     */
+    private final class Row implements BiboDocumentView {
+        private final int row;
+
+        Row(int row) {
+            this.row = row;
+        }
+
+        private Optional<String> text(int column) {
+            return Optional.ofNullable(text[column][row]);
+        }
+
+        private Optional<String> coded(int column) {
+            return Optional.ofNullable(strings.decode(coded[column][row]));
+        }
+
+        @Override
+        public Optional<String> id() {
+            return text(ID);
+        }
+
+        @Override
+        public BiboDocumentType type() {
+            return TYPES[types[row]];
+        }
+
+        @Override
+        public String title() {
+            return text[TITLE][row];
+        }
+
+        @Override
+        public Optional<String> subtitle() {
+            return text(SUBTITLE);
+        }
+
+        @Override
+        public List<BiboContributor> contributors() {
+            return slice(contributorOffsets, row, index -> contributors.decode(contributorCodes[index]));
+        }
+
+        @Override
+        public Optional<BiboPublicationDate> publicationDate() {
+            return Optional.ofNullable(unpackDate(dates[row]));
+        }
+
+        @Override
+        public Optional<String> publisher() {
+            return coded(PUBLISHER);
+        }
+
+        @Override
+        public Optional<String> placeOfPublication() {
+            return coded(PLACE);
+        }
+
+        @Override
+        public Optional<String> conferenceLocation() {
+            return coded(CONFERENCE_LOCATION);
+        }
+
+        @Override
+        public Optional<String> conferenceOrganizer() {
+            return coded(CONFERENCE_ORGANIZER);
+        }
+
+        @Override
+        public Optional<String> degreeType() {
+            return coded(DEGREE);
+        }
+
+        @Override
+        public Optional<String> containerTitle() {
+            return coded(CONTAINER_TITLE);
+        }
+
+        @Override
+        public Optional<String> volume() {
+            return coded(VOLUME);
+        }
+
+        @Override
+        public Optional<String> issue() {
+            return coded(ISSUE);
+        }
+
+        @Override
+        public Optional<String> pages() {
+            return text(PAGES);
+        }
+
+        @Override
+        public List<BiboIdentifier> identifiers() {
+            return slice(identifierOffsets, row, index ->
+                    new BiboIdentifier(IDENTIFIER_TYPES[identifierTypes[index]], identifierValues[index]));
+        }
+
+        @Override
+        public Optional<String> url() {
+            return text(URL);
+        }
+
+        @Override
+        public Optional<String> language() {
+            return coded(LANGUAGE);
+        }
+
+        @Override
+        public Optional<String> abstractText() {
+            return text(ABSTRACT);
+        }
+
+        @Override
+        public Optional<String> notes() {
+            return text(NOTES);
+        }
+
+        @Override
+        public Optional<String> series() {
+            return coded(SERIES);
+        }
+
+        @Override
+        public Optional<String> edition() {
+            return coded(EDITION);
+        }
+
+        @Override
+        public List<String> keywords() {
+            return slice(keywordOffsets, row, index -> strings.decode(keywordCodes[index]));
+        }
+
+        @Override
+        public String toString() {
+            return "BiboDocumentTable.Row[" + row + ", " + title() + "]";
+        }
+    }
+}
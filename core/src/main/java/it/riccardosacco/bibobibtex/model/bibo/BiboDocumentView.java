@@ -0,0 +1,73 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Read-only accessors of a BIBO document, shared by {@link BiboDocument} and the row views of a
+ * {@link BiboDocumentTable}.
+ */
+public interface BiboDocumentView {
+    Optional<String> id();
+
+    BiboDocumentType type();
+
+    String title();
+
+    Optional<String> subtitle();
+
+    List<BiboContributor> contributors();
+
+    default List<BiboContributor> contributorsByRole(BiboContributorRole role) {
+        Objects.requireNonNull(role, "role");
+        return contributors().stream()
+                .filter(contributor -> contributor.role() == role)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    default List<BiboContributor> authors() {
+        return contributorsByRole(BiboContributorRole.AUTHOR);
+    }
+
+    default List<BiboContributor> editors() {
+        return contributorsByRole(BiboContributorRole.EDITOR);
+    }
+
+    Optional<BiboPublicationDate> publicationDate();
+
+    Optional<String> publisher();
+
+    Optional<String> placeOfPublication();
+
+    Optional<String> conferenceLocation();
+
+    Optional<String> conferenceOrganizer();
+
+    Optional<String> degreeType();
+
+    Optional<String> containerTitle();
+
+    Optional<String> volume();
+
+    Optional<String> issue();
+
+    Optional<String> pages();
+
+    List<BiboIdentifier> identifiers();
+
+    Optional<String> url();
+
+    Optional<String> language();
+
+    Optional<String> abstractText();
+
+    Optional<String> notes();
+
+    Optional<String> series();
+
+    Optional<String> edition();
+
+    List<String> keywords();
+}
@@ -0,0 +1,349 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
+import org.eclipse.rdf4j.model.vocabulary.FOAF;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+
+/**
+ * Writes BIBO documents as N-Triples, or as N-Quads when a graph is given, directly into a byte buffer.
+ *
+ * <p>The output is byte for byte what Rio's N-Triples writer produces with its default settings, but
+ * the statements are generated from the document fields without creating statement objects, the IRIs
+ * of the vocabularies used by {@link BiboDocument} are encoded once per JVM, and literals are escaped
+ * through a lookup table while they are encoded to UTF-8. Bytes reach the underlying stream only when
+ * the buffer is full or on {@link #flush()}.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class BiboNTriplesWriter implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] HEX_UPPER = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_LOWER = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] STATEMENT_END = {' ', '.', '\n'};
+    private static final byte[] GENID = {'g', 'e', 'n', 'i', 'd'};
+    // Escape character for each ASCII code in a literal label, 0 when the character is written as is
+    private static final byte[] LITERAL_ESCAPES = new byte[128];
+    // Characters below U+00A0 that are percent-encoded in IRIs
+    private static final boolean[] IRI_ESCAPES = new boolean[160];
+    private static final Map<IRI, byte[]> VOCABULARY;
+
+    static {
+        LITERAL_ESCAPES['\\'] = '\\';
+        LITERAL_ESCAPES['"'] = '"';
+        LITERAL_ESCAPES['\n'] = 'n';
+        LITERAL_ESCAPES['\r'] = 'r';
+        LITERAL_ESCAPES['\t'] = 't';
+
+        String unescaped = "!#$%&'()*+,-./:;=?@[]_~";
+        for (char c = 0; c < IRI_ESCAPES.length; c++) {
+            IRI_ESCAPES[c] = !isLetterOrDigit(c) && unescaped.indexOf(c) < 0;
+        }
+
+        Map<IRI, byte[]> vocabulary = new HashMap<>();
+        Stream.of(
+                        Stream.of(RDF.TYPE, RDF.FIRST, RDF.REST, RDF.NIL, RDF.LANGSTRING, RDFS.COMMENT),
+                        Stream.of(DCTERMS.TITLE, DCTERMS.IDENTIFIER, DCTERMS.CREATOR, DCTERMS.CONTRIBUTOR,
+                                DCTERMS.ISSUED, DCTERMS.PUBLISHER, DCTERMS.SPATIAL, DCTERMS.IS_PART_OF,
+                                DCTERMS.LANGUAGE, DCTERMS.ABSTRACT, DCTERMS.SUBJECT),
+                        Stream.of(FOAF.PERSON, FOAF.NAME, FOAF.GIVEN_NAME, FOAF.FAMILY_NAME, FOAF.PAGE),
+                        Stream.of(BiboVocabulary.DOCUMENT, BiboVocabulary.SUBTITLE, BiboVocabulary.VOLUME,
+                                BiboVocabulary.ISSUE, BiboVocabulary.PAGES, BiboVocabulary.SERIES,
+                                BiboVocabulary.EDITION, BiboVocabulary.EDITOR, BiboVocabulary.TRANSLATOR,
+                                BiboVocabulary.ADVISOR, BiboVocabulary.REVIEWER, BiboVocabulary.AUTHOR_LIST,
+                                BiboVocabulary.EDITOR_LIST, BiboVocabulary.ORGANIZER, BiboVocabulary.DEGREE),
+                        Arrays.stream(BiboDocumentType.values()).map(BiboDocumentType::iri),
+                        Arrays.stream(BiboIdentifierType.values()).flatMap(type -> type.predicate().stream()),
+                        Stream.of(XSD.STRING, XSD.DATE, XSD.GYEAR, XSD.GYEARMONTH))
+                .flatMap(iris -> iris)
+                .forEach(iri -> vocabulary.computeIfAbsent(iri, BiboNTriplesWriter::encode));
+        VOCABULARY = Map.copyOf(vocabulary);
+    }
+
+    private final OutputStream out;
+    private final byte[] graph;
+    private final byte[] buffer;
+    private final Map<IRI, byte[]> predicates = new HashMap<>();
+    private int count;
+
+    /**
+     * Creates a writer producing N-Triples.
+     *
+     * @param out the destination stream
+     */
+    public BiboNTriplesWriter(OutputStream out) {
+        this(Objects.requireNonNull(out, "out"), null, BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer producing N-Quads, with every statement placed in {@code graph}.
+     *
+     * @param out   the destination stream
+     * @param graph the graph of the written statements
+     */
+    public BiboNTriplesWriter(OutputStream out, Resource graph) {
+        this(Objects.requireNonNull(out, "out"), encode(Objects.requireNonNull(graph, "graph")), BUFFER_SIZE);
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Writer wraps the caller's stream by design")
+    private BiboNTriplesWriter(OutputStream out, byte[] graph, int bufferSize) {
+        this.out = out;
+        this.graph = graph;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Writes the statements describing a document, in the order {@link BiboDocument#emitTo} produces them.
+     *
+     * @param document the document to write
+     * @throws IOException if the underlying stream fails
+     */
+    public void write(BiboDocument document) throws IOException {
+        Objects.requireNonNull(document, "document");
+        try {
+            document.forEachStatement(this::writeStatement);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void writeStatement(Resource subject, IRI predicate, Value object) {
+        writeValue(subject);
+        writeByte(' ');
+        byte[] encoded = VOCABULARY.get(predicate);
+        if (encoded == null) {
+            encoded = predicates.computeIfAbsent(predicate, BiboNTriplesWriter::encode);
+        }
+        writeBytes(encoded);
+        writeByte(' ');
+        writeValue(object);
+        if (graph != null) {
+            writeByte(' ');
+            writeBytes(graph);
+        }
+        writeBytes(STATEMENT_END);
+    }
+
+    private void writeValue(Value value) {
+        if (value instanceof IRI iri) {
+            byte[] encoded = VOCABULARY.get(iri);
+            if (encoded != null) {
+                writeBytes(encoded);
+            } else {
+                writeIri(iri.stringValue());
+            }
+        } else if (value instanceof BNode bnode) {
+            writeBNode(bnode);
+        } else if (value instanceof Literal literal) {
+            writeLiteral(literal);
+        } else {
+            throw new IllegalArgumentException("Unknown value type: " + value.getClass());
+        }
+    }
+
+    private void writeIri(String iri) {
+        writeByte('<');
+        for (int i = 0, length = iri.length(); i < length; i++) {
+            char c = iri.charAt(i);
+            if (c < IRI_ESCAPES.length && IRI_ESCAPES[c]) {
+                ensureCapacity(3);
+                buffer[count++] = '%';
+                if (c >= 0x10) {
+                    buffer[count++] = HEX_UPPER[c >> 4];
+                }
+                buffer[count++] = HEX_UPPER[c & 0xF];
+            } else {
+                i = writeChar(iri, i, c);
+            }
+        }
+        writeByte('>');
+    }
+
+    private void writeBNode(BNode bnode) {
+        String id = bnode.getID();
+        ensureCapacity(2);
+        buffer[count++] = '_';
+        buffer[count++] = ':';
+        if (id.isEmpty()) {
+            writeBytes(GENID);
+            writeHex(bnode.hashCode(), HEX_LOWER);
+            return;
+        }
+        if (!isLetter(id.charAt(0))) {
+            writeBytes(GENID);
+            writeHex(id.charAt(0), HEX_LOWER);
+        }
+        for (int i = 0, length = id.length(); i < length; i++) {
+            char c = id.charAt(i);
+            if (isLetterOrDigit(c)) {
+                writeByte(c);
+            } else {
+                writeHex(c, HEX_LOWER);
+            }
+        }
+    }
+
+    private void writeLiteral(Literal literal) {
+        String label = literal.getLabel();
+        writeByte('"');
+        for (int i = 0, length = label.length(); i < length; i++) {
+            char c = label.charAt(i);
+            byte escape = c < LITERAL_ESCAPES.length ? LITERAL_ESCAPES[c] : 0;
+            if (escape != 0) {
+                ensureCapacity(2);
+                buffer[count++] = '\\';
+                buffer[count++] = escape;
+            } else {
+                i = writeChar(label, i, c);
+            }
+        }
+        writeByte('"');
+        if (literal.getLanguage().isPresent()) {
+            writeByte('@');
+            String language = literal.getLanguage().get();
+            for (int i = 0, length = language.length(); i < length; i++) {
+                i = writeChar(language, i, language.charAt(i));
+            }
+        } else if (!XSD.STRING.equals(literal.getDatatype())) {
+            writeByte('^');
+            writeByte('^');
+            writeValue(literal.getDatatype());
+        }
+    }
+
+    /**
+     * Encodes one character as UTF-8, consuming the low surrogate of a pair.
+     * Unpaired surrogates become {@code '?'}, as with the JDK encoder behind Rio's writer.
+     *
+     * @return the index of the last character consumed
+     */
+    private int writeChar(String text, int index, char c) {
+        ensureCapacity(4);
+        byte[] buf = buffer;
+        if (c < 0x80) {
+            buf[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buf[count++] = (byte) (0xC0 | c >> 6);
+            buf[count++] = (byte) (0x80 | c & 0x3F);
+        } else if (!Character.isSurrogate(c)) {
+            buf[count++] = (byte) (0xE0 | c >> 12);
+            buf[count++] = (byte) (0x80 | c >> 6 & 0x3F);
+            buf[count++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(index + 1));
+            buf[count++] = (byte) (0xF0 | codePoint >> 18);
+            buf[count++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            buf[count++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            buf[count++] = (byte) (0x80 | codePoint & 0x3F);
+            return index + 1;
+        } else {
+            buf[count++] = '?';
+        }
+        return index;
+    }
+
+    private void writeHex(int value, byte[] digits) {
+        ensureCapacity(8);
+        int shift = Math.max(0, (31 - Integer.numberOfLeadingZeros(value)) & ~3);
+        for (; shift >= 0; shift -= 4) {
+            buffer[count++] = digits[value >>> shift & 0xF];
+        }
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        if (bytes.length > buffer.length - count) {
+            drain();
+            if (bytes.length > buffer.length) {
+                try {
+                    out.write(bytes);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (buffer.length - count < length) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        try {
+            writeBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private static byte[] encode(Value value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        BiboNTriplesWriter writer = new BiboNTriplesWriter(bytes, null, 256);
+        if (value instanceof IRI iri) {
+            writer.writeIri(iri.stringValue());
+        } else {
+            writer.writeValue(value);
+        }
+        writer.drain();
+        return bytes.toByteArray();
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+}
@@ -0,0 +1,506 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Read-only view of a segment file written by {@link BiboSegmentWriter}, mapped into memory.
+ *
+ * <p>A segment is laid out as a fixed header, one record per document, a string table and two
+ * {@code int} indexes:
+ * <pre>
+ * header     magic "BIBO", version, reserved, document count, string count,
+ *            offset of the string index, offset of the record index
+ * record     type ordinal, varint mask of present fields, title, then each present field in order
+ * strings    varint length and UTF-8 bytes of each repeated value
+ * indexes    offset of each string, offset of each record
+ * </pre>
+ * Free text (titles, ids, pages, URLs, abstracts, notes, identifier values) is stored inline as a
+ * length-prefixed UTF-8 string; values that repeat across a corpus (publishers, container titles,
+ * languages, volumes, keywords, person names...) as a varint index into the string table. Dates are a
+ * single packed varint.
+ *
+ * <p>Opening a segment only maps the file and checks its header, so it takes constant time whatever
+ * the number of documents, and the data lives in the page cache rather than on the heap.
+ * {@link #get(int)} returns a view that decodes a field from the mapping each time it is accessed;
+ * {@link #document(int)} materializes a {@link BiboDocument}. A document without an IRI identifier
+ * gets a new blank node each time it is materialized.
+ *
+ * <p>Segments are immutable and can be read from several threads. Files must be smaller than 2 GiB,
+ * the limit of a single mapping.
+ */
+public final class BiboSegment implements Iterable<BiboDocumentView> {
+    static final int MAGIC = 0x4249424F;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 24;
+
+    // Optional fields in record order; bit i of the presence mask is set when field i is stored
+    static final int ID = 0;
+    static final int SUBTITLE = 1;
+    static final int PUBLISHER = 2;
+    static final int PLACE = 3;
+    static final int CONFERENCE_LOCATION = 4;
+    static final int CONFERENCE_ORGANIZER = 5;
+    static final int DEGREE = 6;
+    static final int CONTAINER_TITLE = 7;
+    static final int VOLUME = 8;
+    static final int ISSUE = 9;
+    static final int PAGES = 10;
+    static final int URL = 11;
+    static final int LANGUAGE = 12;
+    static final int ABSTRACT = 13;
+    static final int NOTES = 14;
+    static final int SERIES = 15;
+    static final int EDITION = 16;
+    static final int SCALAR_FIELDS = 17;
+    static final int DATE = 17;
+    static final int CONTRIBUTORS = 18;
+    static final int IDENTIFIERS = 19;
+    static final int KEYWORDS = 20;
+
+    // Encoding of the scalar fields
+    static final byte TEXT = 0;
+    static final byte CODE = 1;
+    static final byte[] FIELD_KINDS = {
+        TEXT, TEXT, CODE, CODE, CODE, CODE, CODE, CODE, CODE, CODE, TEXT, TEXT, CODE, TEXT, TEXT, CODE, CODE
+    };
+
+    // Optional parts of a contributor, in record order
+    static final int GIVEN = 1;
+    static final int MIDDLE = 1 << 1;
+    static final int PARTICLE = 1 << 2;
+    static final int FAMILY = 1 << 3;
+    static final int SUFFIX = 1 << 4;
+    static final int AFFILIATION = 1 << 5;
+
+    private static final BiboDocumentType[] TYPES = BiboDocumentType.values();
+    private static final BiboContributorRole[] ROLES = BiboContributorRole.values();
+    private static final BiboIdentifierType[] IDENTIFIER_TYPES = BiboIdentifierType.values();
+
+    private final ByteBuffer data;
+    private final int size;
+    private final int stringCount;
+    private final int stringIndexOffset;
+    private final int recordIndexOffset;
+
+    private BiboSegment(ByteBuffer data, int size, int stringCount, int stringIndexOffset,
+            int recordIndexOffset) {
+        this.data = data;
+        this.size = size;
+        this.stringCount = stringCount;
+        this.stringIndexOffset = stringIndexOffset;
+        this.recordIndexOffset = recordIndexOffset;
+    }
+
+    /**
+     * Maps a segment file. The mapping stays valid after the file is closed, until the segment is
+     * garbage collected.
+     *
+     * @param file a segment written by {@link BiboSegmentWriter}
+     * @return the mapped segment
+     * @throws IOException if the file cannot be read, or is not a complete segment
+     */
+    public static BiboSegment open(Path file) throws IOException {
+        Objects.requireNonNull(file, "file");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map (" + length + " bytes): " + file);
+            }
+            if (length < HEADER_BYTES) {
+                throw new IOException("Not a BIBO segment: " + file);
+            }
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (data.getInt(0) != MAGIC) {
+                throw new IOException("Not a BIBO segment, or one that was not closed: " + file);
+            }
+            short version = data.getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported BIBO segment version " + version + ": " + file);
+            }
+            int size = data.getInt(8);
+            int stringCount = data.getInt(12);
+            int stringIndexOffset = data.getInt(16);
+            int recordIndexOffset = data.getInt(20);
+            if (size < 0 || stringCount < 0
+                    || stringIndexOffset < HEADER_BYTES
+                    || stringIndexOffset + (long) stringCount * Integer.BYTES > length
+                    || recordIndexOffset < HEADER_BYTES
+                    || recordIndexOffset + (long) size * Integer.BYTES > length) {
+                throw new IOException("Corrupt BIBO segment header: " + file);
+            }
+            return new BiboSegment(data, size, stringCount, stringIndexOffset, recordIndexOffset);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns a view of a document that reads its fields from the mapping on access.
+     *
+     * @param index the document index, in write order
+     * @return a view of the document
+     */
+    public BiboDocumentView get(int index) {
+        Objects.checkIndex(index, size);
+        return new Record(data.getInt(recordIndexOffset + index * Integer.BYTES));
+    }
+
+    /**
+     * Materializes a document as a {@link BiboDocument}.
+     *
+     * @param index the document index, in write order
+     * @return a document equal to the one that was written at {@code index}
+     */
+    public BiboDocument document(int index) {
+        return BiboDocument.copyOf(get(index));
+    }
+
+    public Stream<BiboDocumentView> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public Iterator<BiboDocumentView> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public BiboDocumentView next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    static long packDate(BiboPublicationDate date) {
+        return (long) date.year() << 9 | date.month().orElse(0) << 5 | date.day().orElse(0);
+    }
+
+    static BiboPublicationDate unpackDate(long packed) {
+        int year = (int) (packed >>> 9);
+        int month = (int) (packed >>> 5 & 0xF);
+        int day = (int) (packed & 0x1F);
+        if (month == 0) {
+            return BiboPublicationDate.ofYear(year);
+        }
+        return day == 0
+                ? BiboPublicationDate.ofYearMonth(year, month)
+                : BiboPublicationDate.ofFullDate(year, month, day);
+    }
+
+    private String string(int code) {
+        Objects.checkIndex(code, stringCount);
+        return new Cursor(data.getInt(stringIndexOffset + code * Integer.BYTES)).text();
+    }
+
+    /**
+     * Read position within the mapping.
+     */
+    private final class Cursor {
+        private int position;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+
+        int unsignedByte() {
+            return data.get(position++) & 0xFF;
+        }
+
+        long varlong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = data.get(position++);
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        int varint() {
+            return (int) varlong();
+        }
+
+        String text() {
+            int length = varint();
+            byte[] bytes = new byte[length];
+            data.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String code() {
+            return string(varint());
+        }
+
+        void skipText() {
+            int length = varint();
+            position += length;
+        }
+
+        void skip(int field) {
+            if (field < SCALAR_FIELDS) {
+                if (FIELD_KINDS[field] == TEXT) {
+                    skipText();
+                } else {
+                    varlong();
+                }
+                return;
+            }
+            switch (field) {
+                case DATE -> varlong();
+                case CONTRIBUTORS -> {
+                    for (int remaining = varint(); remaining > 0; remaining--) {
+                        position++;
+                        int parts = unsignedByte();
+                        for (int codes = 1 + Integer.bitCount(parts); codes > 0; codes--) {
+                            varlong();
+                        }
+                    }
+                }
+                case IDENTIFIERS -> {
+                    for (int remaining = varint(); remaining > 0; remaining--) {
+                        position++;
+                        skipText();
+                    }
+                }
+                case KEYWORDS -> {
+                    for (int remaining = varint(); remaining > 0; remaining--) {
+                        varlong();
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown field " + field);
+            }
+        }
+    }
+
+    /**
+     * View of one record that decodes fields from the mapping on access.
+     */
+    private final class Record implements BiboDocumentView {
+        private final int offset;
+
+        Record(int offset) {
+            this.offset = offset;
+        }
+
+        /**
+         * Returns a cursor at the start of a field, or {@code null} if the record does not store it.
+         */
+        private Cursor seek(int field) {
+            Cursor cursor = new Cursor(offset + 1);
+            int present = cursor.varint();
+            if ((present & 1 << field) == 0) {
+                return null;
+            }
+            cursor.skipText();
+            for (int preceding = 0; preceding < field; preceding++) {
+                if ((present & 1 << preceding) != 0) {
+                    cursor.skip(preceding);
+                }
+            }
+            return cursor;
+        }
+
+        private Optional<String> scalar(int field) {
+            Cursor cursor = seek(field);
+            if (cursor == null) {
+                return Optional.empty();
+            }
+            return Optional.of(FIELD_KINDS[field] == TEXT ? cursor.text() : cursor.code());
+        }
+
+        @Override
+        public Optional<String> id() {
+            return scalar(ID);
+        }
+
+        @Override
+        public BiboDocumentType type() {
+            return TYPES[data.get(offset)];
+        }
+
+        @Override
+        public String title() {
+            Cursor cursor = new Cursor(offset + 1);
+            cursor.varlong();
+            return cursor.text();
+        }
+
+        @Override
+        public Optional<String> subtitle() {
+            return scalar(SUBTITLE);
+        }
+
+        @Override
+        public List<BiboContributor> contributors() {
+            Cursor cursor = seek(CONTRIBUTORS);
+            if (cursor == null) {
+                return List.of();
+            }
+            BiboContributor[] contributors = new BiboContributor[cursor.varint()];
+            for (int i = 0; i < contributors.length; i++) {
+                BiboContributorRole role = ROLES[cursor.unsignedByte()];
+                int parts = cursor.unsignedByte();
+                BiboPersonName.Builder name = BiboPersonName.builder(cursor.code());
+                if ((parts & GIVEN) != 0) {
+                    name.givenName(cursor.code());
+                }
+                if ((parts & MIDDLE) != 0) {
+                    name.middleName(cursor.code());
+                }
+                if ((parts & PARTICLE) != 0) {
+                    name.nameParticle(cursor.code());
+                }
+                if ((parts & FAMILY) != 0) {
+                    name.familyName(cursor.code());
+                }
+                if ((parts & SUFFIX) != 0) {
+                    name.suffix(cursor.code());
+                }
+                String affiliation = (parts & AFFILIATION) != 0 ? cursor.code() : null;
+                contributors[i] = new BiboContributor(name.build(), role, affiliation);
+            }
+            return List.of(contributors);
+        }
+
+        @Override
+        public Optional<BiboPublicationDate> publicationDate() {
+            Cursor cursor = seek(DATE);
+            return cursor == null ? Optional.empty() : Optional.of(unpackDate(cursor.varlong()));
+        }
+
+        @Override
+        public Optional<String> publisher() {
+            return scalar(PUBLISHER);
+        }
+
+        @Override
+        public Optional<String> placeOfPublication() {
+            return scalar(PLACE);
+        }
+
+        @Override
+        public Optional<String> conferenceLocation() {
+            return scalar(CONFERENCE_LOCATION);
+        }
+
+        @Override
+        public Optional<String> conferenceOrganizer() {
+            return scalar(CONFERENCE_ORGANIZER);
+        }
+
+        @Override
+        public Optional<String> degreeType() {
+            return scalar(DEGREE);
+        }
+
+        @Override
+        public Optional<String> containerTitle() {
+            return scalar(CONTAINER_TITLE);
+        }
+
+        @Override
+        public Optional<String> volume() {
+            return scalar(VOLUME);
+        }
+
+        @Override
+        public Optional<String> issue() {
+            return scalar(ISSUE);
+        }
+
+        @Override
+        public Optional<String> pages() {
+            return scalar(PAGES);
+        }
+
+        @Override
+        public List<BiboIdentifier> identifiers() {
+            Cursor cursor = seek(IDENTIFIERS);
+            if (cursor == null) {
+                return List.of();
+            }
+            BiboIdentifier[] identifiers = new BiboIdentifier[cursor.varint()];
+            for (int i = 0; i < identifiers.length; i++) {
+                BiboIdentifierType type = IDENTIFIER_TYPES[cursor.unsignedByte()];
+                identifiers[i] = new BiboIdentifier(type, cursor.text());
+            }
+            return List.of(identifiers);
+        }
+
+        @Override
+        public Optional<String> url() {
+            return scalar(URL);
+        }
+
+        @Override
+        public Optional<String> language() {
+            return scalar(LANGUAGE);
+        }
+
+        @Override
+        public Optional<String> abstractText() {
+            return scalar(ABSTRACT);
+        }
+
+        @Override
+        public Optional<String> notes() {
+            return scalar(NOTES);
+        }
+
+        @Override
+        public Optional<String> series() {
+            return scalar(SERIES);
+        }
+
+        @Override
+        public Optional<String> edition() {
+            return scalar(EDITION);
+        }
+
+        @Override
+        public List<String> keywords() {
+            Cursor cursor = seek(KEYWORDS);
+            if (cursor == null) {
+                return List.of();
+            }
+            String[] keywords = new String[cursor.varint()];
+            for (int i = 0; i < keywords.length; i++) {
+                keywords[i] = cursor.code();
+            }
+            return List.of(keywords);
+        }
+
+        @Override
+        public String toString() {
+            return "BiboSegment.Record[" + offset + ", " + title() + "]";
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.ABSTRACT;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.AFFILIATION;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONFERENCE_LOCATION;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONFERENCE_ORGANIZER;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONTAINER_TITLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.CONTRIBUTORS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.DATE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.DEGREE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.EDITION;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.FAMILY;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.FIELD_KINDS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.GIVEN;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.HEADER_BYTES;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.ID;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.IDENTIFIERS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.ISSUE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.KEYWORDS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.LANGUAGE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.MAGIC;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.MIDDLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.NOTES;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PAGES;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PARTICLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PLACE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.PUBLISHER;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SCALAR_FIELDS;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SERIES;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SUBTITLE;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.SUFFIX;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.TEXT;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.URL;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.VERSION;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.VOLUME;
+import static it.riccardosacco.bibobibtex.model.bibo.BiboSegment.packDate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes BIBO documents to a segment file that {@link BiboSegment} maps into memory.
+ *
+ * <p>Records are streamed to the file as documents arrive; only the string table of repeated values
+ * and one {@code int} offset per document are kept on the heap until {@link #close()} appends them and
+ * fills in the header. A segment whose writer was never closed has no valid header and is rejected
+ * by {@link BiboSegment#open(Path)}.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class BiboSegmentWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final FileChannel channel;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ValueDictionary<String> strings = new ValueDictionary<>();
+    private final String[] scalars = new String[SCALAR_FIELDS];
+    private int count;
+    private long flushed;
+    private int[] recordOffsets = new int[1024];
+    private int documentCount;
+    private boolean closed;
+
+    /**
+     * Creates a writer, replacing any existing file.
+     *
+     * @param file the segment file to write
+     * @throws IOException if the file cannot be created
+     */
+    public BiboSegmentWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(Objects.requireNonNull(file, "file"), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        // The header stays zeroed, and the segment unreadable, until close() completes it
+        count = HEADER_BYTES;
+    }
+
+    /**
+     * Appends a document, or a row of a {@link BiboDocumentTable} or another segment.
+     *
+     * @param document the document to append
+     * @throws IOException if the segment cannot be written or would exceed 2 GiB
+     */
+    public void write(BiboDocumentView document) throws IOException {
+        Objects.requireNonNull(document, "document");
+        ensureOpen();
+        scalars[ID] = document.id().orElse(null);
+        scalars[SUBTITLE] = document.subtitle().orElse(null);
+        scalars[PUBLISHER] = document.publisher().orElse(null);
+        scalars[PLACE] = document.placeOfPublication().orElse(null);
+        scalars[CONFERENCE_LOCATION] = document.conferenceLocation().orElse(null);
+        scalars[CONFERENCE_ORGANIZER] = document.conferenceOrganizer().orElse(null);
+        scalars[DEGREE] = document.degreeType().orElse(null);
+        scalars[CONTAINER_TITLE] = document.containerTitle().orElse(null);
+        scalars[VOLUME] = document.volume().orElse(null);
+        scalars[ISSUE] = document.issue().orElse(null);
+        scalars[PAGES] = document.pages().orElse(null);
+        scalars[URL] = document.url().orElse(null);
+        scalars[LANGUAGE] = document.language().orElse(null);
+        scalars[ABSTRACT] = document.abstractText().orElse(null);
+        scalars[NOTES] = document.notes().orElse(null);
+        scalars[SERIES] = document.series().orElse(null);
+        scalars[EDITION] = document.edition().orElse(null);
+        BiboPublicationDate date = document.publicationDate().orElse(null);
+        List<BiboContributor> contributors = document.contributors();
+        List<BiboIdentifier> identifiers = document.identifiers();
+        List<String> keywords = document.keywords();
+
+        int present = 0;
+        for (int field = 0; field < SCALAR_FIELDS; field++) {
+            if (scalars[field] != null) {
+                present |= 1 << field;
+            }
+        }
+        present |= date == null ? 0 : 1 << DATE;
+        present |= contributors.isEmpty() ? 0 : 1 << CONTRIBUTORS;
+        present |= identifiers.isEmpty() ? 0 : 1 << IDENTIFIERS;
+        present |= keywords.isEmpty() ? 0 : 1 << KEYWORDS;
+
+        long offset = flushed + count;
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("Segment exceeds the 2 GiB limit of a single mapping");
+        }
+        if (documentCount == recordOffsets.length) {
+            recordOffsets = Arrays.copyOf(recordOffsets, documentCount * 2);
+        }
+        recordOffsets[documentCount++] = (int) offset;
+
+        ensure(1 + MAX_VARINT_BYTES);
+        buffer[count++] = (byte) document.type().ordinal();
+        putVarint(present);
+        writeText(document.title());
+        for (int field = 0; field < SCALAR_FIELDS; field++) {
+            String value = scalars[field];
+            if (value == null) {
+                continue;
+            }
+            if (FIELD_KINDS[field] == TEXT) {
+                writeText(value);
+            } else {
+                writeCode(value);
+            }
+        }
+        if (date != null) {
+            writeVarint(packDate(date));
+        }
+        if (!contributors.isEmpty()) {
+            writeVarint(contributors.size());
+            for (BiboContributor contributor : contributors) {
+                writeContributor(contributor);
+            }
+        }
+        if (!identifiers.isEmpty()) {
+            writeVarint(identifiers.size());
+            for (BiboIdentifier identifier : identifiers) {
+                ensure(1);
+                buffer[count++] = (byte) identifier.type().ordinal();
+                writeText(identifier.value());
+            }
+        }
+        if (!keywords.isEmpty()) {
+            writeVarint(keywords.size());
+            for (String keyword : keywords) {
+                writeCode(keyword);
+            }
+        }
+    }
+
+    /**
+     * Appends every document of an iterable, such as a {@link BiboDocumentTable}, in order.
+     *
+     * @param documents the documents to append
+     * @return number of documents written
+     * @throws IOException if the segment cannot be written
+     */
+    public long writeAll(Iterable<? extends BiboDocumentView> documents) throws IOException {
+        long written = 0;
+        for (BiboDocumentView document : documents) {
+            write(document);
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Returns the number of documents written so far.
+     */
+    public int size() {
+        return documentCount;
+    }
+
+    /**
+     * Appends the string table and the record index, writes the header and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            int[] stringOffsets = new int[strings.size()];
+            for (int code = 0; code < stringOffsets.length; code++) {
+                stringOffsets[code] = position();
+                writeText(strings.decode(code));
+            }
+            int stringIndexOffset = position();
+            writeInts(stringOffsets, stringOffsets.length);
+            int recordIndexOffset = position();
+            writeInts(recordOffsets, documentCount);
+            position(); // fails if the index pushed the segment past 2 GiB
+            writeBuffer();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putShort(VERSION)
+                    .putShort((short) 0)
+                    .putInt(documentCount)
+                    .putInt(stringOffsets.length)
+                    .putInt(stringIndexOffset)
+                    .putInt(recordIndexOffset)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(false);
+        }
+    }
+
+    private void writeContributor(BiboContributor contributor) throws IOException {
+        BiboPersonName name = contributor.name();
+        String given = name.givenName().orElse(null);
+        String middle = name.middleName().orElse(null);
+        String particle = name.nameParticle().orElse(null);
+        String family = name.familyName().orElse(null);
+        String suffix = name.suffix().orElse(null);
+        String affiliation = contributor.affiliation().orElse(null);
+        int parts = (given == null ? 0 : GIVEN)
+                | (middle == null ? 0 : MIDDLE)
+                | (particle == null ? 0 : PARTICLE)
+                | (family == null ? 0 : FAMILY)
+                | (suffix == null ? 0 : SUFFIX)
+                | (affiliation == null ? 0 : AFFILIATION);
+
+        ensure(2);
+        buffer[count++] = (byte) contributor.role().ordinal();
+        buffer[count++] = (byte) parts;
+        writeCode(name.fullName());
+        for (String part : new String[] {given, middle, particle, family, suffix, affiliation}) {
+            if (part != null) {
+                writeCode(part);
+            }
+        }
+    }
+
+    private void writeCode(String value) throws IOException {
+        writeVarint(strings.encode(value));
+    }
+
+    private void writeText(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        if (bytes.length > buffer.length - count) {
+            writeBuffer();
+            if (bytes.length > buffer.length) {
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining()) {
+                    channel.write(large);
+                }
+                flushed += bytes.length;
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeVarint(long value) throws IOException {
+        ensure(MAX_VARINT_BYTES);
+        putVarint(value);
+    }
+
+    private void putVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[count++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[count++] = (byte) value;
+    }
+
+    private void writeInts(int[] values, int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            ensure(Integer.BYTES);
+            int value = values[i];
+            buffer[count++] = (byte) (value >>> 24);
+            buffer[count++] = (byte) (value >>> 16);
+            buffer[count++] = (byte) (value >>> 8);
+            buffer[count++] = (byte) value;
+        }
+    }
+
+    private int position() throws IOException {
+        long position = flushed + count;
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("Segment exceeds the 2 GiB limit of a single mapping");
+        }
+        return (int) position;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (count + bytes > buffer.length) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        ByteBuffer pending = ByteBuffer.wrap(buffer, 0, count);
+        while (pending.hasRemaining()) {
+            channel.write(pending);
+        }
+        flushed += count;
+        count = 0;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Segment writer is closed");
+        }
+    }
+}
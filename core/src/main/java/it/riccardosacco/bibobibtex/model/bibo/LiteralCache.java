@@ -0,0 +1,58 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+
+/**
+ * Bounded intern cache of plain literals for field values that repeat across documents, such as
+ * publishers, journal titles, languages and person names.
+ *
+ * <p>The cache is direct-mapped: each value hashes to a single slot, and a different value hashing to
+ * the same slot replaces it. Lookups never lock and a hit allocates nothing; a miss costs what
+ * creating the literal would have cost anyway. Memory stays fixed at the number of slots, whatever the
+ * size of the corpus. Literals are published with release/acquire semantics, so the cache can be shared
+ * between threads.
+ */
+final class LiteralCache {
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private final AtomicReferenceArray<Literal> slots;
+    private final int mask;
+
+    /**
+     * @param capacity number of slots; rounded up to a power of two
+     */
+    LiteralCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns a plain literal for {@code value}, reusing the cached instance when there is one.
+     * The label of the returned literal can stand in for {@code value} to share the string as well.
+     *
+     * @param value the literal label
+     * @return a literal equal to {@code VF.createLiteral(value)}
+     */
+    Literal literal(String value) {
+        int hash = value.hashCode();
+        int index = (hash ^ hash >>> 16) & mask;
+        Literal cached = slots.getAcquire(index);
+        if (cached != null && cached.getLabel().equals(value)) {
+            return cached;
+        }
+        Literal literal = VF.createLiteral(value);
+        slots.setRelease(index, literal);
+        return literal;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
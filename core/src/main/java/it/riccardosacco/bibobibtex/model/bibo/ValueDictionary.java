@@ -0,0 +1,38 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns dense {@code int} codes to distinct values, so that columns of repeated values can store a
+ * code per row and keep one copy of each value. Code {@value #NULL} stands for {@code null}.
+ */
+final class ValueDictionary<T> {
+    static final int NULL = -1;
+
+    private final Map<T, Integer> codes = new HashMap<>();
+    private final List<T> values = new ArrayList<>();
+
+    int encode(T value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    T decode(int code) {
+        return code == NULL ? null : values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
@@ -15,6 +15,7 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 /**
  * JMH benchmark for batch conversion performance.
@@ -41,6 +42,11 @@ public class BatchConversionBenchmark {
             entries100 = generateSyntheticEntries(100);
             entries1000 = generateSyntheticEntries(1000);
         }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            converter.close();
+        }
     }
 
     @Benchmark
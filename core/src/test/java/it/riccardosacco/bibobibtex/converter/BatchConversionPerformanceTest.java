@@ -3,13 +3,17 @@ package it.riccardosacco.bibobibtex.converter;
 import static org.junit.jupiter.api.Assertions.*;
 
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
 import org.jbibtex.BibTeXEntry;
 import org.jbibtex.Key;
 import org.jbibtex.StringValue;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -34,6 +38,11 @@ class BatchConversionPerformanceTest {
         largeDataset = generateSyntheticEntries(10000);
     }
 
+    @AfterEach
+    void tearDown() {
+        batchConverter.close();
+    }
+
     @Test
     void testSmallBatchConversionPerformance() {
         long startTime = System.currentTimeMillis();
@@ -149,6 +158,20 @@ class BatchConversionPerformanceTest {
         assertTrue(elapsed < 15000, "Parallel streaming should complete in reasonable time");
     }
 
+    @Test
+    void testStreamingEmissionToRdfHandler() {
+        StringWriter out = new StringWriter();
+        long startTime = System.currentTimeMillis();
+        long emitted = batchConverter.convertStreamTo(mediumDataset.stream(),
+            Rio.createWriter(RDFFormat.NTRIPLES, out));
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        assertEquals(mediumDataset.size(), emitted, "All entries should be emitted");
+        assertFalse(out.toString().isEmpty(), "Triples should be written to the handler");
+        System.out.printf("Streaming emission (1000 entries): %dms (%.1f entries/sec)%n",
+            elapsed, 1000.0 * 1000 / elapsed);
+    }
+
     @Test
     void testMemoryEfficiencyWithLargeDataset() {
         Runtime runtime = Runtime.getRuntime();
@@ -177,15 +200,16 @@ class BatchConversionPerformanceTest {
         int[] parallelismLevels = {1, 2, 4, 8};
 
         for (int parallelism : parallelismLevels) {
-            BatchConverter customConverter = new BatchConverter(parallelism);
-            assertEquals(parallelism, customConverter.getParallelism());
+            try (BatchConverter customConverter = new BatchConverter(parallelism)) {
+                assertEquals(parallelism, customConverter.getParallelism());
 
-            long startTime = System.currentTimeMillis();
-            List<BiboDocument> results = customConverter.convertBatchParallel(smallDataset);
-            long elapsed = System.currentTimeMillis() - startTime;
+                long startTime = System.currentTimeMillis();
+                List<BiboDocument> results = customConverter.convertBatchParallel(smallDataset);
+                long elapsed = System.currentTimeMillis() - startTime;
 
-            assertEquals(smallDataset.size(), results.size());
-            System.out.printf("Parallelism=%d: %dms%n", parallelism, elapsed);
+                assertEquals(smallDataset.size(), results.size());
+                System.out.printf("Parallelism=%d: %dms%n", parallelism, elapsed);
+            }
         }
     }
 
@@ -0,0 +1,73 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.jbibtex.BibTeXEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH benchmark for per-batch latency of {@link BatchConverter#convertBatchParallel} with different
+ * executor strategies. {@code PER_CALL_POOL} reproduces the former behaviour of creating and tearing
+ * down a pool for every batch.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -DskipTests -Dtest=none -DfailIfNoTests=false -Pjmh test
+ *   java -jar target/benchmarks.jar BatchConverterExecutorBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BatchConverterExecutorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int batchSize;
+
+    @Param({"PER_CALL_POOL", "OWNED_POOL", "SHARED_POOL", "VIRTUAL_THREADS"})
+    String mode;
+
+    private List<BibTeXEntry> entries;
+    private BatchConverter converter;
+    private int parallelism;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entries = BatchConverterTest.entries(batchSize);
+        parallelism = Runtime.getRuntime().availableProcessors();
+        converter = switch (mode) {
+            case "OWNED_POOL" -> new BatchConverter(parallelism);
+            case "SHARED_POOL" -> new BatchConverter(ForkJoinPool.commonPool(), parallelism, ConversionListener.NONE);
+            case "VIRTUAL_THREADS" -> BatchConverter.virtualThreads(parallelism);
+            default -> null;
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (converter != null) {
+            converter.close();
+        }
+    }
+
+    @Benchmark
+    public List<BiboDocument> convertBatch() {
+        if (converter == null) {
+            try (BatchConverter perCall = new BatchConverter(parallelism)) {
+                return perCall.convertBatchParallel(entries);
+            }
+        }
+        return converter.convertBatchParallel(entries);
+    }
+}
@@ -0,0 +1,222 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.exception.ValidationException;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentTable;
+import it.riccardosacco.bibobibtex.model.bibo.BiboSegment;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.Key;
+import org.jbibtex.StringValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchConverterTest {
+
+    @Test
+    void ownedPoolIsReusedAcrossBatchesAndShutDownOnClose() {
+        BatchConverter converter = new BatchConverter(2);
+        try (converter) {
+            assertEquals(titles(entries(10)), titles(converter.convertBatchParallel(entries(10))));
+            assertEquals(titles(entries(100)), titles(converter.convertBatchParallel(entries(100))));
+        }
+        assertThrows(RuntimeException.class, () -> converter.convertBatchParallel(entries(10)));
+    }
+
+    @Test
+    void closingUnusedConverterRejectsLaterParallelCalls() {
+        BatchConverter converter = new BatchConverter(2);
+        assertEquals(5, converter.convertBatch(entries(5)).size());
+        converter.close();
+        assertThrows(IllegalStateException.class, () -> converter.convertBatchParallel(entries(5)));
+    }
+
+    @Test
+    void sharedExecutorIsNotShutDownOnClose() {
+        ExecutorService shared = Executors.newFixedThreadPool(2);
+        try {
+            try (BatchConverter first = new BatchConverter(shared, 2, ConversionListener.NONE);
+                 BatchConverter second = new BatchConverter(shared, 2, ConversionListener.NONE)) {
+                assertEquals(50, first.convertBatchParallel(entries(50)).size());
+                assertEquals(50, second.convertBatchParallel(entries(50)).size());
+            }
+            assertFalse(shared.isShutdown());
+        } finally {
+            shared.shutdownNow();
+        }
+    }
+
+    @Test
+    void virtualThreadModeConvertsInInputOrder() {
+        try (BatchConverter converter = BatchConverter.virtualThreads(8)) {
+            List<BibTeXEntry> input = entries(1000);
+            List<BiboDocument> documents = converter.convertBatchParallel(input);
+            assertEquals(titles(input), titles(documents));
+        }
+    }
+
+    @Test
+    void parallelConversionAcceptsNonListCollections() {
+        try (BatchConverter converter = new BatchConverter(3)) {
+            List<BiboDocument> documents = converter.convertBatchParallel(new LinkedHashSet<>(entries(7)));
+            assertEquals(7, documents.size());
+            assertTrue(documents.get(0).title().endsWith(" 0"));
+        }
+    }
+
+    @Test
+    void indexedModeReportsOutcomeForEveryPosition() {
+        List<BibTeXEntry> input = entries(200);
+        for (int i = 7; i < input.size(); i += 50) {
+            input.get(i).removeField(BibTeXEntry.KEY_TITLE);
+        }
+
+        try (BatchConverter converter = new BatchConverter(4)) {
+            IndexedConversionResult result = converter.convertBatchParallelIndexed(input);
+
+            assertEquals(200, result.size());
+            assertEquals(List.of(7, 57, 107, 157), result.getFailedIndices());
+            assertTrue(result.getFailure(57).orElseThrow() instanceof ValidationException);
+            assertFalse(result.isSuccess(107));
+            assertEquals("Title 8", result.getDocument(8).orElseThrow().title());
+            assertTrue(result.getFailure(8).isEmpty());
+            assertEquals(196, result.getDocuments().size());
+            assertEquals(196, result.getStatistics().getSuccessfulConversions());
+            assertEquals(4, result.getStatistics().getFailedConversions());
+        }
+    }
+
+    @Test
+    void streamingPathsCountSkippedEntries() {
+        List<BibTeXEntry> input = entries(100);
+        for (int i = 3; i < input.size(); i += 25) {
+            input.get(i).removeField(BibTeXEntry.KEY_TITLE);
+        }
+
+        try (BatchConverter converter = new BatchConverter(2)) {
+            try (var documents = converter.convertStream(input.stream())) {
+                assertEquals(96, documents.count());
+            }
+            assertEquals(4, converter.skippedCount());
+            assertEquals(96, converter.convertBatchParallel(input).size());
+            assertEquals(8, converter.skippedCount());
+        }
+    }
+
+    @Test
+    void indexedModeReportsProgressAtInterval() {
+        // 8 slices of 50 entries; boundaries are counted over the whole batch, not per slice
+        assertEquals(boundaries(25, 400, 400), indexedProgress(2, 400, 25));
+    }
+
+    @Test
+    void indexedModeReportsProgressWhenSlicesAreSmallerThanInterval() {
+        // 32 slices of 3 or 4 entries each
+        assertEquals(boundaries(25, 100, 100), indexedProgress(8, 100, 25));
+        assertEquals(List.of(90), indexedProgress(8, 90, 100));
+    }
+
+    /**
+     * Runs an indexed conversion and returns the reported progress values in ascending order.
+     */
+    private static List<Integer> indexedProgress(int parallelism, int entries, int interval) {
+        List<Integer> reported = Collections.synchronizedList(new ArrayList<>());
+        try (BatchConverter converter = new BatchConverter(parallelism)) {
+            converter.convertBatchParallelIndexed(entries(entries), (current, total) -> {
+                assertEquals(entries, total);
+                reported.add(current);
+            }, interval);
+        }
+        assertEquals(entries, reported.getLast(), "the final update comes last");
+        List<Integer> sorted = new ArrayList<>(reported);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Every multiple of {@code interval} up to {@code limit}, followed by the final update.
+     */
+    private static List<Integer> boundaries(int interval, int limit, int total) {
+        List<Integer> expected = new ArrayList<>();
+        for (int boundary = interval; boundary <= limit; boundary += interval) {
+            expected.add(boundary);
+        }
+        expected.add(total);
+        Collections.sort(expected);
+        return expected;
+    }
+
+    @Test
+    void indexedModeRejectsNonPositiveInterval() {
+        try (BatchConverter converter = new BatchConverter(1)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> converter.convertBatchParallelIndexed(entries(1), null, 0));
+        }
+    }
+
+    @Test
+    void tableModeHoldsSameDocumentsInInputOrder() {
+        List<BibTeXEntry> input = entries(300);
+        try (BatchConverter converter = new BatchConverter(4)) {
+            List<BiboDocument> documents = converter.convertBatchParallel(input);
+            BiboDocumentTable table = converter.convertBatchParallelToTable(input);
+
+            assertEquals(documents.size(), table.size());
+            for (int row = 0; row < table.size(); row++) {
+                assertEquals(documents.get(row), table.document(row));
+            }
+            assertTrue(converter.convertBatchParallelToTable(List.of()).isEmpty());
+        }
+    }
+
+    @Test
+    void segmentModeWritesSameDocumentsInInputOrder(@TempDir Path tempDir) throws IOException {
+        List<BibTeXEntry> input = entries(300);
+        Path file = tempDir.resolve("batch.seg");
+        try (BatchConverter converter = new BatchConverter(4)) {
+            List<BiboDocument> documents = converter.convertBatchParallel(input);
+
+            assertEquals(documents.size(), converter.convertBatchParallelToSegment(input, file));
+
+            BiboSegment segment = BiboSegment.open(file);
+            assertEquals(documents.size(), segment.size());
+            for (int index = 0; index < segment.size(); index++) {
+                assertEquals(documents.get(index), segment.document(index));
+            }
+        }
+    }
+
+    static List<BibTeXEntry> entries(int count) {
+        List<BibTeXEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BibTeXEntry entry = new BibTeXEntry(BibTeXEntry.TYPE_ARTICLE, new Key("entry" + i));
+            entry.addField(BibTeXEntry.KEY_TITLE, new StringValue("Title " + i, StringValue.Style.BRACED));
+            entry.addField(BibTeXEntry.KEY_AUTHOR, new StringValue("Author" + i + ", Test", StringValue.Style.BRACED));
+            entry.addField(BibTeXEntry.KEY_YEAR, new StringValue("2020", StringValue.Style.BRACED));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private static List<String> titles(List<?> items) {
+        List<String> titles = new ArrayList<>(items.size());
+        for (Object item : items) {
+            titles.add(item instanceof BiboDocument document
+                    ? document.title()
+                    : ((BibTeXEntry) item).getField(BibTeXEntry.KEY_TITLE).toUserString());
+        }
+        return titles;
+    }
+}
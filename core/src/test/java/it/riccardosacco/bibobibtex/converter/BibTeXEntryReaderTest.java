@@ -0,0 +1,150 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.exception.BibliographicConversionException;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jbibtex.BibTeXDatabase;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.BibTeXParser;
+import org.jbibtex.Key;
+import org.junit.jupiter.api.Test;
+
+class BibTeXEntryReaderTest {
+
+    @Test
+    void yieldsEntriesInDocumentOrder() throws IOException {
+        String bib = """
+                Leading text is ignored.
+                @article{first, title = {First}, year = 2020}
+                @comment{ @book{ignored, title = {Nope}} }
+                @book{second, title = "Second {(revised)}", year = 2021}
+                """;
+
+        try (BibTeXEntryReader reader = new BibTeXEntryReader(new StringReader(bib))) {
+            List<String> keys = reader.stream().map(entry -> entry.getKey().getValue()).toList();
+            assertEquals(List.of("first", "second"), keys);
+        }
+    }
+
+    @Test
+    void resolvesStringMacrosDefinedEarlier() throws IOException {
+        String bib = """
+                @string{ai = "Artificial Intelligence"}
+                @preamble{"\\newcommand{\\noop}[1]{}"}
+                @article{macro, title = {Macros}, journal = ai # " Journal", month = feb, year = 2020}
+                """;
+
+        try (BibTeXEntryReader reader = new BibTeXEntryReader(new StringReader(bib))) {
+            BibTeXEntry entry = reader.next();
+            assertEquals("Artificial Intelligence Journal",
+                    entry.getField(BibTeXEntry.KEY_JOURNAL).toUserString());
+            assertEquals("February", entry.getField(BibTeXEntry.KEY_MONTH).toUserString());
+            assertFalse(reader.hasNext());
+            assertEquals(1, reader.preambles().size());
+            assertTrue(reader.strings().containsKey(new Key("ai")));
+        }
+    }
+
+    @Test
+    void leavesCrossReferencesToOtherEntriesUnresolved() throws IOException {
+        String bib = """
+                @inproceedings{child, title = {Child}, crossref = {parent}, year = 2020}
+                @proceedings{parent, title = {Parent}, year = 2020}
+                """;
+
+        try (BibTeXEntryReader reader = new BibTeXEntryReader(new StringReader(bib))) {
+            assertEquals(2, reader.stream().count());
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedObject() {
+        BibTeXEntryReader reader = new BibTeXEntryReader(new StringReader("@article{broken, title = {Open"));
+        assertThrows(BibliographicConversionException.class, reader::hasNext);
+    }
+
+    @Test
+    void readsFromByteChannel() throws IOException {
+        byte[] bytes = "@misc{channel, title = {Caf\\'e}}".getBytes(StandardCharsets.UTF_8);
+        try (BibTeXEntryReader reader = BibTeXEntryReader.open(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), StandardCharsets.UTF_8)) {
+            assertEquals("channel", reader.next().getKey().getValue());
+        }
+    }
+
+    @Test
+    void feedsBatchConverterStream() throws IOException {
+        String bib = """
+                @article{a1, author = {Ada Lovelace}, title = {Notes}, journal = {Memoirs}, year = 1843}
+                @book{b1, author = {Charles Babbage}, title = {Passages}, publisher = {Longman}, year = 1864}
+                """;
+
+        try (BibTeXEntryReader reader = new BibTeXEntryReader(new StringReader(bib));
+                BatchConverter converter = new BatchConverter();
+                Stream<BiboDocument> documents = converter.convertStream(reader.stream())) {
+            assertEquals(List.of("Notes", "Passages"), documents.map(BiboDocument::title).toList());
+        }
+    }
+
+    @Test
+    void matchesWholeFileParseOnSampleBibliographies() throws Exception {
+        Path dataDir = projectRoot().resolve("test-data/bibtex");
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dataDir)) {
+            files = listing.filter(path -> path.toString().endsWith(".bib")).sorted().toList();
+        }
+        assertFalse(files.isEmpty(), "Expected sample .bib files in " + dataDir);
+
+        for (Path file : files) {
+            BibTeXDatabase database;
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                database = new BibTeXParser().parse(reader);
+            } catch (Exception e) {
+                // Files the whole-file parser rejects have no reference to compare against
+                continue;
+            }
+
+            Map<Key, BibTeXEntry> streamed = new LinkedHashMap<>();
+            try (BibTeXEntryReader reader = BibTeXEntryReader.open(file)) {
+                // Duplicate keys are all streamed; the database keeps the first occurrence
+                reader.forEachRemaining(entry -> streamed.putIfAbsent(entry.getKey(), entry));
+            }
+
+            assertEquals(List.copyOf(database.getEntries().keySet()), List.copyOf(streamed.keySet()),
+                    "Entry keys differ for " + file.getFileName());
+            for (BibTeXEntry expected : database.getEntries().values()) {
+                assertEquals(userStrings(expected), userStrings(streamed.get(expected.getKey())),
+                        "Fields differ for " + expected.getKey() + " in " + file.getFileName());
+            }
+        }
+    }
+
+    private static Map<Key, String> userStrings(BibTeXEntry entry) {
+        return entry.getFields().entrySet().stream()
+                .filter(field -> !field.getKey().equals(BibTeXEntry.KEY_CROSSREF))
+                .collect(Collectors.toMap(Map.Entry::getKey, field -> field.getValue().toUserString()));
+    }
+
+    private static Path projectRoot() {
+        Path moduleRoot = Paths.get("").toAbsolutePath();
+        return moduleRoot.endsWith("core") ? moduleRoot.getParent() : moduleRoot;
+    }
+}
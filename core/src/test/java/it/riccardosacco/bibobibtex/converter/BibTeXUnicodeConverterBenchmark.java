@@ -0,0 +1,104 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmark comparing the single-pass {@link BibTeXUnicodeConverter#toUnicode(String)}
+ * against the previous multi-pass implementation (one {@code String.replace} per table entry
+ * followed by twelve regex passes), kept here as {@link LegacyDecoder}.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -DskipTests -Dtest=none -DfailIfNoTests=false -Pjmh test
+ *   java -jar target/benchmarks.jar BibTeXUnicodeConverterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BibTeXUnicodeConverterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"plain", "braced", "mixed"})
+        String kind;
+
+        String input;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            input = switch (kind) {
+                case "plain" -> "Deep Residual Learning for Image Recognition";
+                case "braced" -> "M{\\\"u}ller, J{\\\"o}rg and Garc{\\'i}a-P{\\'e}rez, Mar{\\'i}a";
+                default -> "L'{\\'e}tude des ph\\'enom\\`enes quantiques, fran{\\c{c}}ais et {\\o}resund";
+            };
+        }
+    }
+
+    @Benchmark
+    public String singlePass(BenchmarkState state) {
+        return BibTeXUnicodeConverter.toUnicode(state.input);
+    }
+
+    @Benchmark
+    public String legacyMultiPass(BenchmarkState state) {
+        return LegacyDecoder.toUnicode(state.input);
+    }
+
+    /**
+     * Previous implementation of {@code toUnicode}, retained as a baseline.
+     */
+    static final class LegacyDecoder {
+        private static final String[][] UNBRACED = {
+            {"\\\\'([a-zA-Z])", "'"},
+            {"\\\\`([a-zA-Z])", "`"},
+            {"\\\\\"([a-zA-Z])", "\""},
+            {"\\\\\\^([a-zA-Z])", "^"},
+            {"\\\\~([a-zA-Z])", "~"},
+            {"\\\\=([a-zA-Z])", "="},
+            {"\\\\u([a-zA-Z])", "u"},
+            {"\\\\v([a-zA-Z])", "v"},
+            {"\\\\.([a-zA-Z])", "."},
+            {"\\\\r([a-zA-Z])", "r"},
+            {"\\\\H([a-zA-Z])", "H"},
+            {"\\\\k([a-zA-Z])", "k"}
+        };
+
+        private LegacyDecoder() {
+        }
+
+        static String toUnicode(String input) {
+            if (input == null) {
+                return null;
+            }
+            Map<String, String> sequences = BibTeXUnicodeConverter.escapeSequences();
+            String result = input;
+            for (Map.Entry<String, String> entry : sequences.entrySet()) {
+                result = result.replace(entry.getKey(), entry.getValue());
+            }
+            for (String[] pattern : UNBRACED) {
+                Matcher matcher = Pattern.compile(pattern[0]).matcher(result);
+                StringBuilder sb = new StringBuilder();
+                while (matcher.find()) {
+                    String unicode = sequences.get("{\\" + pattern[1] + matcher.group(1) + "}");
+                    matcher.appendReplacement(sb, Matcher.quoteReplacement(
+                            unicode != null ? unicode : matcher.group()));
+                }
+                matcher.appendTail(sb);
+                result = sb.toString();
+            }
+            return result;
+        }
+    }
+}
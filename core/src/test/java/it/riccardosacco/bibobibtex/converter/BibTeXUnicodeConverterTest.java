@@ -327,6 +327,40 @@ class BibTeXUnicodeConverterTest {
         assertEquals(input, BibTeXUnicodeConverter.toUnicode(input));
     }
 
+    @Test
+    void testNoBackslashReturnsSameInstance() {
+        String input = "Caf{e} without escapes";
+        assertSame(input, BibTeXUnicodeConverter.toUnicode(input));
+    }
+
+    @Test
+    void testUnmatchedBackslashReturnsSameInstance() {
+        String input = "\\emph{Deep} learning \\";
+        assertSame(input, BibTeXUnicodeConverter.toUnicode(input));
+    }
+
+    @Test
+    void testUnbracedDotRequiresLiteralDot() {
+        assertEquals("ż", BibTeXUnicodeConverter.toUnicode("\\.z"));
+        assertEquals("\\textit{x}", BibTeXUnicodeConverter.toUnicode("\\textit{x}"));
+    }
+
+    @Test
+    void testMatchesLegacyDecoder() {
+        String[] samples = {
+            "Guasch-Ferr{\\'e}, Marta",
+            "{\\'e}l\\`eve fran{\\c{c}}ais",
+            "{\\O}stergaard and {\\oe}uvre and {\\ss} and {\\i}",
+            "\\\"u\\^o\\~n\\=a\\ua\\vc\\.z\\ra\\Ho\\ka",
+            "{\\xyz} {\\'} \\' \\'1 {\\c{x}} {\\",
+            "Wp{\\l}yw spo{\\l}ecze\\'nstwa"
+        };
+        for (String sample : samples) {
+            assertEquals(BibTeXUnicodeConverterBenchmark.LegacyDecoder.toUnicode(sample),
+                    BibTeXUnicodeConverter.toUnicode(sample), sample);
+        }
+    }
+
     @Test
     void testUnknownEscapeSequence() {
         String input = "{\\xyz}";
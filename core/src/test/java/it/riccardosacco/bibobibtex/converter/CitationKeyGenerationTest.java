@@ -78,6 +78,35 @@ class CitationKeyGenerationTest {
         assertEquals(64, key.length());
     }
 
+    @Test
+    void manyCollisionsOnOneBaseKeyGetConsecutiveSuffixes() {
+        BibTeXBibliographicConverter converter = new BibTeXBibliographicConverter();
+        for (int i = 1; i <= 2000; i++) {
+            String key = converter.convertFromBibo(createDocument("Study " + i, 2020, "Ann", "Smith"))
+                    .orElseThrow().getKey().getValue();
+            assertEquals(i == 1 ? "smith_2020" : "smith_2020_" + i, key);
+        }
+        assertEquals(2000, converter.citationKeyRegistry().size());
+    }
+
+    @Test
+    void sharedRegistryKeepsKeysUniqueAcrossConverters() {
+        CitationKeyRegistry registry = new CitationKeyRegistry();
+        BibTeXBibliographicConverter first =
+                new BibTeXBibliographicConverter(KeyGenerationStrategy.AUTHOR_YEAR, ConversionListener.NONE, registry);
+        BibTeXBibliographicConverter second =
+                new BibTeXBibliographicConverter(KeyGenerationStrategy.AUTHOR_YEAR, ConversionListener.NONE, registry);
+
+        first.convertFromBibo(createDocument("One", 2024, "Alice", "Smith"));
+        String key = second.convertFromBibo(createDocument("Two", 2024, "Alice", "Smith"))
+                .orElseThrow().getKey().getValue();
+        assertEquals("smith_2024_2", key);
+
+        registry.reset();
+        key = second.convertFromBibo(createDocument("Three", 2024, "Alice", "Smith")).orElseThrow().getKey().getValue();
+        assertEquals("smith_2024", key);
+    }
+
     private BiboDocument createDocument(String title, int year, String given, String family) {
         return createDocument(title, year, given, family, null);
     }
@@ -0,0 +1,89 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CitationKeyRegistryTest {
+
+    @Test
+    void skipsKeysRegisteredExplicitly() {
+        CitationKeyRegistry registry = new CitationKeyRegistry();
+        registry.register("doe_2021_2");
+
+        assertEquals("doe_2021", registry.register("doe_2021"));
+        assertEquals("doe_2021_3", registry.register("doe_2021"));
+        assertEquals("doe_2021_4", registry.register("doe_2021"));
+    }
+
+    @Test
+    void suffixedKeysStayWithinMaximumLength() {
+        CitationKeyRegistry registry = new CitationKeyRegistry();
+        String base = "k".repeat(64);
+        registry.register(base);
+
+        String second = registry.register(base);
+        assertEquals(64, second.length());
+        assertTrue(second.endsWith("_2"));
+    }
+
+    @Test
+    void releasedKeyIsNotReusedAsSuffix() {
+        CitationKeyRegistry registry = new CitationKeyRegistry();
+        registry.register("key");
+        String second = registry.register("key");
+
+        assertTrue(registry.release(second));
+        assertFalse(registry.contains(second));
+        assertEquals("key_3", registry.register("key"));
+    }
+
+    @Test
+    void concurrentRegistrationsAreUnique() throws Exception {
+        CitationKeyRegistry registry = new CitationKeyRegistry();
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 5000; i++) {
+                        keys.add(registry.register("smith_2020"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(20_000, keys.size());
+        assertTrue(keys.contains("smith_2020_20000"));
+    }
+
+    @Test
+    void savedRegistryCanBeLoaded(@TempDir Path tempDir) throws Exception {
+        CitationKeyRegistry registry = new CitationKeyRegistry();
+        registry.register("alpha");
+        registry.register("alpha");
+        Path file = tempDir.resolve("keys.txt");
+        registry.save(file);
+
+        CitationKeyRegistry loaded = CitationKeyRegistry.load(file);
+        assertEquals(2, loaded.size());
+        assertEquals("alpha_3", loaded.register("alpha"));
+    }
+}
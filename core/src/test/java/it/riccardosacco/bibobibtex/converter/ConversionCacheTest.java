@@ -0,0 +1,230 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.exception.ValidationException;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.CrossReferenceValue;
+import org.jbibtex.Key;
+import org.jbibtex.StringValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConversionCacheTest {
+
+    private final BibTeXBibliographicConverter converter = new BibTeXBibliographicConverter();
+
+    @Test
+    void fingerprintIgnoresFieldOrderAndNameCase() {
+        BibTeXEntry entry = entry("smith2020", "Title", "Smith, John");
+        BibTeXEntry reordered = new BibTeXEntry(new Key("ARTICLE"), new Key("smith2020"));
+        reordered.addField(new Key("AUTHOR"), new StringValue("Smith, John", StringValue.Style.BRACED));
+        reordered.addField(new Key("Year"), new StringValue(" 2020 ", StringValue.Style.BRACED));
+        reordered.addField(new Key("title"), new StringValue("Title", StringValue.Style.BRACED));
+
+        assertEquals(ConversionCache.fingerprint(entry), ConversionCache.fingerprint(reordered));
+        assertNotEquals(ConversionCache.fingerprint(entry),
+                ConversionCache.fingerprint(entry("smith2020", "Title.", "Smith, John")));
+        assertNotEquals(ConversionCache.fingerprint(entry),
+                ConversionCache.fingerprint(entry("smith2021", "Title", "Smith, John")));
+    }
+
+    @Test
+    void fingerprintIncludesCrossReferencedFields() {
+        BibTeXEntry proceedings = new BibTeXEntry(BibTeXEntry.TYPE_PROCEEDINGS, new Key("conf"));
+        proceedings.addField(BibTeXEntry.KEY_BOOKTITLE, new StringValue("Proceedings", StringValue.Style.BRACED));
+        BibTeXEntry paper = entry("paper", "Paper", "Doe, Jane");
+        paper.addField(BibTeXEntry.KEY_CROSSREF,
+                new CrossReferenceValue(new StringValue("conf", StringValue.Style.BRACED), proceedings));
+        ConversionCache.Fingerprint before = ConversionCache.fingerprint(paper);
+
+        proceedings.addField(BibTeXEntry.KEY_BOOKTITLE, new StringValue("Other", StringValue.Style.BRACED));
+
+        assertNotEquals(before, ConversionCache.fingerprint(paper));
+    }
+
+    @Test
+    void unchangedEntriesAreServedFromMemory() {
+        ConversionCache cache = new ConversionCache();
+        AtomicInteger conversions = new AtomicInteger();
+        Function<BibTeXEntry, BiboDocument> counting = entry -> {
+            conversions.incrementAndGet();
+            return converter.convertToBibo(entry).orElseThrow();
+        };
+        List<BibTeXEntry> entries = BatchConverterTest.entries(50);
+
+        List<BiboDocument> first = entries.stream().map(entry -> cache.getOrConvert(entry, counting)).toList();
+        List<BiboDocument> second = entries.stream().map(entry -> cache.getOrConvert(entry, counting)).toList();
+
+        assertEquals(first, second);
+        for (int i = 0; i < first.size(); i++) {
+            assertSame(first.get(i), second.get(i));
+        }
+        assertEquals(50, conversions.get());
+        ConversionCache.Stats stats = cache.stats();
+        assertEquals(50, stats.hits());
+        assertEquals(50, stats.misses());
+        assertEquals(50, stats.size());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void memoryTierEvictsLeastRecentlyUsedBeyondMaxWeight() {
+        long maxWeight = 16 * 2 * (ConversionCache.ENTRY_OVERHEAD + 256);
+        ConversionCache cache = new ConversionCache(maxWeight);
+
+        for (BibTeXEntry entry : BatchConverterTest.entries(500)) {
+            cache.getOrConvert(entry, source -> converter.convertToBibo(source).orElseThrow());
+        }
+
+        ConversionCache.Stats stats = cache.stats();
+        assertTrue(stats.evictions() > 0);
+        assertEquals(500, stats.size() + stats.evictions());
+        assertTrue(stats.weight() <= maxWeight);
+    }
+
+    @Test
+    void weightIsTheEstimatedSizeOfTheCachedDocuments() {
+        ConversionCache cache = new ConversionCache();
+        long expected = 0;
+        for (BibTeXEntry entry : BatchConverterTest.entries(20)) {
+            BiboDocument document = cache.getOrConvert(entry, source -> converter.convertToBibo(source).orElseThrow());
+            expected += ConversionCache.estimateWeight(document);
+        }
+
+        assertEquals(expected, cache.stats().weight());
+        BiboDocument small = BiboDocument.builder(BiboDocumentType.ARTICLE, "Title").build();
+        BiboDocument larger = BiboDocument.builder(BiboDocumentType.ARTICLE, "Title")
+                .addAuthor(BiboPersonName.builder("Smith, John").familyName("Smith").givenName("John").build())
+                .abstractText("An abstract")
+                .build();
+        assertTrue(ConversionCache.estimateWeight(small) > ConversionCache.ENTRY_OVERHEAD);
+        assertTrue(ConversionCache.estimateWeight(larger) > ConversionCache.estimateWeight(small));
+    }
+
+    @Test
+    void failedConversionsAreNotCached() {
+        ConversionCache cache = new ConversionCache();
+        BibTeXEntry invalid = new BibTeXEntry(BibTeXEntry.TYPE_ARTICLE, new Key("invalid"));
+        Function<BibTeXEntry, BiboDocument> failing = entry -> {
+            throw new ValidationException("Title is required");
+        };
+
+        assertThrows(ValidationException.class, () -> cache.getOrConvert(invalid, failing));
+        assertThrows(ValidationException.class, () -> cache.getOrConvert(invalid, failing));
+        assertEquals(0, cache.stats().size());
+        assertEquals(2, cache.stats().misses());
+    }
+
+    @Test
+    void persistentCacheIsReusedAcrossRuns(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("conversions.cache");
+        List<BibTeXEntry> entries = BatchConverterTest.entries(100);
+        List<BiboDocument> converted;
+        try (ConversionCache cache = ConversionCache.persistent(1 << 20, file)) {
+            converted = entries.stream()
+                    .map(entry -> cache.getOrConvert(entry, source -> converter.convertToBibo(source).orElseThrow()))
+                    .toList();
+        }
+        Files.write(file, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (ConversionCache cache = ConversionCache.persistent(1 << 20, file)) {
+            List<BiboDocument> reloaded = entries.stream()
+                    .map(entry -> cache.getOrConvert(entry, source -> {
+                        throw new AssertionError("converted " + source.getKey());
+                    }))
+                    .toList();
+
+            assertEquals(converted, reloaded);
+            assertEquals(100, cache.stats().diskHits());
+            assertEquals(100, cache.stats().diskSize());
+        }
+        Path foreign = Files.writeString(tempDir.resolve("foreign.cache"), "not a cache");
+        assertThrows(IOException.class, () -> ConversionCache.persistent(1 << 20, foreign));
+    }
+
+    @Test
+    void persistentCacheRejectsFilesOfAnotherMappingVersion(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("conversions.cache");
+        try (ConversionCache cache = ConversionCache.persistent(1 << 20, file)) {
+            for (BibTeXEntry entry : BatchConverterTest.entries(3)) {
+                cache.getOrConvert(entry, source -> converter.convertToBibo(source).orElseThrow());
+            }
+        }
+        int otherVersion = BibTeXBibliographicConverter.MAPPING_VERSION + 1;
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(12, otherVersion);
+        Files.write(file, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> ConversionCache.persistent(1 << 20, file));
+        assertTrue(e.getMessage().contains("mapping version " + otherVersion), e.getMessage());
+    }
+
+    @Test
+    void batchConverterServesRepeatedBatchesFromCache() {
+        ConversionCache cache = new ConversionCache();
+        List<BiboDocument> converted = new ArrayList<>();
+        ConversionListener listener = new ConversionListener() {
+            @Override
+            public void entryConverted(BibTeXEntry source, BiboDocument document) {
+                synchronized (converted) {
+                    converted.add(document);
+                }
+            }
+        };
+        List<BibTeXEntry> entries = BatchConverterTest.entries(200);
+        try (BatchConverter batch = new BatchConverter(2, listener, cache)) {
+            List<BiboDocument> first = batch.convertBatchParallel(entries);
+            List<BiboDocument> second = batch.convertBatchParallel(entries);
+
+            assertEquals(first, second);
+        }
+        assertEquals(200, cache.stats().misses());
+        assertEquals(200, cache.stats().hits());
+        assertEquals(400, converted.size());
+    }
+
+    @Test
+    void sharedExecutorAndVirtualThreadConvertersUseTheCache() {
+        ConversionCache cache = new ConversionCache();
+        List<BibTeXEntry> entries = BatchConverterTest.entries(100);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (BatchConverter shared = new BatchConverter(executor, 2, ConversionListener.NONE, cache);
+                BatchConverter virtual = BatchConverter.virtualThreads(2, ConversionListener.NONE, cache)) {
+            List<BiboDocument> first = shared.convertBatchParallel(entries);
+            List<BiboDocument> second = virtual.convertBatchParallel(entries);
+
+            assertEquals(first, second);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100, cache.stats().misses());
+        assertEquals(100, cache.stats().hits());
+    }
+
+    private static BibTeXEntry entry(String key, String title, String author) {
+        BibTeXEntry entry = new BibTeXEntry(BibTeXEntry.TYPE_ARTICLE, new Key(key));
+        entry.addField(BibTeXEntry.KEY_TITLE, new StringValue(title, StringValue.Style.BRACED));
+        entry.addField(BibTeXEntry.KEY_AUTHOR, new StringValue(author, StringValue.Style.BRACED));
+        entry.addField(BibTeXEntry.KEY_YEAR, new StringValue("2020", StringValue.Style.BRACED));
+        return entry;
+    }
+}
@@ -0,0 +1,113 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import it.riccardosacco.bibobibtex.exception.ValidationException;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import java.util.ArrayList;
+import java.util.List;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.Key;
+import org.jbibtex.StringValue;
+import org.junit.jupiter.api.Test;
+
+class ConversionListenerTest {
+
+    @Test
+    void batchConverterReportsConvertedAndSkippedEntries() {
+        RecordingListener listener = new RecordingListener();
+        BatchConverter converter = new BatchConverter(1, listener);
+
+        List<BiboDocument> documents = converter.convertBatch(List.of(entry("ok", "Title"), entry("bad", null)));
+
+        assertEquals(1, documents.size());
+        assertEquals(List.of("ok"), listener.converted);
+        assertEquals(List.of("bad"), listener.skipped);
+        assertInstanceOf(ValidationException.class, listener.reasons.get(0));
+    }
+
+    @Test
+    void converterReportsReverseConversions() {
+        RecordingListener listener = new RecordingListener();
+        BibTeXBibliographicConverter converter = new BibTeXBibliographicConverter(
+                BibTeXBibliographicConverter.KeyGenerationStrategy.AUTHOR_YEAR, listener);
+
+        BiboDocument document = converter.convertToBibo(entry("roundtrip", "Round Trip")).orElseThrow();
+        converter.convertFromBibo(document);
+
+        assertEquals(List.of("roundtrip"), listener.converted);
+        assertEquals(1, listener.exported);
+    }
+
+    @Test
+    void converterReportsReplacedCitationKeys() {
+        RecordingListener listener = new RecordingListener();
+        BibTeXBibliographicConverter converter = new BibTeXBibliographicConverter(
+                BibTeXBibliographicConverter.KeyGenerationStrategy.AUTHOR_YEAR, listener);
+
+        converter.convertFromBibo(BiboDocument.builder(BiboDocumentType.ARTICLE, "First").id("smith2020").build());
+        converter.convertFromBibo(BiboDocument.builder(BiboDocumentType.ARTICLE, "Second").id("smith2020").build());
+        converter.convertFromBibo(BiboDocument.builder(BiboDocumentType.ARTICLE, "Third").id("not a key").build());
+
+        assertEquals(List.of("smith2020", "not a key"), listener.replacedKeys);
+        assertEquals(3, listener.exported);
+    }
+
+    @Test
+    void sampledListenerForwardsFirstAndEveryNthEvent() {
+        RecordingListener delegate = new RecordingListener();
+        ConversionListener sampled = ConversionListener.sampled(delegate, 3);
+
+        for (int i = 0; i < 7; i++) {
+            sampled.entrySkipped(entry("k" + i, "T"), new ValidationException("invalid"));
+        }
+
+        assertEquals(List.of("k0", "k3", "k6"), delegate.skipped);
+    }
+
+    @Test
+    void sampledListenerRejectsInvalidInterval() {
+        assertThrows(IllegalArgumentException.class, () -> ConversionListener.sampled(ConversionListener.NONE, 0));
+    }
+
+    private static BibTeXEntry entry(String key, String title) {
+        BibTeXEntry entry = new BibTeXEntry(BibTeXEntry.TYPE_MISC, new Key(key));
+        if (title != null) {
+            entry.addField(BibTeXEntry.KEY_TITLE, new StringValue(title, StringValue.Style.BRACED));
+        }
+        entry.addField(BibTeXEntry.KEY_YEAR, new StringValue("2020", StringValue.Style.BRACED));
+        return entry;
+    }
+
+    private static final class RecordingListener implements ConversionListener {
+        private final List<String> converted = new ArrayList<>();
+        private final List<String> skipped = new ArrayList<>();
+        private final List<Exception> reasons = new ArrayList<>();
+        private final List<String> replacedKeys = new ArrayList<>();
+        private int exported;
+
+        @Override
+        public void entryConverted(BibTeXEntry source, BiboDocument document) {
+            converted.add(source.getKey().getValue());
+        }
+
+        @Override
+        public void entrySkipped(BibTeXEntry source, Exception reason) {
+            skipped.add(source.getKey().getValue());
+            reasons.add(reason);
+        }
+
+        @Override
+        public void documentConverted(BiboDocument source, BibTeXEntry entry) {
+            exported++;
+        }
+
+        @Override
+        public void citationKeyReplaced(BiboDocument source, String requestedKey, String assignedKey) {
+            replacedKeys.add(requestedKey);
+        }
+    }
+}
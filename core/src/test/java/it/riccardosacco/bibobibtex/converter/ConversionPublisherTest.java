@@ -0,0 +1,168 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.exception.BibliographicConversionException;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.jbibtex.BibTeXEntry;
+import org.junit.jupiter.api.Test;
+
+class ConversionPublisherTest {
+
+    @Test
+    void publishesConvertedDocumentsInSourceOrder() throws Exception {
+        List<BibTeXEntry> input = BatchConverterTest.entries(300);
+        input.get(42).removeField(BibTeXEntry.KEY_TITLE);
+
+        try (BatchConverter converter = new BatchConverter(4)) {
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            converter.publish(input.iterator(), 4, 16).subscribe(subscriber);
+            List<BiboDocument> documents = subscriber.done.get(10, TimeUnit.SECONDS);
+
+            assertEquals(299, documents.size());
+            assertEquals("Title 41", documents.get(41).title());
+            assertEquals("Title 43", documents.get(42).title());
+        }
+    }
+
+    @Test
+    void rdfHandlerSubscriberWritesSameStatementsAsStreaming() throws Exception {
+        List<BibTeXEntry> input = BatchConverterTest.entries(100);
+        Model streamed = new LinkedHashModel();
+        Model published = new LinkedHashModel();
+
+        try (BatchConverter converter = new BatchConverter(2)) {
+            converter.convertStreamTo(input.stream(), new StatementCollector(streamed));
+            RDFHandlerSubscriber sink = new RDFHandlerSubscriber(new StatementCollector(published), 8);
+            converter.publish(input.iterator(), 2, 8).subscribe(sink);
+            assertEquals(100L, sink.completion().get(10, TimeUnit.SECONDS));
+        }
+        assertTrue(Models.isomorphic(streamed, published));
+    }
+
+    @Test
+    void readsNoFurtherAheadThanTheBuffer() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        Iterator<BibTeXEntry> entries = BatchConverterTest.entries(1000).iterator();
+        Iterator<BibTeXEntry> source = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public BibTeXEntry next() {
+                reads.incrementAndGet();
+                return entries.next();
+            }
+        };
+
+        try (BatchConverter converter = new BatchConverter(2)) {
+            CollectingSubscriber subscriber = new CollectingSubscriber(5);
+            converter.publish(source, 2, 10).subscribe(subscriber);
+            assertTrue(subscriber.received.await(10, TimeUnit.SECONDS));
+            Thread.sleep(200);
+            assertTrue(reads.get() <= 15, "Read " + reads.get() + " entries for a demand of 5");
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertEquals(1000, subscriber.done.get(10, TimeUnit.SECONDS).size());
+        }
+    }
+
+    @Test
+    void sourceFailureTerminatesWithError() throws Exception {
+        Iterator<BibTeXEntry> source = new Iterator<>() {
+            private int remaining = 3;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public BibTeXEntry next() {
+                if (remaining-- == 0) {
+                    throw new BibliographicConversionException("Failed to parse BibTeX object");
+                }
+                return BatchConverterTest.entries(1).get(0);
+            }
+        };
+
+        try (BatchConverter converter = new BatchConverter(2)) {
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            converter.publish(source, 2, 4).subscribe(subscriber);
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> subscriber.done.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(BibliographicConversionException.class, failure.getCause());
+            assertEquals(3, subscriber.documents.size());
+        }
+    }
+
+    @Test
+    void rejectsSecondSubscriber() throws Exception {
+        try (BatchConverter converter = new BatchConverter(1)) {
+            Flow.Publisher<BiboDocument> publisher = converter.publish(BatchConverterTest.entries(3).iterator());
+            CollectingSubscriber first = new CollectingSubscriber(Long.MAX_VALUE);
+            CollectingSubscriber second = new CollectingSubscriber(Long.MAX_VALUE);
+            publisher.subscribe(first);
+            publisher.subscribe(second);
+
+            assertEquals(3, first.done.get(10, TimeUnit.SECONDS).size());
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> second.done.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<BiboDocument> {
+        private final long initialRequest;
+        private final List<BiboDocument> documents = Collections.synchronizedList(new ArrayList<>());
+        private final CompletableFuture<List<BiboDocument>> done = new CompletableFuture<>();
+        private final CountDownLatch received;
+        private volatile Flow.Subscription subscription;
+
+        CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+            this.received = new CountDownLatch((int) Math.min(initialRequest, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(BiboDocument document) {
+            documents.add(document);
+            received.countDown();
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            done.completeExceptionally(failure);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(documents);
+        }
+    }
+}
@@ -5,7 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.jbibtex.BibTeXEntry;
 import org.jbibtex.Key;
 import org.jbibtex.StringValue;
@@ -64,6 +68,67 @@ class ConversionStatisticsTest {
         assertEquals(entries.size(), stats.getTotalEntries());
     }
 
+    @Test
+    void parallelStatisticsMatchSequential() {
+        List<BibTeXEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            entries.add(i % 30 == 0 ? new BibTeXEntry(BibTeXEntry.TYPE_ARTICLE, new Key("bad" + i))
+                    : createEntry("e" + i));
+        }
+
+        ConversionStatistics sequential = batchConverter.convertBatchWithStats(entries).getStatistics();
+        BatchConversionResult parallel;
+        try (BatchConverter converter = new BatchConverter(4)) {
+            parallel = converter.convertBatchParallelWithStats(entries);
+        }
+        ConversionStatistics stats = parallel.getStatistics();
+
+        assertEquals(sequential.getTotalEntries(), stats.getTotalEntries());
+        assertEquals(sequential.getSuccessfulConversions(), stats.getSuccessfulConversions());
+        assertEquals(sequential.getFailedConversions(), stats.getFailedConversions());
+        assertEquals(sequential.getFieldStatistics(), stats.getFieldStatistics());
+        assertEquals(10, stats.getWarningMessages().size());
+        assertEquals("Title e1", parallel.getDocuments().get(0).title());
+    }
+
+    @Test
+    void collectorCountsConcurrentUpdatesWithoutLoss() throws Exception {
+        StatisticsCollector collector = new StatisticsCollector(16);
+        collector.startTracking();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        collector.recordEntry();
+                        collector.recordFailure(new IllegalStateException("failure " + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ConversionStatistics stats = collector.build();
+        assertEquals(40_000, stats.getTotalEntries());
+        assertEquals(40_000, stats.getFailedConversions());
+        assertEquals(16, stats.getWarningMessages().size(), "Warnings are bounded by the ring capacity");
+    }
+
+    @Test
+    void warningRingKeepsMostRecentInOrder() {
+        StatisticsCollector collector = new StatisticsCollector(3);
+        for (int i = 1; i <= 5; i++) {
+            collector.recordWarning("warning " + i);
+        }
+        assertEquals(List.of("warning 3", "warning 4", "warning 5"), collector.build().getWarningMessages());
+        assertEquals(0, collector.fieldCount(StatisticsCollector.Field.TITLE));
+    }
+
     private BibTeXEntry createEntry(String key) {
         BibTeXEntry entry = new BibTeXEntry(BibTeXEntry.TYPE_ARTICLE, new Key(key));
         entry.addField(BibTeXEntry.KEY_TITLE, braced("Title " + key));
@@ -0,0 +1,157 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.jbibtex.BibTeXEntry;
+import org.jbibtex.Key;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedBibTeXParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void preservesEntryOrderAcrossChunks() throws IOException {
+        StringBuilder bib = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            bib.append("@article{key").append(i).append(", title = {Title ").append(i).append("}, year = 2020}\n");
+        }
+        Path file = write(bib.toString());
+
+        MappedBibTeXParser.Parsed<BibTeXEntry> parsed = new MappedBibTeXParser(4, 64).parse(file);
+
+        List<String> keys = parsed.values().stream().map(entry -> entry.getKey().getValue()).toList();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            expected.add("key" + i);
+        }
+        assertEquals(expected, keys);
+    }
+
+    @Test
+    void appliesStringMacrosDefinedInEarlierChunks() throws IOException {
+        StringBuilder bib = new StringBuilder("@string{venue = \"First Venue\"}\n");
+        for (int i = 0; i < 50; i++) {
+            bib.append("@inproceedings{a").append(i).append(", title = {A}, booktitle = venue, year = 2020}\n");
+        }
+        bib.append("@string{venue = \"Second Venue\"}\n@preamble{\"p\"}\n");
+        for (int i = 0; i < 50; i++) {
+            bib.append("@inproceedings{b").append(i).append(", title = {B}, booktitle = venue, year = 2020}\n");
+        }
+        Path file = write(bib.toString());
+
+        MappedBibTeXParser.Parsed<String> parsed = new MappedBibTeXParser(4, 128)
+                .parse(file, entry -> Optional.of(entry.getField(BibTeXEntry.KEY_BOOKTITLE).toUserString()));
+
+        assertEquals(100, parsed.values().size());
+        assertEquals("First Venue", parsed.values().get(49));
+        assertEquals("Second Venue", parsed.values().get(50));
+        assertEquals(1, parsed.preambles().size());
+        assertEquals("Second Venue", parsed.strings().get(new Key("venue")).getValue().toUserString());
+    }
+
+    @Test
+    void matchesSequentialReaderOnSampleBibliography() throws IOException {
+        Path file = projectRoot().resolve("test-data/bibtex/PapersDB.bib");
+
+        List<String> sequential = new ArrayList<>();
+        try (BibTeXEntryReader reader = BibTeXEntryReader.open(file)) {
+            reader.forEachRemaining(entry -> sequential.add(entry.getKey().getValue()));
+        }
+        List<String> mapped = new MappedBibTeXParser(4, 4096).parse(file).values().stream()
+                .map(entry -> entry.getKey().getValue())
+                .toList();
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, mapped);
+    }
+
+    @Test
+    void skipsUnterminatedObjectAtEndOfFile() throws IOException {
+        Path file = write("@article{ok, title = {Ok}, year = 2020}\n@article{broken, title = {Open\n");
+
+        MappedBibTeXParser.Parsed<BibTeXEntry> parsed = new MappedBibTeXParser(2, 16).parse(file);
+
+        assertEquals(List.of("ok"), parsed.values().stream().map(entry -> entry.getKey().getValue()).toList());
+        assertEquals(1, parsed.malformed());
+    }
+
+    @Test
+    void skipsMalformedObjectsAndKeepsTheRestOfTheirChunks() throws IOException {
+        StringBuilder bib = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (i % 30 == 15) {
+                bib.append("@article{bad").append(i).append(", title = {Bad} = {value}}\n");
+                continue;
+            }
+            bib.append("@article{key").append(i).append(", title = {Title ").append(i).append("}, year = 2020}\n");
+            expected.add("key" + i);
+        }
+        Path file = write(bib.toString());
+
+        List<String> streamed = new ArrayList<>();
+        MappedBibTeXParser.Parsed<String> parsed = new MappedBibTeXParser(4, 256)
+                .parse(file, entry -> Optional.of(entry.getKey().getValue()), streamed::add);
+
+        assertEquals(expected, streamed);
+        assertTrue(parsed.values().isEmpty());
+        assertEquals(3, parsed.malformed());
+    }
+
+    @Test
+    void batchConverterConvertsMappedFileInOrder() throws IOException {
+        Path file = write("""
+                @article{a1, author = {Ada Lovelace}, title = {Notes}, journal = {Memoirs}, year = 1843}
+                @book{b1, author = {Charles Babbage}, title = {Passages}, publisher = {Longman}, year = 1864}
+                """);
+
+        try (BatchConverter converter = new BatchConverter(2)) {
+            List<BiboDocument> documents = converter.convertFileParallel(file);
+
+            assertEquals(List.of("Notes", "Passages"), documents.stream().map(BiboDocument::title).toList());
+        }
+    }
+
+    @Test
+    void batchConverterStreamsMappedFileAndCountsMalformedObjects() throws IOException {
+        Path file = write("""
+                @article{a1, author = {Ada Lovelace}, title = {Notes}, journal = {Memoirs}, year = 1843}
+                @article{broken, title = {Broken} = {value}}
+                @book{b1, author = {Charles Babbage}, title = {Passages}, publisher = {Longman}, year = 1864}
+                """);
+
+        try (BatchConverter converter = new BatchConverter(2)) {
+            List<String> titles = new ArrayList<>();
+            long converted = converter.convertFileParallel(file, document -> titles.add(document.title()));
+
+            assertEquals(2, converted);
+            assertEquals(List.of("Notes", "Passages"), titles);
+            assertEquals(1, converter.skippedCount());
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("input.bib");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static Path projectRoot() {
+        Path moduleRoot = Paths.get("").toAbsolutePath();
+        return moduleRoot.endsWith("core") ? moduleRoot.getParent() : moduleRoot;
+    }
+}
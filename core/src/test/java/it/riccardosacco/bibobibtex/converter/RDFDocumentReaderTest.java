@@ -0,0 +1,225 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboContributor;
+import it.riccardosacco.bibobibtex.model.bibo.BiboContributorRole;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPublicationDate;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RDFDocumentReaderTest {
+
+    private final BibTeXBibliographicConverter converter = new BibTeXBibliographicConverter();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsSameDocumentsAsModelBasedConversion() {
+        String ntriples = write(documents(40), RDFFormat.NTRIPLES);
+
+        List<BiboDocument> expected = converter.convertAllFromRDF(
+                parse(ntriples, RDFFormat.NTRIPLES));
+        List<BiboDocument> streamed = stream(ntriples, RDFFormat.NTRIPLES, 25);
+
+        assertEquals(40, streamed.size());
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    void readsTurtleWithNestedBlankNodes() {
+        List<BiboDocument> documents = documents(20);
+        String turtle = write(documents, RDFFormat.TURTLE);
+
+        assertEquals(documents, stream(turtle, RDFFormat.TURTLE, 10));
+    }
+
+    @Test
+    void deliversDocumentWhenNextSubjectStarts() {
+        List<BiboDocument> documents = documents(2);
+        List<BiboDocument> delivered = new ArrayList<>();
+        RDFDocumentReader reader = new RDFDocumentReader(delivered::add);
+        reader.startRDF();
+        documents.getFirst().emitTo(reader);
+        assertTrue(delivered.isEmpty());
+
+        documents.get(1).emitTo(reader);
+        assertEquals(List.of(documents.getFirst()), delivered);
+
+        reader.endRDF();
+        assertEquals(documents, delivered);
+        assertEquals(2, reader.documentCount());
+        assertEquals(0, reader.bufferedStatements());
+    }
+
+    @Test
+    void waitsForBlankNodesListedAfterTheDocument() {
+        List<BiboDocument> documents = documents(30);
+        String[] lines = write(documents, RDFFormat.NTRIPLES).split("\n");
+        Arrays.sort(lines);
+
+        List<BiboDocument> streamed = stream(String.join("\n", lines), RDFFormat.NTRIPLES,
+                RDFDocumentReader.DEFAULT_BUFFER_SIZE);
+
+        assertEquals(new HashSet<>(documents), new HashSet<>(streamed));
+    }
+
+    @Test
+    void readsBlankNodeDocuments() {
+        List<BiboDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            documents.add(BiboDocument.builder(BiboDocumentType.BOOK, "Anonymous " + i)
+                    .containerTitle("Series " + i)
+                    .addContributor(author("Given" + i, "Family" + i))
+                    .build());
+        }
+        String ntriples = write(documents, RDFFormat.NTRIPLES);
+
+        assertEquals(documents, stream(ntriples, RDFFormat.NTRIPLES, 20));
+    }
+
+    @Test
+    void keepsBufferNearItsBound() {
+        List<BiboDocument> documents = documents(200);
+        int[] largest = new int[1];
+        RDFDocumentReader[] reader = new RDFDocumentReader[1];
+        reader[0] = new RDFDocumentReader(
+                document -> largest[0] = Math.max(largest[0], reader[0].bufferedStatements()), 30);
+        reader[0].startRDF();
+        documents.forEach(document -> document.emitTo(reader[0]));
+        reader[0].endRDF();
+
+        assertEquals(200, reader[0].documentCount());
+        assertTrue(largest[0] <= 60, "buffered " + largest[0]);
+    }
+
+    @Test
+    void skipsDocumentsWithoutTitle() {
+        List<BiboDocument> delivered = new ArrayList<>();
+        RDFDocumentReader reader = new RDFDocumentReader(delivered::add);
+        List<Statement> statements = new ArrayList<>(documents(1).getFirst().rdfModel());
+        statements.removeIf(statement -> statement.getPredicate().getLocalName().equals("title"));
+
+        reader.startRDF();
+        statements.forEach(reader::handleStatement);
+        reader.endRDF();
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, reader.skippedCount());
+    }
+
+    @Test
+    void readRdfFileStreamsDocuments() throws IOException {
+        List<BiboDocument> documents = documents(15);
+        Path file = tempDir.resolve("documents.nt");
+        Files.writeString(file, write(documents, RDFFormat.NTRIPLES), StandardCharsets.UTF_8);
+
+        List<BiboDocument> read = new ArrayList<>();
+        long count = converter.readRDFFile(file, read::add);
+
+        assertEquals(15, count);
+        assertEquals(documents, read);
+    }
+
+    @Test
+    void readRdfFileRejectsFormatsWithoutParser() throws IOException {
+        Path file = tempDir.resolve("documents.nq");
+        Files.writeString(file, write(documents(2), RDFFormat.NTRIPLES), StandardCharsets.UTF_8);
+
+        IOException error = assertThrows(IOException.class, () -> converter.readRDFFile(file, document -> { }));
+        assertTrue(error.getMessage().contains("N-Quads"), error.getMessage());
+    }
+
+    @Test
+    void importFromReaderStreamsDocuments() {
+        List<BiboDocument> documents = documents(5);
+        List<BiboDocument> read = new ArrayList<>();
+        long count = new RDFFormatConverter().importFrom(
+                new StringReader(write(documents, RDFFormat.TURTLE)), RDFFormat.TURTLE, read::add);
+
+        assertEquals(5, count);
+        assertEquals(documents, read);
+    }
+
+    private static List<BiboDocument> stream(String content, RDFFormat format, int bufferSize) {
+        List<BiboDocument> documents = new ArrayList<>();
+        RDFParser parser = Rio.createParser(format);
+        parser.setRDFHandler(new RDFDocumentReader(documents::add, bufferSize));
+        try {
+            parser.parse(new StringReader(content), "");
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return documents;
+    }
+
+    private static Model parse(String content, RDFFormat format) {
+        Model model = new LinkedHashModel();
+        RDFParser parser = Rio.createParser(format);
+        parser.setRDFHandler(new StatementCollector(model));
+        try {
+            parser.parse(new StringReader(content), "");
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return model;
+    }
+
+    private static String write(List<BiboDocument> documents, RDFFormat format) {
+        StringWriter out = new StringWriter();
+        RDFWriter writer = Rio.createWriter(format, out);
+        writer.startRDF();
+        BiboDocument.emitNamespaces(writer);
+        documents.forEach(document -> document.emitTo(writer));
+        writer.endRDF();
+        return out.toString();
+    }
+
+    private static List<BiboDocument> documents(int count) {
+        List<BiboDocument> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(BiboDocument.builder(BiboDocumentType.CONFERENCE_PAPER, "Paper " + i)
+                    .id("http://example.org/docs/paper" + i)
+                    .containerTitle("Proceedings " + (i % 3))
+                    .conferenceLocation("Venue " + (i % 3))
+                    .publicationDate(BiboPublicationDate.ofYear(2000 + i % 20))
+                    .addContributor(author("Alice" + i, "Smith"))
+                    .addContributor(author("Bob" + i, "Johnson"))
+                    .addKeyword("topic" + i)
+                    .build());
+        }
+        return documents;
+    }
+
+    private static BiboContributor author(String given, String family) {
+        BiboPersonName name = BiboPersonName.builder(given + " " + family)
+                .givenName(given)
+                .familyName(family)
+                .build();
+        return new BiboContributor(name, BiboContributorRole.AUTHOR);
+    }
+}
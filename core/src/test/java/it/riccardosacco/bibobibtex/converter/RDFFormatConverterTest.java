@@ -0,0 +1,179 @@
+package it.riccardosacco.bibobibtex.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.exception.BibliographicConversionException;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.jupiter.api.Test;
+
+class RDFFormatConverterTest {
+
+    private final RDFFormatConverter converter = new RDFFormatConverter();
+
+    @Test
+    void streamedExportWritesEveryDocumentStatement() throws IOException {
+        List<BiboDocument> documents = documents(50);
+        StringWriter writer = new StringWriter();
+
+        long written = converter.exportAllAs(documents.stream(), RDFFormat.NTRIPLES, writer);
+
+        assertEquals(50, written);
+        Model expected = new LinkedHashModel();
+        documents.forEach(document -> expected.addAll(document.rdfModel()));
+        Model actual = Rio.parse(new StringReader(writer.toString()), "", RDFFormat.NTRIPLES);
+        assertTrue(Models.isomorphic(expected, actual));
+    }
+
+    @Test
+    void streamedExportDeclaresNamespacesOnce() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        converter.exportAllAs(documents(10).iterator(), RDFFormat.TURTLE, output);
+
+        String turtle = output.toString(StandardCharsets.UTF_8);
+        assertEquals(1, turtle.split("@prefix bibo:", -1).length - 1);
+    }
+
+    @Test
+    void streamedExportWritesWhileConsumingDocuments() {
+        StringWriter writer = new StringWriter();
+        int[] writtenBeforeLast = new int[1];
+
+        long written = converter.exportAllAs(IntStream.range(0, 1000)
+                .peek(index -> {
+                    if (index == 999) {
+                        writtenBeforeLast[0] = writer.getBuffer().length();
+                    }
+                })
+                .mapToObj(RDFFormatConverterTest::document), RDFFormat.NTRIPLES, writer);
+
+        assertEquals(1000, written);
+        assertTrue(writtenBeforeLast[0] > 0);
+        assertEquals(1000, converter.importFrom(writer.toString(), RDFFormat.NTRIPLES).size());
+    }
+
+    @Test
+    void byteStreamNTriplesExportMatchesCharacterStreamExport() {
+        List<BiboDocument> documents = documents(20);
+        documents.forEach(BiboDocument::rdfModel);
+        StringWriter writer = new StringWriter();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        converter.exportAllAs(documents.stream(), RDFFormat.NTRIPLES, writer);
+        long written = converter.exportAllAs(documents.stream(), RDFFormat.NTRIPLES, output);
+
+        assertEquals(20, written);
+        assertEquals(writer.toString(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void byteStreamExportWritesNQuads() throws IOException {
+        List<BiboDocument> documents = documents(5);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        converter.exportAllAs(documents.iterator(), RDFFormat.NQUADS, output);
+
+        Model actual = Rio.parse(new StringReader(output.toString(StandardCharsets.UTF_8)), "",
+                RDFFormat.NTRIPLES);
+        Model expected = new LinkedHashModel();
+        documents.forEach(document -> expected.addAll(document.rdfModel()));
+        assertTrue(Models.isomorphic(expected, actual));
+    }
+
+    @Test
+    void listExportRoundTrips() {
+        List<BiboDocument> documents = documents(5);
+
+        String turtle = converter.exportAllAs(documents, RDFFormat.TURTLE);
+
+        assertEquals(documents, converter.importFrom(turtle, RDFFormat.TURTLE));
+    }
+
+    @Test
+    void listExportWritesStatementsSharedByDocumentsOnce() {
+        BiboDocument first = BiboDocument.builder(BiboDocumentType.ARTICLE, "Shared")
+                .id("http://example.org/docs/shared")
+                .addKeyword("first")
+                .build();
+        BiboDocument second = BiboDocument.builder(BiboDocumentType.ARTICLE, "Shared")
+                .id("http://example.org/docs/shared")
+                .addKeyword("second")
+                .build();
+
+        String ntriples = converter.exportAllAs(List.of(first, second), RDFFormat.NTRIPLES);
+
+        Model expected = new LinkedHashModel(first.rdfModel());
+        expected.addAll(second.rdfModel());
+        assertEquals(expected.size(), lines(ntriples).size());
+        assertEquals(lines(ntriples).size(), lines(ntriples).stream().distinct().count());
+    }
+
+    @Test
+    void streamedExportWritesSharedStatementsOncePerDocument() {
+        BiboDocument document = document(1);
+        StringWriter writer = new StringWriter();
+
+        converter.exportAllAs(Stream.of(document, document), RDFFormat.NTRIPLES, writer);
+
+        // Statements about the shared subject IRI are repeated; the container is a new blank node each time
+        List<String> lines = lines(writer.toString());
+        List<String> shared = lines.stream().filter(line -> !line.contains("_:")).toList();
+        assertEquals(2 * document.rdfModel().size(), lines.size());
+        assertEquals(shared.size(), 2 * shared.stream().distinct().count());
+    }
+
+    @Test
+    void streamedExportWrapsWriteFailures() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThrows(BibliographicConversionException.class,
+                () -> converter.exportAllAs(documents(3).stream(), RDFFormat.NTRIPLES, failing));
+    }
+
+    private static List<String> lines(String ntriples) {
+        return ntriples.lines().filter(line -> !line.isBlank()).toList();
+    }
+
+    private static List<BiboDocument> documents(int count) {
+        return IntStream.range(0, count).mapToObj(RDFFormatConverterTest::document).toList();
+    }
+
+    private static BiboDocument document(int index) {
+        return BiboDocument.builder(BiboDocumentType.ARTICLE, "Article " + index)
+                .id("http://example.org/docs/article" + index)
+                .containerTitle("Journal " + (index % 4))
+                .addKeyword("keyword" + index)
+                .build();
+    }
+}
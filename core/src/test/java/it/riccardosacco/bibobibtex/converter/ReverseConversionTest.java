@@ -142,9 +142,27 @@ class ReverseConversionTest {
         model.add(subject, DCTERMS.IS_PART_OF, container);
 
         List<BiboDocument> documents = converter.convertAllFromRDF(model);
+        assertEquals(1, documents.size());
         assertEquals("Proceedings of Blank Nodes", documents.getFirst().containerTitle().orElseThrow());
     }
 
+    @Test
+    void convertAllFromRdfParallelMatchesSequentialOrder() {
+        Model merged = new LinkedHashModel();
+        merged.addAll(sampleArticle().rdfModel());
+        merged.addAll(sampleBook().rdfModel());
+        merged.addAll(multiAuthorDocument().rdfModel());
+        merged.addAll(thesisDocument().rdfModel());
+
+        List<BiboDocument> sequential = converter.convertAllFromRDF(merged);
+        List<BiboDocument> parallel = converter.convertAllFromRDFParallel(merged);
+        assertEquals(4, sequential.size());
+        assertEquals(sequential.stream().map(BiboDocument::title).toList(),
+                parallel.stream().map(BiboDocument::title).toList());
+        assertEquals(sequential.stream().map(BiboDocument::authors).toList(),
+                parallel.stream().map(BiboDocument::authors).toList());
+    }
+
     @Test
     void convertFromRdfFileDetectsTurtle() throws IOException {
         BiboDocument document = sampleArticle();
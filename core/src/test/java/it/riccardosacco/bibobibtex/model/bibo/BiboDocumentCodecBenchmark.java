@@ -0,0 +1,91 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import it.riccardosacco.bibobibtex.converter.RDFFormatConverter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmark comparing {@link BiboDocumentCodec} with Turtle and N-Triples for writing a batch of
+ * documents and reading it back. The setup prints the encoded size of the batch in each format.
+ * <p>
+ * Run with:
+ * <pre>
+ *   mvn -DskipTests -Dtest=none -DfailIfNoTests=false -Pjmh test
+ *   java -jar target/benchmarks.jar BiboDocumentCodecBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BiboDocumentCodecBenchmark {
+
+    @Param({"1000"})
+    int batchSize;
+
+    @Param({"CODEC", "TURTLE", "NTRIPLES"})
+    String format;
+
+    private final RDFFormatConverter converter = new RDFFormatConverter();
+    private List<BiboDocument> documents;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        documents = BiboDocumentCodecTest.documents(batchSize);
+        encoded = encode();
+        System.out.printf("%n%s: %d bytes for %d documents%n", format, encoded.length, batchSize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        switch (format) {
+            case "CODEC" -> {
+                BiboDocumentCodec codec = new BiboDocumentCodec();
+                DataOutputStream out = new DataOutputStream(bytes);
+                codec.writeHeader(out);
+                for (BiboDocument document : documents) {
+                    codec.encode(document, out);
+                }
+            }
+            case "TURTLE" -> converter.exportAllAs(documents.iterator(), RDFFormat.TURTLE, bytes);
+            default -> converter.exportAllAs(documents.iterator(), RDFFormat.NTRIPLES, bytes);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<BiboDocument> decode() throws IOException {
+        return switch (format) {
+            case "CODEC" -> {
+                BiboDocumentCodec codec = new BiboDocumentCodec();
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded));
+                codec.readHeader(in);
+                List<BiboDocument> decoded = new ArrayList<>(batchSize);
+                for (int i = 0; i < batchSize; i++) {
+                    decoded.add(codec.decode(in));
+                }
+                yield decoded;
+            }
+            case "TURTLE" -> converter.importFrom(new String(encoded, StandardCharsets.UTF_8), RDFFormat.TURTLE);
+            default -> converter.importFrom(new String(encoded, StandardCharsets.UTF_8), RDFFormat.NTRIPLES);
+        };
+    }
+}
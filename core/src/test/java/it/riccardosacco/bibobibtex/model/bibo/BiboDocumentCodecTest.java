@@ -0,0 +1,163 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BiboDocumentCodecTest {
+
+    private final BiboDocumentCodec codec = new BiboDocumentCodec();
+
+    @Test
+    void dataStreamRoundTripsDocuments() throws IOException {
+        List<BiboDocument> documents = documents(500);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        codec.writeHeader(out);
+        for (BiboDocument document : documents) {
+            codec.encode(document, out);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        BiboDocumentCodec decoder = new BiboDocumentCodec();
+        decoder.readHeader(in);
+        for (BiboDocument document : documents) {
+            assertEquals(document, decoder.decode(in));
+        }
+        assertThrows(EOFException.class, () -> decoder.decode(in));
+    }
+
+    @Test
+    void byteBufferRoundTripsDocuments() throws IOException {
+        List<BiboDocument> documents = documents(200);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        codec.writeHeader(buffer);
+        documents.forEach(document -> codec.encode(document, buffer));
+        buffer.flip();
+
+        codec.readHeader(buffer);
+        for (BiboDocument document : documents) {
+            assertEquals(document, codec.decode(buffer));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void roundTripsEveryFieldAndCharacter() throws IOException {
+        BiboDocument document = BiboDocument.builder(BiboDocumentType.CONFERENCE_PAPER, "Ünïcödé ∑ 𝔅ibo 🐘")
+                .id("http://example.org/docs/paper")
+                .subtitle("Sub")
+                .addContributor(new BiboContributor(BiboPersonName.builder("Ludwig van Beethoven")
+                        .givenName("Ludwig")
+                        .middleName("M.")
+                        .nameParticle("van")
+                        .familyName("Beethoven")
+                        .suffix("Jr.")
+                        .build(), BiboContributorRole.TRANSLATOR, "Universität Bonn"))
+                .publicationDate(BiboPublicationDate.ofYear(Integer.MAX_VALUE))
+                .publisher("Publisher")
+                .placeOfPublication("Place")
+                .conferenceLocation("Location")
+                .conferenceOrganizer("Organizer")
+                .degreeType("Degree")
+                .containerTitle("Proceedings")
+                .volume("1")
+                .issue("2")
+                .pages("3--4")
+                .url("https://example.org/paper")
+                .language("de")
+                .abstractText("a".repeat(70_000))
+                .notes("Notes")
+                .series("Series")
+                .edition("Edition")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.OTHER, "id"))
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.ISBN_13, "9780306406157"))
+                .addKeyword("k1")
+                .addKeyword("k2")
+                .build();
+
+        assertEquals(document, codec.fromBytes(codec.toBytes(document)));
+    }
+
+    @Test
+    void encodesUnpairedSurrogatesLikeStringGetBytes() throws IOException {
+        String title = "broken \uD800 pair \uDC00 end";
+        BiboDocument document = BiboDocument.builder(BiboDocumentType.ARTICLE, title).build();
+
+        BiboDocument decoded = codec.fromBytes(codec.toBytes(document));
+
+        assertEquals(new String(title.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8), decoded.title());
+    }
+
+    @Test
+    void encodingIsMuchSmallerThanTurtle() {
+        BiboDocument document = documents(1).getFirst();
+
+        int encoded = codec.toBytes(document).length;
+
+        assertTrue(encoded * 5 < document.toTurtle().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void rejectsForeignTruncatedAndIncompatibleData() {
+        byte[] bytes = codec.toBytes(documents(1).getFirst());
+        byte[] version = bytes.clone();
+        version[4] = (byte) (BiboDocumentCodec.VERSION + 1);
+        byte[] fingerprint = bytes.clone();
+        fingerprint[8] ^= 1;
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 1);
+
+        assertThrows(IOException.class, () -> codec.fromBytes("@article{key}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IOException.class, () -> codec.fromBytes(version));
+        assertThrows(IOException.class, () -> codec.fromBytes(fingerprint));
+        assertThrows(IOException.class, () -> codec.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IOException.class, () -> codec.fromBytes(trailing));
+        assertThrows(IOException.class, () -> codec.fromBytes(Arrays.copyOf(bytes, BiboDocumentCodec.HEADER_BYTES)));
+    }
+
+    @Test
+    void fullBufferIsLeftUntouched() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        assertThrows(BufferOverflowException.class, () -> codec.encode(documents(1).getFirst(), buffer));
+        assertEquals(0, buffer.position());
+        assertArrayEquals(new byte[8], buffer.array());
+    }
+
+    static List<BiboDocument> documents(int count) {
+        return IntStream.range(0, count).mapToObj(index -> BiboDocument.builder(
+                        BiboDocumentType.values()[index % BiboDocumentType.values().length], "Document " + index)
+                .id(index % 2 == 0 ? "http://example.org/docs/" + index : "key" + index)
+                .addAuthor(BiboPersonName.builder("Author " + index % 7)
+                        .givenName("Given")
+                        .familyName("Family" + index % 7)
+                        .build())
+                .addEditor(BiboPersonName.builder("Editor " + index % 3).build())
+                .publicationDate(BiboPublicationDate.ofYearMonth(1990 + index % 30, 1 + index % 12))
+                .publisher("Publisher " + index % 5)
+                .containerTitle(index % 4 == 0 ? null : "Journal " + index % 9)
+                .volume(String.valueOf(index % 20))
+                .pages(index + "--" + (index + 10))
+                .language("en")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/" + index))
+                .addKeyword("topic" + index % 11)
+                .addKeyword("shared")
+                .build()).toList();
+    }
+}
@@ -0,0 +1,135 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BiboDocumentTableTest {
+
+    @Test
+    void materializesDocumentsEqualToTheAddedOnes() {
+        List<BiboDocument> documents = documents(500);
+        BiboDocumentTable table = new BiboDocumentTable();
+        documents.forEach(table::add);
+
+        assertEquals(500, table.size());
+        for (int row = 0; row < documents.size(); row++) {
+            assertEquals(documents.get(row), table.document(row));
+        }
+    }
+
+    @Test
+    void rowViewsExposeDocumentAccessors() {
+        BiboDocument document = documents(1).getFirst();
+        BiboDocumentTable table = new BiboDocumentTable(0);
+        BiboDocumentView view = table.get(table.add(document));
+
+        assertEquals(document.id(), view.id());
+        assertEquals(document.type(), view.type());
+        assertEquals(document.title(), view.title());
+        assertEquals(document.contributors(), view.contributors());
+        assertEquals(document.authors(), view.authors());
+        assertEquals(document.editors(), view.editors());
+        assertEquals(document.publicationDate(), view.publicationDate());
+        assertEquals(document.publisher(), view.publisher());
+        assertEquals(document.containerTitle(), view.containerTitle());
+        assertEquals(document.identifiers(), view.identifiers());
+        assertEquals(document.keywords(), view.keywords());
+        assertEquals(document.language(), view.language());
+        assertTrue(view.notes().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> view.keywords().add("extra"));
+    }
+
+    @Test
+    void repeatedValuesAreStoredOnce() {
+        BiboDocumentTable table = new BiboDocumentTable();
+        table.add(BiboDocument.builder(BiboDocumentType.ARTICLE, "One").publisher(new String("Press")).build());
+        table.add(BiboDocument.builder(BiboDocumentType.ARTICLE, "Two").publisher(new String("Press")).build());
+
+        assertSame(table.get(0).publisher().orElseThrow(), table.get(1).publisher().orElseThrow());
+    }
+
+    @Test
+    void keepsDatesOfEveryPrecision() {
+        BiboDocumentTable table = new BiboDocumentTable();
+        List<BiboPublicationDate> dates = List.of(
+                BiboPublicationDate.ofYear(1843),
+                BiboPublicationDate.ofYearMonth(2020, 12),
+                BiboPublicationDate.ofFullDate(2024, 2, 29),
+                BiboPublicationDate.ofYear(Integer.MAX_VALUE));
+        dates.forEach(date -> table.add(
+                BiboDocument.builder(BiboDocumentType.BOOK, "Dated").publicationDate(date).build()));
+        table.add(BiboDocument.builder(BiboDocumentType.BOOK, "Undated").build());
+
+        for (int row = 0; row < dates.size(); row++) {
+            assertEquals(dates.get(row), table.get(row).publicationDate().orElseThrow());
+        }
+        assertTrue(table.get(4).publicationDate().isEmpty());
+    }
+
+    @Test
+    void parallelCollectorKeepsEncounterOrder() {
+        List<BiboDocument> documents = documents(2000);
+
+        BiboDocumentTable table = documents.parallelStream().collect(BiboDocumentTable.collector());
+
+        List<String> titles = new ArrayList<>();
+        table.forEach(view -> titles.add(view.title()));
+        assertEquals(documents.stream().map(BiboDocument::title).toList(), titles);
+    }
+
+    @Test
+    void trimmedTableStillAcceptsDocuments() {
+        BiboDocumentTable table = new BiboDocumentTable();
+        documents(10).forEach(table::add);
+        table.trimToSize();
+        table.add(documents(11).getLast());
+
+        assertEquals(11, table.size());
+        assertEquals(documents(11).getLast(), table.document(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(11));
+    }
+
+    @Test
+    void trimmedEmptyValueColumnsGrowAgain() {
+        BiboDocumentTable table = new BiboDocumentTable();
+        table.add(BiboDocument.builder(BiboDocumentType.BOOK, "No keywords").build());
+        table.trimToSize();
+        BiboDocument withValues = BiboDocument.builder(BiboDocumentType.ARTICLE, "Keywords")
+                .addAuthor(BiboPersonName.builder("Ada Lovelace").build())
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/xyz"))
+                .addKeyword("rdf")
+                .addKeyword("bibtex")
+                .build();
+
+        table.add(withValues);
+
+        assertEquals(withValues, table.document(1));
+    }
+
+    private static List<BiboDocument> documents(int count) {
+        return IntStream.range(0, count).mapToObj(index -> BiboDocument.builder(
+                        BiboDocumentType.values()[index % BiboDocumentType.values().length], "Document " + index)
+                .id(index % 2 == 0 ? "http://example.org/docs/" + index : "key" + index)
+                .addAuthor(BiboPersonName.builder("Author " + index % 7)
+                        .givenName("Given")
+                        .familyName("Family" + index % 7)
+                        .build())
+                .addEditor(BiboPersonName.builder("Editor " + index % 3).build())
+                .publicationDate(BiboPublicationDate.ofYearMonth(1990 + index % 30, 1 + index % 12))
+                .publisher("Publisher " + index % 5)
+                .containerTitle(index % 4 == 0 ? null : "Journal " + index % 9)
+                .volume(String.valueOf(index % 20))
+                .language("en")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/" + index))
+                .addKeyword("topic" + index % 11)
+                .addKeyword("shared")
+                .build()).toList();
+    }
+}
@@ -2,19 +2,24 @@ package it.riccardosacco.bibobibtex.model.bibo;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.model.util.RDFCollections;
 import org.eclipse.rdf4j.model.util.Values;
 import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
 import org.eclipse.rdf4j.model.vocabulary.FOAF;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
 import org.junit.jupiter.api.Test;
 
 class BiboDocumentTest {
@@ -127,4 +132,89 @@ class BiboDocumentTest {
         assertFalse(BiboPublicationDate.ofYear(1900).month().isPresent());
         assertFalse(BiboPublicationDate.ofYearMonth(1900, 5).day().isPresent());
     }
+
+    @Test
+    void rdfModelIsBuiltOnceWhenRetained() {
+        BiboDocument document =
+                BiboDocument.builder(BiboDocumentType.BOOK, "Lazy Models")
+                        .addAuthor(BiboPersonName.builder("Ada Lovelace").build())
+                        .build();
+
+        // Same memoized model: blank nodes are shared between calls
+        assertEquals(document.rdfModel(), document.rdfModel());
+    }
+
+    @Test
+    void nonRetainedDocumentRebuildsIsomorphicModel() {
+        BiboDocument document =
+                BiboDocument.builder(BiboDocumentType.BOOK, "Transient Models")
+                        .id("http://example.org/doc/1")
+                        .addAuthor(BiboPersonName.builder("Ada Lovelace").build())
+                        .retainRdfModel(false)
+                        .build();
+
+        Model first = document.rdfModel();
+        Model second = document.rdfModel();
+        assertTrue(Models.isomorphic(first, second));
+        assertTrue(first.contains(document.resource(), DCTERMS.TITLE, Values.literal("Transient Models")));
+    }
+
+    @Test
+    void emitToStreamsStatementsIsomorphicToRdfModel() {
+        BiboDocument document =
+                BiboDocument.builder(BiboDocumentType.ARTICLE, "Streaming Triples")
+                        .id("http://example.org/doc/2")
+                        .addAuthor(BiboPersonName.builder("Ada Lovelace").build())
+                        .addAuthor(BiboPersonName.builder("Charles Babbage").build())
+                        .retainRdfModel(false)
+                        .build();
+
+        StatementCollector collector = new StatementCollector();
+        BiboDocument.emitNamespaces(collector);
+        document.emitTo(collector);
+
+        assertTrue(Models.isomorphic(new LinkedHashModel(collector.getStatements()), document.rdfModel()));
+        assertEquals(BiboVocabulary.NS.getName(), collector.getNamespaces().get(BiboVocabulary.NS.getPrefix()));
+    }
+
+    @Test
+    void repeatedFieldValuesShareOneLiteral() {
+        BiboDocument first = BiboDocument.builder(BiboDocumentType.ARTICLE, "First")
+                .publisher(new String("Shared Press"))
+                .build();
+        BiboDocument second = BiboDocument.builder(BiboDocumentType.ARTICLE, "Second")
+                .publisher(new String("Shared Press"))
+                .build();
+
+        assertSame(first.publisher().orElseThrow(), second.publisher().orElseThrow());
+        Value firstPublisher = Models.object(first.rdfModel().filter(null, DCTERMS.PUBLISHER, null)).orElseThrow();
+        Value secondPublisher = Models.object(second.rdfModel().filter(null, DCTERMS.PUBLISHER, null)).orElseThrow();
+        assertSame(firstPublisher, secondPublisher);
+    }
+
+    @Test
+    void valuesWithoutSchemeAreWrittenAsLiterals() {
+        BiboDocument document = BiboDocument.builder(BiboDocumentType.WEBPAGE, "Relative Links")
+                .id("relative-id")
+                .url("www.example.org/page")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.URI, "urn:isbn:0451450523"))
+                .build();
+
+        Model model = document.rdfModel();
+        assertTrue(document.resource() instanceof BNode);
+        assertTrue(model.contains(document.resource(), FOAF.PAGE, Values.literal("www.example.org/page")));
+        assertTrue(model.contains(document.resource(), BiboVocabulary.URI, Values.iri("urn:isbn:0451450523")));
+    }
+
+    @Test
+    void rdfModelCopiesDeclareNamespaces() {
+        BiboDocument document = BiboDocument.builder(BiboDocumentType.BOOK, "Prefixes").build();
+
+        Model model = document.rdfModel();
+        model.setNamespace("ex", "http://example.org/");
+
+        assertEquals(BiboVocabulary.NAMESPACE, model.getNamespace("bibo").orElseThrow().getName());
+        assertTrue(document.rdfModel().getNamespace("ex").isEmpty());
+        assertTrue(document.toTurtle().contains("@prefix bibo:"));
+    }
 }
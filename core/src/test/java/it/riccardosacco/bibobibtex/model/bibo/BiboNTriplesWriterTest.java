@@ -0,0 +1,137 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.util.Values;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.jupiter.api.Test;
+
+class BiboNTriplesWriterTest {
+
+    @Test
+    void writesSameBytesAsRio() throws IOException {
+        List<BiboDocument> documents = List.of(
+                document(0),
+                BiboDocument.builder(BiboDocumentType.BOOK, "Tab\there, \"quoted\" \\ line\nbreak\r")
+                        .id("http://example.org/doc with space/{x}|é")
+                        .addAuthor(BiboPersonName.builder("Zoë Ł\u0001  😀").build())
+                        .url("http://example.org/page?q=<a>`^")
+                        .notes("broken \ud800 surrogate")
+                        .publicationDate(BiboPublicationDate.ofFullDate(2020, 2, 29))
+                        .build());
+        documents.forEach(BiboDocument::rdfModel);
+
+        assertArrayEquals(rio(documents), write(documents));
+    }
+
+    @Test
+    void writesStatementsOfDocumentsWithoutRetainedModel() throws IOException {
+        BiboDocument document = BiboDocument.builder(BiboDocumentType.ARTICLE, "Streamed")
+                .id("http://example.org/docs/streamed")
+                .containerTitle("Journal")
+                .addAuthor(BiboPersonName.builder("Ada Lovelace").givenName("Ada").build())
+                .retainRdfModel(false)
+                .build();
+
+        String ntriples = new String(write(List.of(document)), StandardCharsets.UTF_8);
+
+        Model parsed = Rio.parse(new StringReader(ntriples), "", RDFFormat.NTRIPLES);
+        assertTrue(Models.isomorphic(document.rdfModel(), parsed));
+    }
+
+    @Test
+    void writesGraphForNQuads() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BiboNTriplesWriter writer = new BiboNTriplesWriter(output, Values.iri("http://example.org/graph"));
+        writer.write(document(1));
+        writer.flush();
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(document(1).rdfModel().size(), lines.length);
+        for (String line : lines) {
+            assertTrue(line.endsWith(" <http://example.org/graph> ."), line);
+        }
+    }
+
+    @Test
+    void buffersUntilFlushed() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BiboNTriplesWriter writer = new BiboNTriplesWriter(output);
+        writer.write(document(2));
+        assertEquals(0, output.size());
+
+        writer.flush();
+        assertTrue(output.size() > 0);
+    }
+
+    @Test
+    void spansBufferBoundaries() throws IOException {
+        List<BiboDocument> documents = IntStream.range(0, 2000)
+                .mapToObj(BiboNTriplesWriterTest::document)
+                .toList();
+        documents.forEach(BiboDocument::rdfModel);
+
+        assertArrayEquals(rio(documents), write(documents));
+    }
+
+    @Test
+    void propagatesStreamFailures() {
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        BiboNTriplesWriter writer = new BiboNTriplesWriter(failing);
+
+        assertThrows(IOException.class, () -> {
+            writer.write(document(3));
+            writer.flush();
+        });
+    }
+
+    private static byte[] write(List<BiboDocument> documents) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (BiboNTriplesWriter writer = new BiboNTriplesWriter(output)) {
+            for (BiboDocument document : documents) {
+                writer.write(document);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] rio(List<BiboDocument> documents) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        RDFWriter writer = Rio.createWriter(RDFFormat.NTRIPLES, output);
+        writer.startRDF();
+        documents.forEach(document -> document.emitTo(writer));
+        writer.endRDF();
+        return output.toByteArray();
+    }
+
+    private static BiboDocument document(int index) {
+        return BiboDocument.builder(BiboDocumentType.CONFERENCE_PAPER, "Paper " + index)
+                .id("http://example.org/docs/paper" + index)
+                .containerTitle("Proceedings " + (index % 3))
+                .conferenceLocation("Venue")
+                .addAuthor(BiboPersonName.builder("Alice Smith").givenName("Alice").familyName("Smith").build())
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/" + index))
+                .publicationDate(BiboPublicationDate.ofYear(2000 + index % 20))
+                .addKeyword("topic" + index)
+                .build();
+    }
+}
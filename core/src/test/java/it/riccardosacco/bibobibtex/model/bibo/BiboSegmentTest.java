@@ -0,0 +1,159 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BiboSegmentTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void materializesDocumentsEqualToTheWrittenOnes() throws IOException {
+        List<BiboDocument> documents = documents(500);
+        Path file = tempDir.resolve("documents.seg");
+        try (BiboSegmentWriter writer = new BiboSegmentWriter(file)) {
+            assertEquals(500, writer.writeAll(documents));
+        }
+
+        BiboSegment segment = BiboSegment.open(file);
+
+        assertEquals(500, segment.size());
+        for (int index = 0; index < documents.size(); index++) {
+            assertEquals(documents.get(index), segment.document(index));
+        }
+    }
+
+    @Test
+    void viewsReadFieldsFromTheMapping() throws IOException {
+        BiboDocument document = BiboDocument.builder(BiboDocumentType.THESIS, "Über Kategorien 🐘")
+                .id("thesis1")
+                .subtitle("Eine Untersuchung")
+                .addContributor(new BiboContributor(BiboPersonName.builder("Ludwig van Beethoven")
+                        .givenName("Ludwig")
+                        .middleName("M.")
+                        .nameParticle("van")
+                        .familyName("Beethoven")
+                        .suffix("Jr.")
+                        .build(), BiboContributorRole.ADVISOR, "Universität Bonn"))
+                .publicationDate(BiboPublicationDate.ofFullDate(2024, 2, 29))
+                .placeOfPublication("Bonn")
+                .degreeType("PhD")
+                .pages("1--200")
+                .url("https://example.org/thesis")
+                .abstractText("x".repeat(100_000))
+                .notes("Notes")
+                .series("Series")
+                .edition("2")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.HANDLE, "1234/5678"))
+                .addKeyword("kategorien")
+                .build();
+        BiboSegment segment = write(List.of(document));
+
+        BiboDocumentView view = segment.get(0);
+
+        assertEquals(document.title(), view.title());
+        assertEquals(document.type(), view.type());
+        assertEquals(document.contributors(), view.contributors());
+        assertEquals(document.publicationDate(), view.publicationDate());
+        assertEquals(document.abstractText(), view.abstractText());
+        assertEquals(document.edition(), view.edition());
+        assertEquals(document.keywords(), view.keywords());
+        assertTrue(view.publisher().isEmpty());
+        assertEquals(document, segment.document(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.keywords().add("extra"));
+    }
+
+    @Test
+    void keepsDatesOfEveryPrecision() throws IOException {
+        List<BiboPublicationDate> dates = List.of(
+                BiboPublicationDate.ofYear(1843),
+                BiboPublicationDate.ofYearMonth(2020, 12),
+                BiboPublicationDate.ofYear(Integer.MAX_VALUE));
+        List<BiboDocument> documents = new ArrayList<>();
+        dates.forEach(date -> documents.add(
+                BiboDocument.builder(BiboDocumentType.BOOK, "Dated").publicationDate(date).build()));
+        documents.add(BiboDocument.builder(BiboDocumentType.BOOK, "Undated").build());
+
+        BiboSegment segment = write(documents);
+
+        for (int index = 0; index < dates.size(); index++) {
+            assertEquals(dates.get(index), segment.get(index).publicationDate().orElseThrow());
+        }
+        assertTrue(segment.get(3).publicationDate().isEmpty());
+    }
+
+    @Test
+    void writesRowsOfATableInOrder() throws IOException {
+        BiboDocumentTable table = new BiboDocumentTable();
+        documents(50).forEach(table::add);
+
+        BiboSegment segment = write(table);
+
+        List<String> titles = new ArrayList<>();
+        segment.forEach(view -> titles.add(view.title()));
+        assertEquals(table.stream().map(BiboDocumentView::title).toList(), titles);
+        assertEquals(table.document(49), segment.document(49));
+    }
+
+    @Test
+    void emptySegmentHasNoDocuments() throws IOException {
+        BiboSegment segment = write(List.of());
+
+        assertTrue(segment.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> segment.get(0));
+    }
+
+    @Test
+    void rejectsUnfinishedAndForeignFiles() throws IOException {
+        Path unfinished = tempDir.resolve("unfinished.seg");
+        BiboSegmentWriter writer = new BiboSegmentWriter(unfinished);
+        writer.writeAll(documents(10));
+        Path foreign = Files.writeString(tempDir.resolve("foreign.seg"), "@article{key, title={Title}}");
+
+        assertThrows(IOException.class, () -> BiboSegment.open(unfinished));
+        assertThrows(IOException.class, () -> BiboSegment.open(foreign));
+        writer.close();
+        assertEquals(10, BiboSegment.open(unfinished).size());
+        assertThrows(IOException.class, () -> writer.write(documents(1).getFirst()));
+    }
+
+    private BiboSegment write(Iterable<? extends BiboDocumentView> documents) throws IOException {
+        Path file = Files.createTempFile(tempDir, "segment", ".seg");
+        try (BiboSegmentWriter writer = new BiboSegmentWriter(file)) {
+            writer.writeAll(documents);
+        }
+        return BiboSegment.open(file);
+    }
+
+    private static List<BiboDocument> documents(int count) {
+        return IntStream.range(0, count).mapToObj(index -> BiboDocument.builder(
+                        BiboDocumentType.values()[index % BiboDocumentType.values().length], "Document " + index)
+                .id(index % 2 == 0 ? "http://example.org/docs/" + index : "key" + index)
+                .addAuthor(BiboPersonName.builder("Author " + index % 7)
+                        .givenName("Given")
+                        .familyName("Family" + index % 7)
+                        .build())
+                .addEditor(BiboPersonName.builder("Editor " + index % 3).build())
+                .publicationDate(BiboPublicationDate.ofYearMonth(1990 + index % 30, 1 + index % 12))
+                .publisher("Publisher " + index % 5)
+                .containerTitle(index % 4 == 0 ? null : "Journal " + index % 9)
+                .volume(String.valueOf(index % 20))
+                .issue(index % 3 == 0 ? null : String.valueOf(index % 4))
+                .language("en")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/" + index))
+                .addKeyword("topic" + index % 11)
+                .addKeyword("shared")
+                .build()).toList();
+    }
+}
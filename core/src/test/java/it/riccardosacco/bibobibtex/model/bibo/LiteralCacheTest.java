@@ -0,0 +1,41 @@
+package it.riccardosacco.bibobibtex.model.bibo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.util.Values;
+import org.junit.jupiter.api.Test;
+
+class LiteralCacheTest {
+
+    @Test
+    void returnsCachedLiteralForEqualValues() {
+        LiteralCache cache = new LiteralCache(16);
+
+        Literal first = cache.literal(new String("Springer"));
+        Literal second = cache.literal(new String("Springer"));
+
+        assertSame(first, second);
+        assertEquals(Values.literal("Springer"), first);
+    }
+
+    @Test
+    void staysBoundedWhenValuesCollide() {
+        LiteralCache cache = new LiteralCache(1);
+
+        Literal first = cache.literal("a");
+        assertEquals(Values.literal("b"), cache.literal("b"));
+
+        assertEquals(1, cache.capacity());
+        assertEquals(first, cache.literal("a"));
+    }
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(8, new LiteralCache(5).capacity());
+        assertEquals(4096, new LiteralCache(4096).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new LiteralCache(0));
+    }
+}
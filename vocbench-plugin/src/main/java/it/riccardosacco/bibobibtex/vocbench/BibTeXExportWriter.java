@@ -0,0 +1,144 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import it.riccardosacco.bibobibtex.converter.BibTeXBibliographicConverter;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboVocabulary;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.jbibtex.BibTeXDatabase;
+import org.jbibtex.BibTeXFormatter;
+
+/**
+ * Streams the BIBO documents of a repository to BibTeX without loading the repository into memory.
+ *
+ * <p>Document subjects are read from a cursor over {@code rdf:type} statements with a BIBO type,
+ * skipping resources that are the container ({@code dcterms:isPartOf} target) of another document.
+ * The subgraphs of up to {@code batchSize} documents, including the blank nodes of author lists,
+ * persons and containers, are fetched into a small model, converted and written before the next batch
+ * is read. Memory use is bounded by the batch size and the set of document subjects already seen, not by
+ * the repository size. The output is the same as formatting all entries as one {@link BibTeXDatabase}.
+ */
+final class BibTeXExportWriter {
+    /** Default number of documents fetched and converted together. */
+    static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final String ENTRY_SEPARATOR = "\n\n";
+
+    private final BibTeXBibliographicConverter rdfConverter;
+    private final int batchSize;
+
+    BibTeXExportWriter(BibTeXBibliographicConverter rdfConverter, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.rdfConverter = Objects.requireNonNull(rdfConverter, "rdfConverter");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Writes every BIBO document of the given graphs to {@code writer}.
+     *
+     * @param conn   connection to read from
+     * @param graphs graphs to export; none means all
+     * @param writer destination of the BibTeX entries
+     * @return number of entries written
+     * @throws IOException if writing fails
+     */
+    int write(RepositoryConnection conn, IRI[] graphs, Writer writer) throws IOException {
+        // Citation keys only need to be unique within one export; a per-export converter
+        // keeps the key registry from growing across exports
+        BibTeXBibliographicConverter exportConverter = new BibTeXBibliographicConverter();
+        BibTeXFormatter formatter = new BibTeXFormatter();
+        Set<Resource> seen = new HashSet<>();
+        List<Resource> batch = new ArrayList<>(batchSize);
+        int written = 0;
+
+        try (RepositoryResult<Statement> types = conn.getStatements(null, RDF.TYPE, null, true, graphs)) {
+            for (Statement statement : types) {
+                Resource subject = statement.getSubject();
+                if (statement.getObject() instanceof IRI type
+                        && type.stringValue().startsWith(BiboVocabulary.NAMESPACE)
+                        && seen.add(subject)
+                        && !conn.hasStatement(null, DCTERMS.IS_PART_OF, subject, true, graphs)) {
+                    batch.add(subject);
+                    if (batch.size() == batchSize) {
+                        written = writeBatch(conn, graphs, batch, exportConverter, formatter, writer, written);
+                        batch.clear();
+                    }
+                }
+            }
+        }
+        written = writeBatch(conn, graphs, batch, exportConverter, formatter, writer, written);
+        writer.flush();
+        return written;
+    }
+
+    private int writeBatch(RepositoryConnection conn, IRI[] graphs, List<Resource> subjects,
+            BibTeXBibliographicConverter exportConverter, BibTeXFormatter formatter, Writer writer,
+            int written) throws IOException {
+        if (subjects.isEmpty()) {
+            return written;
+        }
+        Model model = new LinkedHashModel();
+        for (Resource subject : subjects) {
+            fetchSubgraph(conn, graphs, subject, model);
+        }
+
+        BibTeXDatabase database = new BibTeXDatabase();
+        for (BiboDocument document : rdfConverter.convertAllFromRDF(model)) {
+            exportConverter.convertFromBibo(document).ifPresent(database::addObject);
+        }
+        int count = database.getObjects().size();
+        if (count > 0) {
+            // BibTeXFormatter separates objects with a blank line but writes none before the first
+            if (written > 0) {
+                writer.write(ENTRY_SEPARATOR);
+            }
+            formatter.format(database, writer);
+        }
+        return written + count;
+    }
+
+    /**
+     * Adds the statements of {@code subject}, of its container and of every blank node reachable from them.
+     */
+    private static void fetchSubgraph(RepositoryConnection conn, IRI[] graphs, Resource subject, Model model) {
+        Deque<Resource> pending = new ArrayDeque<>();
+        Set<Resource> visited = new HashSet<>();
+        pending.add(subject);
+        while (!pending.isEmpty()) {
+            Resource node = pending.poll();
+            if (!visited.add(node)) {
+                continue;
+            }
+            try (RepositoryResult<Statement> statements = conn.getStatements(node, null, null, true, graphs)) {
+                for (Statement statement : statements) {
+                    model.add(statement);
+                    if (statement.getObject() instanceof BNode child) {
+                        pending.add(child);
+                    } else if (node.equals(subject) && statement.getPredicate().equals(DCTERMS.IS_PART_OF)
+                            && statement.getObject() instanceof Resource container) {
+                        pending.add(container);
+                    }
+                }
+            }
+        }
+    }
+}
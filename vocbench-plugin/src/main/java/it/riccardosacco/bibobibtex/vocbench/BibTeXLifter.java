@@ -1,6 +1,8 @@
 package it.riccardosacco.bibobibtex.vocbench;
 
 import it.riccardosacco.bibobibtex.converter.BibTeXBibliographicConverter;
+import it.riccardosacco.bibobibtex.converter.BibTeXEntryReader;
+import it.riccardosacco.bibobibtex.exception.BibliographicConversionException;
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
 import it.uniroma2.art.semanticturkey.extension.extpts.rdflifter.LifterContext;
 import it.uniroma2.art.semanticturkey.extension.extpts.rdflifter.LiftingException;
@@ -11,15 +13,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
-import org.eclipse.rdf4j.model.Model;
-import org.eclipse.rdf4j.model.Statement;
-import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
-import org.jbibtex.BibTeXDatabase;
-import org.jbibtex.BibTeXParser;
-import org.jbibtex.ParseException;
-import org.jbibtex.TokenMgrException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,29 +31,27 @@ public class BibTeXLifter implements RDFLifter {
 
         logger.info("Starting BibTeX to BIBO lifting");
         try (InputStream is = source.getInputStream();
-             InputStreamReader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
-
-            BibTeXParser parser = new BibTeXParser();
-            BibTeXDatabase database = parser.parse(reader);
-
-            Model combinedModel = database.getEntries().values().stream()
-                .map(converter::convertToBibo)
-                .flatMap(Optional::stream)
-                .map(BiboDocument::rdfModel)
-                .reduce(new LinkedHashModel(), (m1, m2) -> {
-                    m1.addAll(m2);
-                    return m1;
-                });
-
-            handler.startRDF();
-            for (Statement st : combinedModel) {
-                handler.handleStatement(st);
+             BibTeXEntryReader entries = new BibTeXEntryReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+
+            // Entries are parsed and their triples streamed to the handler one at a time,
+            // without materializing a BibTeXDatabase or a combined model; triples of entries
+            // that share a subject IRI are passed on once, as the combined model did
+            RDFHandler output = new SharedStatementFilter(handler);
+            output.startRDF();
+            BiboDocument.emitNamespaces(output);
+            long documents = 0;
+            while (entries.hasNext()) {
+                Optional<BiboDocument> document = converter.convertToBibo(entries.next());
+                if (document.isPresent()) {
+                    document.get().emitTo(output);
+                    documents++;
+                }
             }
-            handler.endRDF();
+            output.endRDF();
 
-            logger.info("Lifting complete: {} triples generated", combinedModel.size());
+            logger.info("Lifting complete: {} documents emitted", documents);
 
-        } catch (ParseException | TokenMgrException | RDFHandlerException e) {
+        } catch (BibliographicConversionException | RDFHandlerException e) {
             logger.error("Failed to lift BibTeX content", e);
             throw new LiftingException("BibTeX parsing or RDF generation failed", e);
         }
@@ -1,15 +1,23 @@
 package it.riccardosacco.bibobibtex.vocbench;
 
+import it.riccardosacco.bibobibtex.model.bibo.BiboContributor;
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
 import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifier;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifierType;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.DuplicateCandidate;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 /**
  * Resolves conflicts between duplicate bibliographic documents.
@@ -19,6 +27,7 @@ import java.util.function.BiFunction;
  *   <li>Detect which fields have conflicting values</li>
  *   <li>Apply merge strategies to resolve conflicts</li>
  *   <li>Produce a merged document</li>
+ *   <li>Merge many pairs at once, producing only the changed statements</li>
  * </ul>
  */
 public class ConflictResolver {
@@ -57,6 +66,19 @@ public class ConflictResolver {
         // Compare publisher
         compareOptional("publisher", existing.publisher(), incoming.publisher(), conflicts);
 
+        // Compare place of publication
+        compareOptional("placeOfPublication", existing.placeOfPublication(), incoming.placeOfPublication(),
+                conflicts);
+
+        // Compare conference location and organizer
+        compareOptional("conferenceLocation", existing.conferenceLocation(), incoming.conferenceLocation(),
+                conflicts);
+        compareOptional("conferenceOrganizer", existing.conferenceOrganizer(), incoming.conferenceOrganizer(),
+                conflicts);
+
+        // Compare degree type
+        compareOptional("degreeType", existing.degreeType(), incoming.degreeType(), conflicts);
+
         // Compare volume
         compareOptional("volume", existing.volume(), incoming.volume(), conflicts);
 
@@ -101,25 +123,99 @@ public class ConflictResolver {
         Objects.requireNonNull(existing, "existing");
         Objects.requireNonNull(incoming, "incoming");
         Objects.requireNonNull(strategy, "strategy");
+        return merge(existing, incoming, strategy, Map.of());
+    }
 
+    /**
+     * Merges documents with custom resolutions for specific conflicts.
+     * Fields without a resolution are merged with {@link MergeStrategy#PREFER_INCOMING}.
+     *
+     * @param existing    the existing document
+     * @param incoming    the incoming document
+     * @param resolutions map of field name (as reported by {@link #detectConflicts}) to resolved value;
+     *                    {@code null} values count as no resolution
+     * @return the merged document
+     */
+    public BiboDocument mergeWithResolutions(
+            BiboDocument existing,
+            BiboDocument incoming,
+            Map<String, String> resolutions) {
+        Objects.requireNonNull(existing, "existing");
+        Objects.requireNonNull(incoming, "incoming");
+        Objects.requireNonNull(resolutions, "resolutions");
+        return merge(existing, incoming, MergeStrategy.PREFER_INCOMING, resolutions);
+    }
+
+    /**
+     * Merges two documents with the default strategy and returns only the statements that change
+     * in the existing document's RDF, without keeping the merged document.
+     *
+     * @param existing the existing document
+     * @param incoming the incoming document
+     * @return the statements to remove from and add to the existing document
+     */
+    public MergeDelta mergeDelta(BiboDocument existing, BiboDocument incoming) {
+        Objects.requireNonNull(existing, "existing");
+        Objects.requireNonNull(incoming, "incoming");
+        return MergeDelta.between(existing, incoming, merge(existing, incoming, defaultStrategy, Map.of()));
+    }
+
+    /**
+     * Merges many pairs in parallel with the default strategy, for example the duplicates reported
+     * by {@link DuplicateDetector} or {@link MinHashDeduplicator} during a bulk reconciliation.
+     *
+     * <p>The returned stream is parallel and lazy: pairs are merged as it is consumed. Use
+     * {@code forEachOrdered} or {@code toList()} to keep the input order. Pairs whose merge changes
+     * nothing yield an {@linkplain MergeDelta#isEmpty() empty} delta.
+     *
+     * @param pairs pairs of existing and incoming documents
+     * @return one delta per pair
+     */
+    public Stream<MergeDelta> mergeAll(Stream<MergePair> pairs) {
+        Objects.requireNonNull(pairs, "pairs");
+        return pairs.parallel().map(pair -> mergeDelta(pair.existing(), pair.incoming()));
+    }
+
+    private BiboDocument merge(BiboDocument existing, BiboDocument incoming, MergeStrategy strategy,
+                               Map<String, String> resolutions) {
         BiFunction<String, String, String> resolver = strategy.resolver();
 
+        String titleResolution = resolutions.get("title");
+        String title = titleResolution != null
+                ? titleResolution
+                : resolver.apply(existing.title(), incoming.title());
         BiboDocument.Builder builder = BiboDocument.builder(
                 incoming.type() != BiboDocumentType.OTHER ? incoming.type() : existing.type(),
-                resolver.apply(existing.title(), incoming.title()));
+                title);
 
         // Preserve ID from existing
         existing.id().or(incoming::id).ifPresent(builder::id);
 
-        // Merge optional fields
-        mergeOptional(existing.subtitle(), incoming.subtitle(), resolver).ifPresent(builder::subtitle);
-        mergeOptional(existing.publisher(), incoming.publisher(), resolver).ifPresent(builder::publisher);
-        mergeOptional(existing.volume(), incoming.volume(), resolver).ifPresent(builder::volume);
-        mergeOptional(existing.issue(), incoming.issue(), resolver).ifPresent(builder::issue);
-        mergeOptional(existing.pages(), incoming.pages(), resolver).ifPresent(builder::pages);
-        mergeOptional(existing.containerTitle(), incoming.containerTitle(), resolver).ifPresent(builder::containerTitle);
-        mergeOptional(existing.abstractText(), incoming.abstractText(), resolver).ifPresent(builder::abstractText);
-        mergeOptional(existing.url(), incoming.url(), resolver).ifPresent(builder::url);
+        // Merge optional fields, applying explicit resolutions first
+        resolve("subtitle", existing.subtitle(), incoming.subtitle(), resolver, resolutions)
+                .ifPresent(builder::subtitle);
+        resolve("publisher", existing.publisher(), incoming.publisher(), resolver, resolutions)
+                .ifPresent(builder::publisher);
+        resolve("placeOfPublication", existing.placeOfPublication(), incoming.placeOfPublication(), resolver,
+                resolutions).ifPresent(builder::placeOfPublication);
+        resolve("conferenceLocation", existing.conferenceLocation(), incoming.conferenceLocation(), resolver,
+                resolutions).ifPresent(builder::conferenceLocation);
+        resolve("conferenceOrganizer", existing.conferenceOrganizer(), incoming.conferenceOrganizer(), resolver,
+                resolutions).ifPresent(builder::conferenceOrganizer);
+        resolve("degreeType", existing.degreeType(), incoming.degreeType(), resolver, resolutions)
+                .ifPresent(builder::degreeType);
+        resolve("volume", existing.volume(), incoming.volume(), resolver, resolutions)
+                .ifPresent(builder::volume);
+        resolve("issue", existing.issue(), incoming.issue(), resolver, resolutions)
+                .ifPresent(builder::issue);
+        resolve("pages", existing.pages(), incoming.pages(), resolver, resolutions)
+                .ifPresent(builder::pages);
+        resolve("containerTitle", existing.containerTitle(), incoming.containerTitle(), resolver, resolutions)
+                .ifPresent(builder::containerTitle);
+        resolve("abstract", existing.abstractText(), incoming.abstractText(), resolver, resolutions)
+                .ifPresent(builder::abstractText);
+        resolve("url", existing.url(), incoming.url(), resolver, resolutions)
+                .ifPresent(builder::url);
         mergeOptional(existing.language(), incoming.language(), resolver).ifPresent(builder::language);
         mergeOptional(existing.notes(), incoming.notes(), resolver).ifPresent(builder::notes);
         mergeOptional(existing.series(), incoming.series(), resolver).ifPresent(builder::series);
@@ -129,20 +225,21 @@ public class ConflictResolver {
         incoming.publicationDate().or(existing::publicationDate).ifPresent(builder::publicationDate);
 
         // Merge contributors (union)
-        var allContributors = new ArrayList<>(existing.contributors());
-        for (var contributor : incoming.contributors()) {
-            if (!allContributors.contains(contributor)) {
+        List<BiboContributor> allContributors = new ArrayList<>(existing.contributors());
+        Set<BiboContributor> seenContributors = new HashSet<>(existing.contributors());
+        for (BiboContributor contributor : incoming.contributors()) {
+            if (seenContributors.add(contributor)) {
                 allContributors.add(contributor);
             }
         }
         builder.contributors(allContributors);
 
-        // Merge identifiers (union, prefer incoming for duplicates)
-        var allIdentifiers = new ArrayList<>(existing.identifiers());
-        for (var identifier : incoming.identifiers()) {
-            boolean exists = allIdentifiers.stream()
-                    .anyMatch(id -> id.type() == identifier.type());
-            if (!exists) {
+        // Merge identifiers (union, keep existing for types present in both)
+        List<BiboIdentifier> allIdentifiers = new ArrayList<>(existing.identifiers());
+        Set<BiboIdentifierType> seenTypes = EnumSet.noneOf(BiboIdentifierType.class);
+        existing.identifiers().forEach(identifier -> seenTypes.add(identifier.type()));
+        for (BiboIdentifier identifier : incoming.identifiers()) {
+            if (seenTypes.add(identifier.type())) {
                 allIdentifiers.add(identifier);
             }
         }
@@ -150,8 +247,9 @@ public class ConflictResolver {
 
         // Merge keywords (union)
         List<String> allKeywords = new ArrayList<>(existing.keywords());
+        Set<String> seenKeywords = new HashSet<>(existing.keywords());
         for (String keyword : incoming.keywords()) {
-            if (!allKeywords.contains(keyword)) {
+            if (seenKeywords.add(keyword)) {
                 allKeywords.add(keyword);
             }
         }
@@ -160,48 +258,14 @@ public class ConflictResolver {
         return builder.build();
     }
 
-    /**
-     * Merges documents with custom resolutions for specific conflicts.
-     *
-     * @param existing    the existing document
-     * @param incoming    the incoming document
-     * @param resolutions map of field name to resolved value
-     * @return the merged document
-     */
-    public BiboDocument mergeWithResolutions(
-            BiboDocument existing,
-            BiboDocument incoming,
-            Map<String, String> resolutions) {
-
-        // Start with default merge
-        BiboDocument merged = merge(existing, incoming, MergeStrategy.PREFER_INCOMING);
-
-        // Apply custom resolutions
-        if (resolutions.isEmpty()) {
-            return merged;
+    private Optional<String> resolve(String field, Optional<String> existing, Optional<String> incoming,
+                                     BiFunction<String, String, String> resolver,
+                                     Map<String, String> resolutions) {
+        String resolution = resolutions.get(field);
+        if (resolution != null) {
+            return Optional.of(resolution);
         }
-
-        BiboDocument.Builder builder = BiboDocument.builder(merged.type(), merged.title());
-
-        merged.id().ifPresent(builder::id);
-        merged.subtitle().ifPresent(builder::subtitle);
-        merged.publicationDate().ifPresent(builder::publicationDate);
-        merged.publisher().ifPresent(builder::publisher);
-        merged.containerTitle().ifPresent(builder::containerTitle);
-        merged.volume().ifPresent(builder::volume);
-        merged.issue().ifPresent(builder::issue);
-        merged.pages().ifPresent(builder::pages);
-        merged.url().ifPresent(builder::url);
-        merged.language().ifPresent(builder::language);
-        merged.abstractText().ifPresent(builder::abstractText);
-        merged.notes().ifPresent(builder::notes);
-        merged.series().ifPresent(builder::series);
-        merged.edition().ifPresent(builder::edition);
-        builder.contributors(merged.contributors());
-        builder.identifiers(merged.identifiers());
-        merged.keywords().forEach(builder::addKeyword);
-
-        return builder.build();
+        return mergeOptional(existing, incoming, resolver);
     }
 
     private void compareOptional(String field, Optional<String> a, Optional<String> b,
@@ -232,6 +296,27 @@ public class ConflictResolver {
         }
     }
 
+    /**
+     * An existing document and an incoming duplicate to merge into it.
+     */
+    public record MergePair(BiboDocument existing, BiboDocument incoming) {
+        public MergePair {
+            Objects.requireNonNull(existing, "existing");
+            Objects.requireNonNull(incoming, "incoming");
+        }
+
+        /**
+         * Pairs an incoming document with a duplicate found for it by {@link DuplicateDetector}.
+         *
+         * @param incoming  the document that was checked
+         * @param candidate a duplicate of it among the existing documents
+         * @return the pair to merge
+         */
+        public static MergePair of(BiboDocument incoming, DuplicateCandidate candidate) {
+            return new MergePair(candidate.document(), incoming);
+        }
+    }
+
     /**
      * Strategy for resolving merge conflicts.
      */
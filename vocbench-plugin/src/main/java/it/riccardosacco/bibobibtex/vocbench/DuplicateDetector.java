@@ -8,9 +8,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Detects duplicate bibliographic documents based on various matching strategies.
@@ -26,13 +30,34 @@ import java.util.Optional;
  * DuplicateDetector detector = new DuplicateDetector();
  * List<DuplicateCandidate> duplicates = detector.findDuplicates(newDoc, existingDocs);
  * }</pre>
+ *
+ * <p>The two-argument methods scan {@code existing} on every call. Token arrays of the most recently
+ * scanned collection are cached per document, so repeated calls against the same collection instance do
+ * not tokenize it again; passing a different collection drops the cache. To check many documents against
+ * the same collection without a full scan, build a {@link DuplicateIndex} once with
+ * {@link #index(Collection)}. To find all duplicate pairs within a large corpus, use {@link #minHash()}.
  */
 public class DuplicateDetector {
     private static final Logger logger = LoggerFactory.getLogger(DuplicateDetector.class);
 
-    private static final double DEFAULT_SIMILARITY_THRESHOLD = 0.85;
+    static final double DEFAULT_SIMILARITY_THRESHOLD = 0.85;
+
+    /** Identifier types compared for exact matches, in the order they are checked. */
+    static final List<BiboIdentifierType> EXACT_IDENTIFIER_TYPES = List.of(
+            BiboIdentifierType.DOI,
+            BiboIdentifierType.ISBN_13,
+            BiboIdentifierType.ISBN_10,
+            BiboIdentifierType.ISSN,
+            BiboIdentifierType.HANDLE);
+
+    static final double TITLE_WEIGHT = 0.6;
+    static final double AUTHOR_WEIGHT = 0.4;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern HYPHEN = Pattern.compile("-");
 
     private final double similarityThreshold;
+    private TokenCache tokenCache;
 
     public DuplicateDetector() {
         this(DEFAULT_SIMILARITY_THRESHOLD);
@@ -45,6 +70,26 @@ public class DuplicateDetector {
         this.similarityThreshold = similarityThreshold;
     }
 
+    /**
+     * Builds an index over {@code existing} using this detector's similarity threshold.
+     *
+     * @param existing documents to index
+     * @return index answering duplicate queries without scanning the whole collection
+     */
+    public DuplicateIndex index(Collection<BiboDocument> existing) {
+        return new DuplicateIndex(existing, similarityThreshold);
+    }
+
+    /**
+     * Creates a MinHash/LSH deduplicator for corpus-wide near-duplicate discovery with this detector's
+     * similarity threshold, which must be above 0.4.
+     *
+     * @return deduplicator finding all duplicate pairs in near-linear time
+     */
+    public MinHashDeduplicator minHash() {
+        return new MinHashDeduplicator(similarityThreshold);
+    }
+
     /**
      * Finds potential duplicates of a document within a collection.
      *
@@ -57,13 +102,18 @@ public class DuplicateDetector {
         Objects.requireNonNull(existing, "existing");
 
         List<DuplicateCandidate> candidates = new ArrayList<>();
+        List<BiboDocument> others = List.copyOf(existing);
+        TokenCache cache = tokenCache(existing);
+        Tokens[] otherTokens = cache.tokens(others);
+        Tokens tokens = cache.lookup(document);
 
-        for (BiboDocument other : existing) {
+        for (int i = 0; i < others.size(); i++) {
+            BiboDocument other = others.get(i);
             if (isSameDocument(document, other)) {
                 continue; // Skip self-comparison
             }
 
-            Optional<DuplicateCandidate> candidate = checkForDuplicate(document, other);
+            Optional<DuplicateCandidate> candidate = checkForDuplicate(document, tokens, other, otherTokens[i]);
             candidate.ifPresent(candidates::add);
         }
 
@@ -102,7 +152,8 @@ public class DuplicateDetector {
         return Optional.empty();
     }
 
-    private Optional<DuplicateCandidate> checkForDuplicate(BiboDocument doc, BiboDocument other) {
+    private Optional<DuplicateCandidate> checkForDuplicate(BiboDocument doc, Tokens tokens, BiboDocument other,
+            Tokens otherTokens) {
         // Check exact matches first (identifier-based)
         if (isExactMatch(doc, other)) {
             return Optional.of(new DuplicateCandidate(
@@ -112,7 +163,7 @@ public class DuplicateDetector {
         }
 
         // Check fuzzy match (title + author)
-        double similarity = calculateSimilarity(doc, other);
+        double similarity = tokens.similarity(otherTokens);
         if (similarity >= similarityThreshold) {
             return Optional.of(new DuplicateCandidate(
                     other,
@@ -124,27 +175,12 @@ public class DuplicateDetector {
     }
 
     private boolean isExactMatch(BiboDocument doc, BiboDocument other) {
-        // Check DOI match
-        if (matchByIdentifier(doc, other, BiboIdentifierType.DOI)) {
-            return true;
-        }
-
-        // Check ISBN match
-        if (matchByIdentifier(doc, other, BiboIdentifierType.ISBN_13) ||
-                matchByIdentifier(doc, other, BiboIdentifierType.ISBN_10)) {
-            return true;
-        }
-
-        // Check ISSN match
-        if (matchByIdentifier(doc, other, BiboIdentifierType.ISSN)) {
-            return true;
-        }
-
-        // Check Handle match
-        if (matchByIdentifier(doc, other, BiboIdentifierType.HANDLE)) {
-            return true;
+        // DOI, ISBN-13, ISBN-10, ISSN, Handle
+        for (BiboIdentifierType type : EXACT_IDENTIFIER_TYPES) {
+            if (matchByIdentifier(doc, other, type)) {
+                return true;
+            }
         }
-
         return false;
     }
 
@@ -159,83 +195,119 @@ public class DuplicateDetector {
         return false;
     }
 
-    private Optional<String> findIdentifier(BiboDocument doc, BiboIdentifierType type) {
+    static Optional<String> findIdentifier(BiboDocument doc, BiboIdentifierType type) {
         return doc.identifiers().stream()
                 .filter(id -> id.type() == type)
                 .map(BiboIdentifier::value)
                 .findFirst();
     }
 
-    private String normalizeIdentifier(String identifier) {
-        return identifier.toLowerCase()
-                .replaceAll("\\s+", "")
-                .replaceAll("-", "");
+    static String normalizeIdentifier(String identifier) {
+        String lowered = identifier.toLowerCase();
+        return HYPHEN.matcher(WHITESPACE.matcher(lowered).replaceAll("")).replaceAll("");
     }
 
-    private double calculateSimilarity(BiboDocument doc, BiboDocument other) {
-        // Title similarity (weight: 0.6)
-        double titleSimilarity = jaccardSimilarity(
-                tokenize(doc.title()),
-                tokenize(other.title()));
-
-        // Author similarity (weight: 0.4)
-        double authorSimilarity = calculateAuthorSimilarity(doc, other);
-
-        return (titleSimilarity * 0.6) + (authorSimilarity * 0.4);
-    }
-
-    private double calculateAuthorSimilarity(BiboDocument doc, BiboDocument other) {
-        if (doc.authors().isEmpty() || other.authors().isEmpty()) {
-            return 0.0;
+    /**
+     * The document's author names combined into one string, or {@code null} if it has no authors.
+     */
+    static String authorText(BiboDocument doc) {
+        if (doc.authors().isEmpty()) {
+            return null;
         }
-
-        // Get author names as a combined string for comparison
-        String docAuthors = doc.authors().stream()
+        // Each name is preceded by a space, as the names were originally concatenated
+        return doc.authors().stream()
                 .map(c -> c.name().fullName())
-                .reduce("", (a, b) -> a + " " + b);
+                .collect(Collectors.joining(" ", " ", ""));
+    }
 
-        String otherAuthors = other.authors().stream()
-                .map(c -> c.name().fullName())
-                .reduce("", (a, b) -> a + " " + b);
+    /**
+     * Returns the token cache for {@code existing}, replacing the cache of any other collection.
+     */
+    private synchronized TokenCache tokenCache(Collection<BiboDocument> existing) {
+        if (tokenCache == null || tokenCache.source() != existing) {
+            tokenCache = new TokenCache(existing);
+        }
+        return tokenCache;
+    }
 
-        return jaccardSimilarity(tokenize(docAuthors), tokenize(otherAuthors));
+    static boolean isSameDocument(BiboDocument doc1, BiboDocument doc2) {
+        // Check if they have the same internal ID
+        if (doc1.id().isPresent() && doc2.id().isPresent()) {
+            return doc1.id().get().equals(doc2.id().get());
+        }
+        return doc1 == doc2;
     }
 
-    private double jaccardSimilarity(List<String> tokens1, List<String> tokens2) {
-        if (tokens1.isEmpty() && tokens2.isEmpty()) {
-            return 1.0;
+    /**
+     * Title and author token IDs of a document as sorted arrays, computed once and reused across
+     * comparisons. Tokens are only comparable when built with the same dictionary.
+     */
+    record Tokens(int[] title, int[] authors, boolean hasAuthors) {
+
+        static Tokens of(BiboDocument doc, TokenDictionary dictionary) {
+            return new Tokens(dictionary.tokenize(doc.title()), dictionary.tokenize(authorText(doc)),
+                    !doc.authors().isEmpty());
         }
-        if (tokens1.isEmpty() || tokens2.isEmpty()) {
-            return 0.0;
+
+        /**
+         * Tokens of a query document, without adding its unknown tokens to {@code dictionary}.
+         */
+        static Tokens lookup(BiboDocument doc, TokenDictionary dictionary) {
+            return new Tokens(dictionary.lookup(doc.title()), dictionary.lookup(authorText(doc)),
+                    !doc.authors().isEmpty());
         }
 
-        // Calculate intersection size
-        long intersection = tokens1.stream()
-                .filter(tokens2::contains)
-                .count();
+        /**
+         * Weighted title (0.6) and author (0.4) Jaccard similarity; author similarity is 0 unless
+         * both documents have authors.
+         */
+        double similarity(Tokens other) {
+            double titleSimilarity = TokenDictionary.jaccardSimilarity(title, other.title);
+            double authorSimilarity = hasAuthors && other.hasAuthors
+                    ? TokenDictionary.jaccardSimilarity(authors, other.authors)
+                    : 0.0;
+            return (titleSimilarity * TITLE_WEIGHT) + (authorSimilarity * AUTHOR_WEIGHT);
+        }
+    }
 
-        // Calculate union size (avoiding duplicates)
-        long union = tokens1.size() + tokens2.size() - intersection;
+    /**
+     * Tokens of the documents of one scanned collection, keyed by document identity, with the dictionary
+     * they were built from. The dictionary lives exactly as long as the cache.
+     */
+    private static final class TokenCache {
+        private final Collection<BiboDocument> source;
+        private TokenDictionary dictionary = new TokenDictionary();
+        private Map<BiboDocument, Tokens> byDocument = new IdentityHashMap<>();
 
-        return (double) intersection / union;
-    }
+        TokenCache(Collection<BiboDocument> source) {
+            this.source = source;
+        }
 
-    private List<String> tokenize(String text) {
-        if (text == null || text.isBlank()) {
-            return List.of();
+        Collection<BiboDocument> source() {
+            return source;
         }
 
-        return List.of(text.toLowerCase()
-                .replaceAll("[^a-z0-9\\s]", "")
-                .split("\\s+"));
-    }
+        /**
+         * Returns the tokens of each document, tokenizing only documents not seen before. Once entries of
+         * documents no longer in the collection outnumber the current ones, the cache and its dictionary
+         * start over.
+         */
+        synchronized Tokens[] tokens(List<BiboDocument> documents) {
+            if (byDocument.size() > 2 * documents.size()) {
+                dictionary = new TokenDictionary();
+                byDocument = new IdentityHashMap<>();
+            }
+            Tokens[] tokens = new Tokens[documents.size()];
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = byDocument.computeIfAbsent(documents.get(i), doc -> Tokens.of(doc, dictionary));
+            }
+            return tokens;
+        }
 
-    private boolean isSameDocument(BiboDocument doc1, BiboDocument doc2) {
-        // Check if they have the same internal ID
-        if (doc1.id().isPresent() && doc2.id().isPresent()) {
-            return doc1.id().get().equals(doc2.id().get());
+        synchronized Tokens lookup(BiboDocument document) {
+            Tokens cached = byDocument.get(document);
+            return cached != null ? cached : Tokens.lookup(document, dictionary);
         }
-        return doc1 == doc2;
     }
 
     /**
@@ -0,0 +1,267 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifierType;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.DuplicateCandidate;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.MatchType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Pre-built index for checking many documents against the same collection, returning the same results
+ * as {@link DuplicateDetector#findDuplicates(BiboDocument, Collection)} and
+ * {@link DuplicateDetector#findExactDuplicate(BiboDocument, Collection)} without a full scan per query.
+ *
+ * <ul>
+ *   <li><b>Exact match</b>: DOI, ISBN, ISSN and Handle values are normalized once and kept in hash
+ *       maps, so identifier lookups are constant time.</li>
+ *   <li><b>Fuzzy match</b>: documents are blocked by title token. A pair can only reach the similarity
+ *       threshold if its title similarity is at least {@code (threshold - 0.4 * maxAuthor) / 0.6}, which
+ *       means the pair must share a minimum number of title tokens. {@code maxAuthor} is the highest
+ *       author similarity the query can reach: 0 without authors, otherwise its author token count over
+ *       its distinct author token count, since repeated tokens all count towards the intersection.
+ *       Only the rarest title tokens of the query, enough to be sure of hitting that minimum, are
+ *       looked up. Title and author similarity are then computed from tokens cached at indexing time,
+ *       and only for documents in those blocks.</li>
+ * </ul>
+ *
+ * <p>When the author bound alone can reach the threshold (for example a threshold of 0.4 or lower) the
+ * title gives no bound, so fuzzy queries compare against every indexed document. Instances are not
+ * thread-safe.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * DuplicateIndex index = new DuplicateDetector().index(existingDocs);
+ * for (BiboDocument incoming : imported) {
+ *     List<DuplicateCandidate> duplicates = index.findDuplicates(incoming);
+ *     ...
+ *     index.add(incoming);
+ * }
+ * }</pre>
+ */
+public final class DuplicateIndex {
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateIndex.class);
+
+    private final double similarityThreshold;
+    private final List<Indexed> documents = new ArrayList<>();
+    private final Map<BiboIdentifierType, Map<String, List<Indexed>>> identifiers =
+            new EnumMap<>(BiboIdentifierType.class);
+    private final TokenDictionary dictionary = new TokenDictionary();
+    private final Map<Integer, List<Indexed>> titleBlocks = new HashMap<>();
+    private final List<Indexed> untitled = new ArrayList<>();
+
+    /**
+     * Indexes documents with the default similarity threshold of 0.85.
+     *
+     * @param existing documents to index
+     */
+    public DuplicateIndex(Collection<BiboDocument> existing) {
+        this(existing, DuplicateDetector.DEFAULT_SIMILARITY_THRESHOLD);
+    }
+
+    /**
+     * Indexes documents for the given similarity threshold.
+     *
+     * @param existing documents to index
+     * @param similarityThreshold minimum combined title/author similarity for fuzzy matches
+     */
+    public DuplicateIndex(Collection<BiboDocument> existing, double similarityThreshold) {
+        Objects.requireNonNull(existing, "existing");
+        if (similarityThreshold < 0.0 || similarityThreshold > 1.0) {
+            throw new IllegalArgumentException("Similarity threshold must be between 0.0 and 1.0");
+        }
+        this.similarityThreshold = similarityThreshold;
+        existing.forEach(this::add);
+        logger.info("Indexed {} documents for duplicate detection ({} title blocks)",
+                documents.size(), titleBlocks.size());
+    }
+
+    /**
+     * Adds a document to the index, for example after it has been imported.
+     *
+     * @param document document to index
+     */
+    public void add(BiboDocument document) {
+        Objects.requireNonNull(document, "document");
+        Indexed indexed = new Indexed(documents.size(), document, DuplicateDetector.Tokens.of(document, dictionary));
+        documents.add(indexed);
+
+        for (BiboIdentifierType type : DuplicateDetector.EXACT_IDENTIFIER_TYPES) {
+            DuplicateDetector.findIdentifier(document, type).ifPresent(value ->
+                    identifiers.computeIfAbsent(type, key -> new HashMap<>())
+                            .computeIfAbsent(DuplicateDetector.normalizeIdentifier(value), key -> new ArrayList<>(1))
+                            .add(indexed));
+        }
+
+        int[] title = indexed.tokens().title();
+        if (title.length == 0) {
+            untitled.add(indexed);
+        } else {
+            for (int i = 0; i < title.length; i++) {
+                if (i == 0 || title[i] != title[i - 1]) {
+                    titleBlocks.computeIfAbsent(title[i], key -> new ArrayList<>()).add(indexed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed documents.
+     *
+     * @return indexed document count
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Finds potential duplicates of a document among the indexed documents.
+     *
+     * @param document the document to check
+     * @return duplicate candidates, highest similarity first
+     */
+    public List<DuplicateCandidate> findDuplicates(BiboDocument document) {
+        Objects.requireNonNull(document, "document");
+
+        BitSet matched = new BitSet(documents.size());
+        List<Match> matches = new ArrayList<>();
+        for (Indexed other : exactMatches(document)) {
+            if (!matched.get(other.ordinal())) {
+                matched.set(other.ordinal());
+                matches.add(new Match(other.ordinal(),
+                        new DuplicateCandidate(other.document(), 1.0, MatchType.EXACT_IDENTIFIER)));
+            }
+        }
+
+        DuplicateDetector.Tokens tokens = DuplicateDetector.Tokens.lookup(document, dictionary);
+        for (Indexed other : fuzzyCandidates(tokens)) {
+            if (matched.get(other.ordinal()) || DuplicateDetector.isSameDocument(document, other.document())) {
+                continue;
+            }
+            double similarity = tokens.similarity(other.tokens());
+            if (similarity >= similarityThreshold) {
+                matches.add(new Match(other.ordinal(),
+                        new DuplicateCandidate(other.document(), similarity, MatchType.FUZZY_TITLE_AUTHOR)));
+            }
+        }
+
+        // Highest similarity first; ties keep indexing order, as in DuplicateDetector
+        matches.sort(Comparator.comparingDouble((Match match) -> match.candidate().similarity()).reversed()
+                .thenComparingInt(Match::ordinal));
+        List<DuplicateCandidate> candidates = new ArrayList<>(matches.size());
+        matches.forEach(match -> candidates.add(match.candidate()));
+
+        logger.debug("Found {} duplicate candidates for document: {}", candidates.size(), document.title());
+        return candidates;
+    }
+
+    /**
+     * Returns the first indexed document (in indexing order) sharing an identifier with {@code document}.
+     *
+     * @param document the document to check
+     * @return the first exact duplicate, or empty
+     */
+    public Optional<BiboDocument> findExactDuplicate(BiboDocument document) {
+        Objects.requireNonNull(document, "document");
+        return exactMatches(document).stream()
+                .min(Comparator.comparingInt(Indexed::ordinal))
+                .map(Indexed::document);
+    }
+
+    /**
+     * Indexed documents sharing a normalized identifier of any exact-match type, excluding the document itself.
+     */
+    private List<Indexed> exactMatches(BiboDocument document) {
+        List<Indexed> matches = new ArrayList<>();
+        for (BiboIdentifierType type : DuplicateDetector.EXACT_IDENTIFIER_TYPES) {
+            Optional<String> value = DuplicateDetector.findIdentifier(document, type);
+            Map<String, List<Indexed>> byValue = identifiers.get(type);
+            if (value.isEmpty() || byValue == null) {
+                continue;
+            }
+            for (Indexed other : byValue.getOrDefault(DuplicateDetector.normalizeIdentifier(value.get()), List.of())) {
+                if (!DuplicateDetector.isSameDocument(document, other.document())) {
+                    matches.add(other);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Indexed documents that can reach the similarity threshold against a query with these tokens,
+     * in indexing order.
+     */
+    private List<Indexed> fuzzyCandidates(DuplicateDetector.Tokens tokens) {
+        int[] titleTokens = tokens.title();
+        int[] authorTokens = tokens.authors();
+        double maxAuthorSimilarity;
+        if (!tokens.hasAuthors()) {
+            maxAuthorSimilarity = 0.0;
+        } else if (authorTokens.length == 0) {
+            maxAuthorSimilarity = 1.0;
+        } else {
+            maxAuthorSimilarity = (double) authorTokens.length / TokenDictionary.distinctCount(authorTokens);
+        }
+        double minTitleSimilarity = (similarityThreshold - DuplicateDetector.AUTHOR_WEIGHT * maxAuthorSimilarity)
+                / DuplicateDetector.TITLE_WEIGHT;
+        if (minTitleSimilarity <= 0.0) {
+            return documents;
+        }
+        if (titleTokens.length == 0) {
+            return untitled;
+        }
+
+        // Title similarity counts query positions whose token occurs in the other title, so with
+        // a positions of which a - distinct are repeats, reaching minTitleSimilarity against a
+        // non-empty title needs at least minShared distinct shared tokens.
+        int distinctCount = TokenDictionary.distinctCount(titleTokens);
+        int positions = titleTokens.length;
+        double minCounted = minTitleSimilarity * (positions + 1) / (1 + minTitleSimilarity);
+        int minShared = (int) Math.ceil(minCounted - (positions - distinctCount) - 1e-9);
+        if (minShared < 1) {
+            return documents;
+        }
+        int prefixLength = distinctCount - minShared + 1;
+        if (prefixLength < 1) {
+            return List.of();
+        }
+
+        // Any prefixLength distinct query tokens must include a shared one; probe the rarest
+        List<Integer> rarestFirst = new ArrayList<>(distinctCount);
+        for (int i = 0; i < titleTokens.length; i++) {
+            if (i == 0 || titleTokens[i] != titleTokens[i - 1]) {
+                rarestFirst.add(titleTokens[i]);
+            }
+        }
+        rarestFirst.sort(Comparator.comparingInt(token -> titleBlocks.getOrDefault(token, List.of()).size()));
+        BitSet candidates = new BitSet(documents.size());
+        for (Integer token : rarestFirst.subList(0, prefixLength)) {
+            for (Indexed indexed : titleBlocks.getOrDefault(token, List.of())) {
+                candidates.set(indexed.ordinal());
+            }
+        }
+        List<Indexed> result = new ArrayList<>(candidates.cardinality());
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            result.add(documents.get(ordinal));
+        }
+        return result;
+    }
+
+    private record Indexed(int ordinal, BiboDocument document, DuplicateDetector.Tokens tokens) {
+    }
+
+    private record Match(int ordinal, DuplicateCandidate candidate) {
+    }
+}
@@ -0,0 +1,267 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Statements that change when an incoming document is merged into an existing one.
+ *
+ * <p>Only the difference to the existing document's RDF is kept: statements to remove and statements to
+ * add. Statements about the document itself are compared directly. Blank-node structures (author and
+ * editor lists, persons, the container) are compared as whole subtrees, so an unchanged author list
+ * produces no statements even though its blank nodes differ between builds. A changed subtree is removed
+ * and added as a whole.
+ *
+ * <p>Removed blank-node statements refer to the blank nodes of {@link BiboDocument#rdfModel()} of the
+ * existing document, which never occur in a triple store. The {@code applyTo} methods therefore resolve
+ * removals at apply time: a removed statement pointing to a blank node removes the target's statement
+ * with the same subject and predicate whose blank-node subtree has the same content, together with that
+ * subtree. Documents identified by a blank node rather than an IRI cannot be located in a store, so
+ * their deltas only apply to models holding that document's own blank nodes.
+ *
+ * @param existing the existing document
+ * @param incoming the incoming document merged into it
+ * @param removed  statements to remove from the existing document
+ * @param added    statements to add to the existing document
+ */
+public record MergeDelta(
+        BiboDocument existing,
+        BiboDocument incoming,
+        List<Statement> removed,
+        List<Statement> added
+) {
+    public MergeDelta {
+        Objects.requireNonNull(existing, "existing");
+        Objects.requireNonNull(incoming, "incoming");
+        removed = List.copyOf(removed);
+        added = List.copyOf(added);
+    }
+
+    /**
+     * Returns whether the merge leaves the existing document unchanged.
+     *
+     * @return {@code true} if there is nothing to remove or add
+     */
+    public boolean isEmpty() {
+        return removed.isEmpty() && added.isEmpty();
+    }
+
+    /**
+     * Applies this delta to a model holding the existing document's statements, for example loaded from
+     * a store.
+     *
+     * @param model the model to update
+     */
+    public void applyTo(Model model) {
+        Objects.requireNonNull(model, "model");
+        apply(subject -> new ArrayList<>(model.filter(subject, null, null)), model::remove, model::addAll);
+    }
+
+    /**
+     * Applies this delta to a repository holding the existing document. Runs in the connection's current
+     * transaction, if any.
+     *
+     * @param connection connection to the repository to update
+     * @param contexts   contexts to read, remove from and add to; none for the whole repository and the
+     *                   default context for additions
+     * @throws IllegalStateException if the existing document is identified by a blank node
+     */
+    public void applyTo(RepositoryConnection connection, Resource... contexts) {
+        Objects.requireNonNull(connection, "connection");
+        if (existing.resource().isBNode()) {
+            throw new IllegalStateException(
+                    "Cannot locate a document identified by a blank node in a repository: " + existing.title());
+        }
+        apply(subject -> {
+            try (RepositoryResult<Statement> statements = connection.getStatements(subject, null, null, false,
+                    contexts)) {
+                List<Statement> result = new ArrayList<>();
+                statements.forEach(result::add);
+                return result;
+            }
+        }, statement -> connection.remove(statement, contexts), statements -> connection.add(statements, contexts));
+    }
+
+    /**
+     * Removes the removed statements about the document, resolving blank-node objects against the
+     * target by subtree content, then adds the added statements.
+     */
+    private void apply(Function<Resource, List<Statement>> targetStatements, Consumer<Statement> remove,
+                       Consumer<Collection<Statement>> add) {
+        Map<Resource, List<Statement>> cache = new HashMap<>();
+        Function<Resource, List<Statement>> target = subject -> cache.computeIfAbsent(subject, targetStatements);
+        Map<Resource, List<Statement>> ownStatements = new HashMap<>();
+        for (Statement statement : removed) {
+            ownStatements.computeIfAbsent(statement.getSubject(), key -> new ArrayList<>()).add(statement);
+        }
+        Function<Resource, List<Statement>> own = subject -> ownStatements.getOrDefault(subject, List.of());
+
+        Resource subject = existing.resource();
+        List<Statement> toRemove = new ArrayList<>();
+        Set<Resource> claimed = new HashSet<>();
+        for (Statement statement : own.apply(subject)) {
+            if (!(statement.getObject() instanceof BNode node)) {
+                toRemove.add(statement);
+                continue;
+            }
+            String key = subtreeKey(node, own);
+            for (Statement candidate : target.apply(subject)) {
+                if (candidate.getPredicate().equals(statement.getPredicate())
+                        && candidate.getObject() instanceof BNode stored
+                        && !claimed.contains(stored)
+                        && key.equals(subtreeKey(stored, target))) {
+                    claimed.add(stored);
+                    toRemove.add(candidate);
+                    collectSubtree(stored, target, toRemove, new HashSet<>());
+                    break;
+                }
+            }
+        }
+        toRemove.forEach(remove);
+        add.accept(added);
+    }
+
+    static MergeDelta between(BiboDocument existing, BiboDocument incoming, BiboDocument merged) {
+        if (merged.equals(existing) && sameSubject(existing.resource(), merged.resource())) {
+            return new MergeDelta(existing, incoming, List.of(), List.of());
+        }
+        Resource subject = existing.resource();
+        Model before = existing.rdfModel();
+        Model after = merged.rdfModel();
+        if (!sameSubject(subject, merged.resource())) {
+            return new MergeDelta(existing, incoming, new ArrayList<>(before), new ArrayList<>(after));
+        }
+
+        Graph beforeGraph = new Graph(before, subject, subject);
+        Graph afterGraph = new Graph(after, merged.resource(), subject);
+        List<Statement> removed = new ArrayList<>();
+        List<Statement> added = new ArrayList<>();
+        beforeGraph.collectMissing(afterGraph, removed);
+        afterGraph.collectMissing(beforeGraph, added);
+        return new MergeDelta(existing, incoming, removed, added);
+    }
+
+    /**
+     * Two documents describe the same subject if both have the same IRI or both are blank nodes.
+     */
+    private static boolean sameSubject(Resource existing, Resource merged) {
+        return existing.equals(merged) || (existing.isBNode() && merged.isBNode());
+    }
+
+    /**
+     * A document model split into the statements about the document itself, keyed so that blank-node
+     * subtrees compare by content.
+     */
+    private static final class Graph {
+        private final Map<Resource, List<Statement>> bySubject = new HashMap<>();
+        private final Map<String, List<Statement>> topLevel = new HashMap<>();
+        private final Resource source;
+        private final Resource target;
+
+        Graph(Model model, Resource source, Resource target) {
+            this.source = source;
+            this.target = target;
+            for (Statement statement : model) {
+                bySubject.computeIfAbsent(statement.getSubject(), key -> new ArrayList<>()).add(statement);
+            }
+            for (Statement statement : bySubject.getOrDefault(source, List.of())) {
+                topLevel.computeIfAbsent(key(statement.getPredicate().stringValue(), statement.getObject()),
+                        key -> new ArrayList<>(1)).add(statement);
+            }
+        }
+
+        /**
+         * Adds the statements about the document that {@code other} has fewer of, together with the
+         * blank-node subtrees they point to, with the document subject rewritten to the target.
+         */
+        void collectMissing(Graph other, List<Statement> out) {
+            for (Map.Entry<String, List<Statement>> entry : topLevel.entrySet()) {
+                List<Statement> statements = entry.getValue();
+                int matched = other.topLevel.getOrDefault(entry.getKey(), List.of()).size();
+                for (int i = matched; i < statements.size(); i++) {
+                    add(statements.get(i), out);
+                }
+            }
+        }
+
+        private void add(Statement statement, List<Statement> out) {
+            out.add(source.equals(target) ? statement : SimpleValueFactory.getInstance()
+                    .createStatement(target, statement.getPredicate(), statement.getObject()));
+            if (statement.getObject() instanceof BNode node) {
+                collectSubtree(node, this::statementsAbout, out, new HashSet<>());
+            }
+        }
+
+        private List<Statement> statementsAbout(Resource subject) {
+            return bySubject.getOrDefault(subject, List.of());
+        }
+
+        /**
+         * Content key of a predicate/object pair: blank nodes are replaced by their sorted properties,
+         * recursively.
+         */
+        private String key(String predicate, Value object) {
+            StringBuilder key = new StringBuilder(predicate).append(' ');
+            appendValue(key, object, this::statementsAbout, new HashSet<>());
+            return key.toString();
+        }
+    }
+
+    private static void collectSubtree(Resource node, Function<Resource, List<Statement>> statementsAbout,
+                                       List<Statement> out, Set<Resource> visited) {
+        if (!visited.add(node)) {
+            return;
+        }
+        for (Statement statement : statementsAbout.apply(node)) {
+            out.add(statement);
+            if (statement.getObject() instanceof BNode child) {
+                collectSubtree(child, statementsAbout, out, visited);
+            }
+        }
+    }
+
+    private static String subtreeKey(BNode node, Function<Resource, List<Statement>> statementsAbout) {
+        StringBuilder key = new StringBuilder();
+        appendValue(key, node, statementsAbout, new HashSet<>());
+        return key.toString();
+    }
+
+    private static void appendValue(StringBuilder key, Value value, Function<Resource, List<Statement>> statementsAbout,
+                                    Set<Resource> visited) {
+        if (!(value instanceof BNode node)) {
+            key.append(value.isLiteral() ? value.toString() : "<" + value.stringValue() + ">");
+            return;
+        }
+        if (!visited.add(node)) {
+            key.append("[cycle]");
+            return;
+        }
+        List<String> properties = new ArrayList<>();
+        for (Statement statement : statementsAbout.apply(node)) {
+            StringBuilder property = new StringBuilder(statement.getPredicate().stringValue()).append(' ');
+            appendValue(property, statement.getObject(), statementsAbout, visited);
+            properties.add(property.toString());
+        }
+        properties.sort(null);
+        key.append('[').append(String.join(" ; ", properties)).append(']');
+        visited.remove(node);
+    }
+}
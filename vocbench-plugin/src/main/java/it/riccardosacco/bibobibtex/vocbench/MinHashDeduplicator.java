@@ -0,0 +1,364 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifierType;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.MatchType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Corpus-wide near-duplicate discovery using MinHash signatures and locality-sensitive hashing.
+ *
+ * <p>Comparing every document with every other one is quadratic. Instead, each document gets a MinHash
+ * signature of its distinct title tokens. The signature is cut into bands, and only documents whose
+ * signatures agree on a whole band become candidate pairs. Bands and rows are chosen so that a pair
+ * with exactly the title similarity needed to reach the overall {@code similarityThreshold}, namely
+ * {@code (threshold - 0.4) / 0.6}, becomes a candidate with probability of at least 98%. Every candidate pair is then
+ * verified with the exact title/author similarity of {@link DuplicateDetector}, so reported pairs and
+ * scores match the detector. Finding all pairs takes time roughly linear in the corpus size.
+ *
+ * <p>LSH is probabilistic: a pair just above the threshold is found with high but not certain
+ * probability. More hash functions raise recall at the cost of signature time. Pairs sharing a DOI,
+ * ISBN, ISSN or Handle are found exactly via hashing. Use {@link DuplicateIndex} when every match
+ * for a single document must be found.
+ *
+ * <p>Signatures estimate the Jaccard similarity of the <em>sets</em> of title tokens, while the
+ * verifying similarity of {@link DuplicateDetector} counts every position of the first title whose token
+ * occurs in the second, so repeated tokens count more than once. Both agree when neither title repeats a
+ * token. The title bound above also assumes an author similarity of at most 1, which holds unless an
+ * author list repeats a name. Pairs that only reach the threshold through repeated tokens can therefore
+ * be missed regardless of the number of hash functions.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * MinHashDeduplicator deduplicator = new DuplicateDetector(0.85).minHash();
+ * for (DuplicatePair pair : deduplicator.findAllDuplicates(corpus)) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class MinHashDeduplicator {
+    private static final Logger logger = LoggerFactory.getLogger(MinHashDeduplicator.class);
+
+    /** Default number of MinHash functions per signature. */
+    public static final int DEFAULT_NUM_HASHES = 128;
+
+    private static final long DEFAULT_SEED = 0x5DEECE66DL;
+
+    /** Probability that a pair exactly at the title similarity bound becomes a candidate. */
+    private static final double RECALL_AT_THRESHOLD = 0.98;
+
+    private final double similarityThreshold;
+    private final long[] hashSeeds;
+    private final int bands;
+    private final int rows;
+
+    /**
+     * Creates a deduplicator with {@value #DEFAULT_NUM_HASHES} hash functions.
+     *
+     * @param similarityThreshold minimum combined title/author similarity, greater than 0.4
+     */
+    public MinHashDeduplicator(double similarityThreshold) {
+        this(similarityThreshold, DEFAULT_NUM_HASHES, DEFAULT_SEED);
+    }
+
+    /**
+     * Creates a deduplicator.
+     *
+     * @param similarityThreshold minimum combined title/author similarity, greater than 0.4
+     * @param numHashes number of MinHash functions per signature
+     * @param seed seed for the hash functions; signatures are only comparable for equal seeds
+     */
+    public MinHashDeduplicator(double similarityThreshold, int numHashes, long seed) {
+        if (similarityThreshold < 0.0 || similarityThreshold > 1.0) {
+            throw new IllegalArgumentException("Similarity threshold must be between 0.0 and 1.0");
+        }
+        double minTitleSimilarity =
+                (similarityThreshold - DuplicateDetector.AUTHOR_WEIGHT) / DuplicateDetector.TITLE_WEIGHT;
+        if (minTitleSimilarity <= 0.0) {
+            throw new IllegalArgumentException(
+                    "MinHash deduplication needs a similarity threshold above " + DuplicateDetector.AUTHOR_WEIGHT);
+        }
+        if (numHashes < 1) {
+            throw new IllegalArgumentException("Number of hashes must be at least 1");
+        }
+        this.similarityThreshold = similarityThreshold;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.hashSeeds = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            hashSeeds[i] = random.nextLong();
+        }
+        this.rows = rowsPerBand(numHashes, minTitleSimilarity);
+        this.bands = numHashes / rows;
+    }
+
+    /**
+     * Returns the number of LSH bands.
+     *
+     * @return band count
+     */
+    public int bands() {
+        return bands;
+    }
+
+    /**
+     * Returns the number of signature rows per band.
+     *
+     * @return rows per band
+     */
+    public int rowsPerBand() {
+        return rows;
+    }
+
+    /**
+     * Computes the MinHash signature of a document's distinct title tokens. Tokens are hashed by their
+     * content rather than interned, so the deduplicator keeps no state between calls, and signatures are
+     * comparable between deduplicators with the same number of hash functions and seed.
+     *
+     * @param document document to sign
+     * @return signature with one value per hash function
+     */
+    public long[] signature(BiboDocument document) {
+        return signature(TokenDictionary.hashes(document.title()));
+    }
+
+    /**
+     * Finds all pairs of documents in the corpus that are duplicates: pairs sharing an identifier, and
+     * pairs whose title/author similarity reaches the threshold among those LSH proposes.
+     *
+     * @param corpus documents to deduplicate
+     * @return duplicate pairs, highest similarity first, then in corpus order
+     */
+    public List<DuplicatePair> findAllDuplicates(Collection<BiboDocument> corpus) {
+        Objects.requireNonNull(corpus, "corpus");
+        List<BiboDocument> documents = List.copyOf(corpus);
+        int size = documents.size();
+
+        // A dictionary per call, so a long-lived deduplicator does not keep every token it has seen
+        TokenDictionary corpusDictionary = new TokenDictionary();
+        DuplicateDetector.Tokens[] tokens = new DuplicateDetector.Tokens[size];
+        long[][] signatures = new long[size][];
+        // Tokenize in corpus order so token IDs, and hence signatures, do not depend on thread timing
+        for (int i = 0; i < size; i++) {
+            tokens[i] = DuplicateDetector.Tokens.of(documents.get(i), corpusDictionary);
+        }
+        IntStream.range(0, size).parallel().forEach(i -> signatures[i] = signature(tokens[i].title()));
+
+        PairSet seen = new PairSet();
+        List<DuplicatePair> pairs = new ArrayList<>();
+        addIdentifierPairs(documents, seen, pairs);
+
+        int candidatePairs = 0;
+        for (int band = 0; band < bands; band++) {
+            Map<BandKey, List<Integer>> buckets = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                // Empty titles have no tokens to sign and can never reach the threshold
+                if (tokens[i].title().length > 0) {
+                    buckets.computeIfAbsent(new BandKey(signatures[i], band * rows, rows), key -> new ArrayList<>(2))
+                            .add(i);
+                }
+            }
+            for (List<Integer> bucket : buckets.values()) {
+                for (int x = 0; x < bucket.size(); x++) {
+                    for (int y = x + 1; y < bucket.size(); y++) {
+                        int first = bucket.get(x);
+                        int second = bucket.get(y);
+                        if (!seen.add(pairKey(first, second))) {
+                            continue;
+                        }
+                        candidatePairs++;
+                        BiboDocument a = documents.get(first);
+                        BiboDocument b = documents.get(second);
+                        if (DuplicateDetector.isSameDocument(a, b)) {
+                            continue;
+                        }
+                        double similarity = tokens[first].similarity(tokens[second]);
+                        if (similarity >= similarityThreshold) {
+                            pairs.add(new DuplicatePair(first, second, a, b, similarity, MatchType.FUZZY_TITLE_AUTHOR));
+                        }
+                    }
+                }
+            }
+        }
+
+        pairs.sort(Comparator.comparingDouble(DuplicatePair::similarity).reversed()
+                .thenComparingInt(DuplicatePair::firstIndex)
+                .thenComparingInt(DuplicatePair::secondIndex));
+        logger.info("MinHash deduplication of {} documents: {} candidate pairs verified, {} duplicates "
+                + "({} bands x {} rows)", size, candidatePairs, pairs.size(), bands, rows);
+        return pairs;
+    }
+
+    private long[] signature(int[] titleTokens) {
+        long[] signature = new long[hashSeeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int t = 0; t < titleTokens.length; t++) {
+            if (t > 0 && titleTokens[t] == titleTokens[t - 1]) {
+                continue; // Sorted, so repeats are adjacent
+            }
+            long base = mix((titleTokens[t] + 1L) * 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < hashSeeds.length; i++) {
+                long hash = mix(base ^ hashSeeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private void addIdentifierPairs(List<BiboDocument> documents, PairSet seen, List<DuplicatePair> pairs) {
+        for (BiboIdentifierType type : DuplicateDetector.EXACT_IDENTIFIER_TYPES) {
+            Map<String, List<Integer>> byValue = new HashMap<>();
+            for (int i = 0; i < documents.size(); i++) {
+                int index = i;
+                DuplicateDetector.findIdentifier(documents.get(i), type).ifPresent(value ->
+                        byValue.computeIfAbsent(DuplicateDetector.normalizeIdentifier(value), key -> new ArrayList<>(2))
+                                .add(index));
+            }
+            for (List<Integer> group : byValue.values()) {
+                for (int x = 0; x < group.size(); x++) {
+                    for (int y = x + 1; y < group.size(); y++) {
+                        int first = group.get(x);
+                        int second = group.get(y);
+                        BiboDocument a = documents.get(first);
+                        BiboDocument b = documents.get(second);
+                        if (!DuplicateDetector.isSameDocument(a, b) && seen.add(pairKey(first, second))) {
+                            pairs.add(new DuplicatePair(first, second, a, b, 1.0, MatchType.EXACT_IDENTIFIER));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks the most rows per band (fewest false candidates) for which a pair at the target similarity
+     * still shares at least one band with probability {@code 1 - (1 - s^r)^b >= }{@value #RECALL_AT_THRESHOLD}.
+     */
+    private static int rowsPerBand(int numHashes, double targetSimilarity) {
+        int best = 1;
+        for (int r = 1; r <= numHashes; r++) {
+            int b = numHashes / r;
+            double recall = 1.0 - Math.pow(1.0 - Math.pow(targetSimilarity, r), b);
+            if (recall >= RECALL_AT_THRESHOLD) {
+                best = r;
+            }
+        }
+        return best;
+    }
+
+    private static long pairKey(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Open-addressing set of {@link #pairKey(int, int)} values, avoiding a boxed {@code Long} per
+     * candidate pair. Keys are never 0 because the second index of a pair is always greater than the first.
+     */
+    private static final class PairSet {
+        private long[] keys = new long[64];
+        private int size;
+
+        /**
+         * Adds a key, returning {@code false} if it was already present.
+         */
+        boolean add(long key) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            for (int slot = (int) mix(key) & mask; ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return false;
+                }
+                if (keys[slot] == 0L) {
+                    keys[slot] = key;
+                    size++;
+                    return true;
+                }
+            }
+        }
+
+        private void grow() {
+            long[] old = keys;
+            keys = new long[old.length * 2];
+            int mask = keys.length - 1;
+            for (long key : old) {
+                if (key != 0L) {
+                    int slot = (int) mix(key) & mask;
+                    while (keys[slot] != 0L) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = key;
+                }
+            }
+        }
+    }
+
+    /**
+     * One band of a signature, used as a bucket key.
+     */
+    private static final class BandKey {
+        private final long[] signature;
+        private final int offset;
+        private final int length;
+        private final int hash;
+
+        BandKey(long[] signature, int offset, int length) {
+            this.signature = signature;
+            this.offset = offset;
+            this.length = length;
+            long h = 1;
+            for (int i = offset; i < offset + length; i++) {
+                h = 31 * h + signature[i];
+            }
+            this.hash = Long.hashCode(mix(h));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof BandKey key) || key.hash != hash) {
+                return false;
+            }
+            return Arrays.equals(signature, offset, offset + length,
+                    key.signature, key.offset, key.offset + key.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A pair of duplicate documents; {@code firstIndex < secondIndex} are positions in the corpus.
+     */
+    public record DuplicatePair(
+            int firstIndex,
+            int secondIndex,
+            BiboDocument first,
+            BiboDocument second,
+            double similarity,
+            MatchType matchType
+    ) {}
+}
@@ -0,0 +1,29 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.helpers.RDFHandlerWrapper;
+
+/**
+ * Passes statements about IRI subjects on only the first time they are seen, so documents sharing a
+ * subject IRI do not repeat their common triples. Blank nodes belong to a single document and their
+ * statements are never repeated, so they pass straight through and are not remembered.
+ */
+class SharedStatementFilter extends RDFHandlerWrapper {
+
+    private final Set<Statement> seen = new HashSet<>();
+
+    SharedStatementFilter(RDFHandler handler) {
+        super(handler);
+    }
+
+    @Override
+    public void handleStatement(Statement statement) {
+        if (!(statement.getSubject() instanceof IRI) || seen.add(statement)) {
+            super.handleStatement(statement);
+        }
+    }
+}
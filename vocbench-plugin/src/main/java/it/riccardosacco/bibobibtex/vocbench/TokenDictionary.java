@@ -0,0 +1,176 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Interns title and author tokens as {@code int} IDs so similarity can be computed on sorted
+ * {@code int[]} arrays instead of string lists.
+ *
+ * <p>Tokenization matches the original regex-based rules exactly, without using regular expressions:
+ * text is lower-cased, characters other than {@code a-z}, {@code 0-9} and whitespace are dropped, and
+ * the rest is split on runs of whitespace. A leading whitespace run yields an empty first token, as
+ * {@link String#split(String)} does. IDs are only comparable between arrays from the same dictionary.
+ * The dictionary is thread-safe.
+ *
+ * <p>A dictionary only grows, so it should live as long as the documents it tokenizes, for example one
+ * {@link DuplicateIndex}. Query documents can be tokenized with {@link #lookup(String)}, which does not
+ * intern new tokens.
+ */
+final class TokenDictionary {
+    private static final int[] NO_TOKENS = new int[0];
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Tokenizes {@code text} and returns the sorted token IDs, keeping repeated tokens.
+     */
+    int[] tokenize(String text) {
+        return tokenize(text, this::id);
+    }
+
+    /**
+     * Tokenizes {@code text} like {@link #tokenize(String)} without interning new tokens. Tokens not in
+     * the dictionary get negative IDs that are consistent within this call only; they cannot match any
+     * interned token, so similarities against interned arrays are unchanged.
+     */
+    int[] lookup(String text) {
+        Map<String, Integer> unknown = new HashMap<>();
+        return tokenize(text, token -> {
+            Integer existing = ids.get(token);
+            return existing != null ? existing : unknown.computeIfAbsent(token, key -> -1 - unknown.size());
+        });
+    }
+
+    /**
+     * Tokenizes {@code text} like {@link #tokenize(String)} but returns the sorted hash codes of the
+     * tokens instead of IDs, so no dictionary is needed and arrays are comparable everywhere. Distinct
+     * tokens rarely share a hash code.
+     */
+    static int[] hashes(String text) {
+        return tokenize(text, String::hashCode);
+    }
+
+    private static int[] tokenize(String text, ToIntFunction<String> id) {
+        if (text == null || text.isBlank()) {
+            return NO_TOKENS;
+        }
+        String lowered = text.toLowerCase();
+        int[] tokens = new int[8];
+        int count = 0;
+        StringBuilder current = new StringBuilder();
+        boolean kept = false;
+        boolean sawTokenCharacter = false;
+        for (int i = 0; i < lowered.length(); i++) {
+            char c = lowered.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                current.append(c);
+                kept = true;
+                sawTokenCharacter = true;
+            } else if (isSplitWhitespace(c)) {
+                if (!kept) {
+                    // Leading whitespace: split() yields an empty first token
+                    tokens = append(tokens, count++, id.applyAsInt(""));
+                } else if (current.length() > 0) {
+                    tokens = append(tokens, count++, id.applyAsInt(current.toString()));
+                    current.setLength(0);
+                }
+                kept = true;
+            }
+        }
+        if (!kept) {
+            // Nothing survived cleaning: split() of the empty string yields one empty token
+            return new int[] {id.applyAsInt("")};
+        }
+        if (!sawTokenCharacter) {
+            // Only whitespace survived: split() drops trailing empty tokens, leaving none
+            return NO_TOKENS;
+        }
+        if (current.length() > 0) {
+            tokens = append(tokens, count++, id.applyAsInt(current.toString()));
+        }
+        int[] result = Arrays.copyOf(tokens, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the ID of {@code token}, assigning the next free one on first use.
+     */
+    int id(String token) {
+        Integer existing = ids.get(token);
+        if (existing != null) {
+            return existing;
+        }
+        return ids.computeIfAbsent(token, key -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Returns the number of distinct tokens interned so far.
+     */
+    int size() {
+        return ids.size();
+    }
+
+    /**
+     * Jaccard similarity as defined by {@link DuplicateDetector}: the number of positions in
+     * {@code tokens1} whose token occurs in {@code tokens2}, over the combined length minus that count.
+     * Both arrays must be sorted; the intersection is a single merge walk.
+     */
+    static double jaccardSimilarity(int[] tokens1, int[] tokens2) {
+        if (tokens1.length == 0 && tokens2.length == 0) {
+            return 1.0;
+        }
+        if (tokens1.length == 0 || tokens2.length == 0) {
+            return 0.0;
+        }
+        int i = 0;
+        int j = 0;
+        long intersection = 0;
+        while (i < tokens1.length && j < tokens2.length) {
+            int a = tokens1[i];
+            int b = tokens2[j];
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                while (i < tokens1.length && tokens1[i] == a) {
+                    intersection++;
+                    i++;
+                }
+            }
+        }
+        long union = tokens1.length + tokens2.length - intersection;
+        return (double) intersection / union;
+    }
+
+    /**
+     * Returns the number of distinct values in a sorted array.
+     */
+    static int distinctCount(int[] sorted) {
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        return distinct;
+    }
+
+    /** Whitespace as matched by the regex {@code \s}. */
+    private static boolean isSplitWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int[] append(int[] tokens, int index, int value) {
+        int[] target = index < tokens.length ? tokens : Arrays.copyOf(tokens, tokens.length * 2);
+        target[index] = value;
+        return target;
+    }
+}
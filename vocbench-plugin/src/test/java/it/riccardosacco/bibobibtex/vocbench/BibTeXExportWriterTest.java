@@ -0,0 +1,143 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.converter.BibTeXBibliographicConverter;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
+import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.jbibtex.BibTeXDatabase;
+import org.jbibtex.BibTeXFormatter;
+import org.junit.jupiter.api.Test;
+
+class BibTeXExportWriterTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+    private static final IRI FIRST_GRAPH = VF.createIRI("http://example.org/graphs/first");
+    private static final IRI SECOND_GRAPH = VF.createIRI("http://example.org/graphs/second");
+    private static final IRI PROCEEDINGS = VF.createIRI("http://example.org/docs/proceedings");
+
+    @Test
+    void streamedExportMatchesModelExport() throws IOException {
+        SailRepository repository = repository();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            for (int batchSize : new int[] {1, 3, BibTeXExportWriter.DEFAULT_BATCH_SIZE}) {
+                StringWriter streamed = new StringWriter();
+                int written = new BibTeXExportWriter(new BibTeXBibliographicConverter(), batchSize)
+                        .write(connection, new IRI[0], streamed);
+
+                assertEquals(modelExport(connection), streamed.toString(), "batch size " + batchSize);
+                assertEquals(21, written);
+            }
+        } finally {
+            repository.shutDown();
+        }
+    }
+
+    @Test
+    void excludesContainersOfOtherDocuments() throws IOException {
+        SailRepository repository = repository();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            StringWriter streamed = new StringWriter();
+            int written = new BibTeXExportWriter(new BibTeXBibliographicConverter(), 4)
+                    .write(connection, new IRI[0], streamed);
+
+            // Neither the blank-node containers nor the standalone proceedings become entries
+            String output = streamed.toString();
+            assertEquals(21, written);
+            assertEquals(21, output.split("\n@", -1).length);
+            assertTrue(output.contains("\ttitle = {Part of the proceedings}"), output);
+            assertFalse(output.contains("\ttitle = {Standalone proceedings}"), output);
+        } finally {
+            repository.shutDown();
+        }
+    }
+
+    @Test
+    void exportsOnlyTheSelectedGraphs() throws IOException {
+        SailRepository repository = repository();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            StringWriter streamed = new StringWriter();
+            int written = new BibTeXExportWriter(new BibTeXBibliographicConverter(), 3)
+                    .write(connection, new IRI[] {SECOND_GRAPH}, streamed);
+
+            assertEquals(modelExport(connection, SECOND_GRAPH), streamed.toString());
+            assertEquals(8, written);
+        } finally {
+            repository.shutDown();
+        }
+    }
+
+    /**
+     * Twelve documents in the first graph and eight in the second, some with IRIs and some with blank-node
+     * subjects, repeated titles, containers, and one document that is part of a standalone proceedings IRI.
+     */
+    private static SailRepository repository() {
+        SailRepository repository = new SailRepository(new MemoryStore());
+        try (RepositoryConnection connection = repository.getConnection()) {
+            for (int index = 0; index < 20; index++) {
+                BiboDocument.Builder builder = BiboDocument.builder(
+                                BiboDocumentType.values()[index % BiboDocumentType.values().length],
+                                "Document " + index % 6)
+                        .addAuthor(BiboPersonName.builder("Author " + index % 5)
+                                .givenName("Given")
+                                .familyName("Family" + index % 5)
+                                .build());
+                if (index % 3 != 0) {
+                    builder.id("http://example.org/docs/" + index);
+                }
+                if (index % 4 == 0) {
+                    builder.containerTitle("Proceedings " + index);
+                }
+                connection.add(builder.build().rdfModel(), index < 12 ? FIRST_GRAPH : SECOND_GRAPH);
+            }
+
+            BiboDocument part = BiboDocument.builder(BiboDocumentType.ARTICLE, "Part of the proceedings")
+                    .id("http://example.org/docs/part")
+                    .build();
+            connection.add(part.rdfModel(), FIRST_GRAPH);
+            connection.add(VF.createIRI("http://example.org/docs/part"), DCTERMS.IS_PART_OF, PROCEEDINGS,
+                    FIRST_GRAPH);
+            connection.add(BiboDocument.builder(BiboDocumentType.PROCEEDINGS, "Standalone proceedings")
+                    .id(PROCEEDINGS.stringValue())
+                    .build()
+                    .rdfModel(), FIRST_GRAPH);
+        }
+        return repository;
+    }
+
+    /** The model-based export {@link BibTeXExportWriter} replaces. */
+    private static String modelExport(RepositoryConnection connection, IRI... graphs) throws IOException {
+        Model model;
+        try (RepositoryResult<Statement> statements = connection.getStatements(null, null, null, true, graphs)) {
+            model = QueryResults.asModel(statements);
+        }
+        List<BiboDocument> documents = new BibTeXBibliographicConverter().convertAllFromRDF(model);
+        BibTeXBibliographicConverter exportConverter = new BibTeXBibliographicConverter();
+        BibTeXDatabase database = new BibTeXDatabase();
+        documents.stream()
+                .map(exportConverter::convertFromBibo)
+                .flatMap(Optional::stream)
+                .forEach(database::addObject);
+        StringWriter output = new StringWriter();
+        new BibTeXFormatter().format(database, output);
+        return output.toString();
+    }
+}
@@ -0,0 +1,174 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifier;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifierType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.Test;
+
+class ConflictResolverTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    @Test
+    void mergingDocumentWithItselfGivesEmptyDelta() {
+        BiboDocument document = fullDocument("http://example.org/doc1");
+
+        assertEquals(document, new ConflictResolver().merge(document, document));
+        MergeDelta delta = new ConflictResolver().mergeDelta(document, document);
+        assertTrue(delta.isEmpty(), () -> "removed=" + delta.removed() + " added=" + delta.added());
+    }
+
+    @Test
+    void mergeKeepsPlaceDegreeAndConferenceFields() {
+        BiboDocument existing = fullDocument("http://example.org/doc1");
+        BiboDocument incoming = BiboDocument.builder(BiboDocumentType.THESIS, "A thesis").build();
+
+        BiboDocument merged = new ConflictResolver().merge(existing, incoming);
+
+        assertEquals(existing.placeOfPublication(), merged.placeOfPublication());
+        assertEquals(existing.degreeType(), merged.degreeType());
+        assertEquals(existing.conferenceLocation(), merged.conferenceLocation());
+        assertEquals(existing.conferenceOrganizer(), merged.conferenceOrganizer());
+    }
+
+    @Test
+    void resolutionsApplyToPlaceDegreeAndConferenceFields() {
+        BiboDocument existing = fullDocument("http://example.org/doc1");
+        BiboDocument incoming = BiboDocument.builder(BiboDocumentType.THESIS, "A thesis")
+                .placeOfPublication("Turin").degreeType("MSc").build();
+        ConflictResolver resolver = new ConflictResolver();
+
+        assertTrue(resolver.detectConflicts(existing, incoming).containsKey("placeOfPublication"));
+        assertTrue(resolver.detectConflicts(existing, incoming).containsKey("degreeType"));
+
+        BiboDocument merged = resolver.mergeWithResolutions(existing, incoming,
+                Map.of("placeOfPublication", "Rome", "degreeType", "PhD"));
+        assertEquals("Rome", merged.placeOfPublication().orElseThrow());
+        assertEquals("PhD", merged.degreeType().orElseThrow());
+    }
+
+    @Test
+    void nullTitleResolutionFallsBackToStrategy() {
+        BiboDocument existing = fullDocument("http://example.org/doc1");
+        BiboDocument incoming = BiboDocument.builder(BiboDocumentType.THESIS, "Incoming title").build();
+        Map<String, String> resolutions = new HashMap<>();
+        resolutions.put("title", null);
+
+        BiboDocument merged = new ConflictResolver().mergeWithResolutions(existing, incoming, resolutions);
+
+        assertEquals("Incoming title", merged.title());
+    }
+
+    @Test
+    void deltaAppliesToRepositoryWithItsOwnBlankNodes() {
+        BiboDocument existing = fullDocument("http://example.org/doc1");
+        BiboDocument incoming = BiboDocument.builder(BiboDocumentType.THESIS, "A thesis")
+                .addAuthor(BiboPersonName.builder("Grace Hopper").build())
+                .containerTitle("Proceedings of Another Conference")
+                .build();
+        ConflictResolver resolver = new ConflictResolver();
+        BiboDocument merged = resolver.merge(existing, incoming);
+        MergeDelta delta = resolver.mergeDelta(existing, incoming);
+        assertFalse(delta.isEmpty());
+
+        SailRepository repository = new SailRepository(new MemoryStore());
+        try (RepositoryConnection connection = repository.getConnection()) {
+            // Stored blank nodes never equal the ones of existing.rdfModel()
+            connection.add(withFreshBlankNodes(existing.rdfModel()));
+
+            delta.applyTo(connection);
+
+            Model stored = new LinkedHashModel();
+            connection.getStatements(null, null, null, false).forEach(stored::add);
+            assertTrue(Models.isomorphic(merged.rdfModel(), stored));
+        } finally {
+            repository.shutDown();
+        }
+    }
+
+    @Test
+    void deltaAppliesToModelWithOtherBlankNodes() {
+        BiboDocument existing = fullDocument("http://example.org/doc1");
+        BiboDocument incoming = BiboDocument.builder(BiboDocumentType.THESIS, "A thesis")
+                .addAuthor(BiboPersonName.builder("Grace Hopper").build())
+                .conferenceLocation("Turin")
+                .build();
+        ConflictResolver resolver = new ConflictResolver();
+        Model model = withFreshBlankNodes(existing.rdfModel());
+
+        resolver.mergeDelta(existing, incoming).applyTo(model);
+
+        assertTrue(Models.isomorphic(resolver.merge(existing, incoming).rdfModel(), model));
+    }
+
+    @Test
+    void repositoryCannotLocateBlankNodeDocuments() {
+        BiboDocument existing = BiboDocument.builder(BiboDocumentType.BOOK, "Untitled").build();
+        BiboDocument incoming = BiboDocument.builder(BiboDocumentType.BOOK, "Titled").build();
+        MergeDelta delta = new ConflictResolver().mergeDelta(existing, incoming);
+
+        SailRepository repository = new SailRepository(new MemoryStore());
+        try (RepositoryConnection connection = repository.getConnection()) {
+            assertThrows(IllegalStateException.class, () -> delta.applyTo(connection));
+        } finally {
+            repository.shutDown();
+        }
+    }
+
+    private static BiboDocument fullDocument(String iri) {
+        return BiboDocument.builder(BiboDocumentType.THESIS, "Linked data in libraries")
+                .id(iri)
+                .subtitle("A survey")
+                .addAuthor(BiboPersonName.builder("Ada Lovelace").build())
+                .addAuthor(BiboPersonName.builder("Alan Turing").build())
+                .addEditor(BiboPersonName.builder("Barbara Liskov").build())
+                .publisher("University Press")
+                .placeOfPublication("Rome")
+                .degreeType("PhD")
+                .containerTitle("Proceedings of the Semantic Web Conference")
+                .conferenceLocation("Milan")
+                .conferenceOrganizer("ACM")
+                .volume("12")
+                .pages("1-10")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/xyz"))
+                .url("https://example.org/thesis")
+                .language("en")
+                .addKeyword("rdf")
+                .build();
+    }
+
+    private static Model withFreshBlankNodes(Model model) {
+        Map<BNode, BNode> renamed = new HashMap<>();
+        Model copy = new LinkedHashModel();
+        for (Statement statement : model) {
+            copy.add((Resource) rename(statement.getSubject(), renamed), statement.getPredicate(),
+                    rename(statement.getObject(), renamed));
+        }
+        return copy;
+    }
+
+    private static Value rename(Value value, Map<BNode, BNode> renamed) {
+        return value instanceof BNode node ? renamed.computeIfAbsent(node, key -> VF.createBNode()) : value;
+    }
+}
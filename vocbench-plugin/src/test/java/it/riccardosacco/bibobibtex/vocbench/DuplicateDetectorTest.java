@@ -0,0 +1,55 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.DuplicateCandidate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DuplicateDetectorTest {
+
+    @Test
+    void cachedTokensFollowChangesToTheScannedCollection() {
+        DuplicateDetector detector = new DuplicateDetector(0.7);
+        BiboDocument query = document("query", "Linked data on the web", "Ada Lovelace");
+        List<BiboDocument> existing = new ArrayList<>(List.of(document("doc1", "Ontology mapping", "Alan Turing")));
+
+        assertTrue(detector.findDuplicates(query, existing).isEmpty());
+
+        BiboDocument added = document("doc2", "Linked data on the semantic web", "Ada Lovelace");
+        existing.add(added);
+        List<DuplicateCandidate> candidates = detector.findDuplicates(query, existing);
+        assertEquals(1, candidates.size());
+        assertSame(added, candidates.get(0).document());
+
+        existing.remove(added);
+        assertTrue(detector.findDuplicates(query, existing).isEmpty());
+        assertEquals(1, detector.findDuplicates(query, List.of(added)).size());
+    }
+
+    @Test
+    void scoresDoNotDependOnCallHistory() {
+        BiboDocument query = document("query", "Graph query reasoning", "Grace Hopper");
+        BiboDocument other = document("doc1", "Graph query reasoning engines", "Grace Hopper");
+        List<BiboDocument> existing = List.of(other);
+
+        DuplicateDetector fresh = new DuplicateDetector(0.5);
+        DuplicateDetector warmed = new DuplicateDetector(0.5);
+        warmed.findDuplicates(document("warmup", "Engines for reasoning", "Grace Hopper"), existing);
+
+        assertEquals(fresh.findDuplicates(query, existing).get(0).similarity(),
+                warmed.findDuplicates(query, existing).get(0).similarity());
+    }
+
+    private static BiboDocument document(String id, String title, String author) {
+        return BiboDocument.builder(BiboDocumentType.ARTICLE, title).id(id)
+                .addAuthor(BiboPersonName.builder(author).build())
+                .build();
+    }
+}
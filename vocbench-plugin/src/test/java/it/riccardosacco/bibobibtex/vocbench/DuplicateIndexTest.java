@@ -0,0 +1,160 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifier;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifierType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.DuplicateCandidate;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.MatchType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DuplicateIndexTest {
+
+    private static final String[] WORDS = {
+        "semantic", "web", "ontology", "linked", "data", "graph", "query", "reasoning", "rdf", "owl",
+        "bibliographic", "metadata", "library", "catalog", "citation", "network", "analysis", "model",
+        "schema", "mapping"
+    };
+    private static final String[] AUTHORS = {
+        "Ada Lovelace", "Charles Babbage", "Alan Turing", "Grace Hopper", "Tim Berners-Lee",
+        "Barbara Liskov", "Donald Knuth", "Edsger Dijkstra"
+    };
+    private static final String[] DOIS = {"10.1000/abc-1", "10.1000/abc-2", "10.1000/abc-3", "10.1000/abc-4"};
+
+    @Test
+    void matchesLinearScanOnRandomCorpus() {
+        Random random = new Random(42);
+        List<BiboDocument> existing = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            existing.add(randomDocument(random, "doc" + i));
+        }
+        List<BiboDocument> queries = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            queries.add(randomDocument(random, "query" + i));
+        }
+        // Queries already in the index must not match themselves
+        queries.addAll(existing.subList(0, 20));
+
+        for (double threshold : new double[] {0.3, 0.5, 0.7, 0.85, 1.0}) {
+            DuplicateDetector detector = new DuplicateDetector(threshold);
+            DuplicateIndex index = detector.index(existing);
+            for (BiboDocument query : queries) {
+                assertSameCandidates(detector.findDuplicates(query, existing), index.findDuplicates(query));
+                assertEquals(detector.findExactDuplicate(query, existing), index.findExactDuplicate(query));
+            }
+        }
+    }
+
+    @Test
+    void findsExactIdentifierMatchesAfterNormalization() {
+        BiboDocument indexed = document("doc1", "Completely different title", "Ada Lovelace")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/ABC-123"))
+                .build();
+        BiboDocument other = document("doc2", "Unrelated", "Alan Turing").build();
+        DuplicateIndex index = new DuplicateIndex(List.of(other, indexed));
+
+        BiboDocument query = document("query", "Nothing in common", "Grace Hopper")
+                .addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, "10.1000/abc 123"))
+                .build();
+
+        List<DuplicateCandidate> candidates = index.findDuplicates(query);
+        assertEquals(1, candidates.size());
+        assertSame(indexed, candidates.get(0).document());
+        assertEquals(1.0, candidates.get(0).similarity());
+        assertEquals(MatchType.EXACT_IDENTIFIER, candidates.get(0).matchType());
+        assertSame(indexed, index.findExactDuplicate(query).orElseThrow());
+        assertTrue(index.findExactDuplicate(indexed).isEmpty());
+    }
+
+    @Test
+    void fuzzyMatchIsInclusiveAtThreshold() {
+        BiboDocument indexed = document("doc1", "Linked data graph query", "Ada Lovelace").build();
+        BiboDocument query = document("query", "Linked data graph reasoning", "Ada Lovelace").build();
+        // Title Jaccard 3/5, identical authors
+        double similarity = (3.0 / 5) * DuplicateDetector.TITLE_WEIGHT + 1.0 * DuplicateDetector.AUTHOR_WEIGHT;
+
+        List<DuplicateCandidate> atThreshold = new DuplicateIndex(List.of(indexed), similarity).findDuplicates(query);
+        assertEquals(1, atThreshold.size());
+        assertEquals(similarity, atThreshold.get(0).similarity());
+        assertEquals(MatchType.FUZZY_TITLE_AUTHOR, atThreshold.get(0).matchType());
+        assertEquals(atThreshold.size(),
+                new DuplicateDetector(similarity).findDuplicates(query, List.of(indexed)).size());
+
+        double aboveThreshold = Math.nextUp(similarity);
+        assertTrue(new DuplicateIndex(List.of(indexed), aboveThreshold).findDuplicates(query).isEmpty());
+        assertTrue(new DuplicateDetector(aboveThreshold).findDuplicates(query, List.of(indexed)).isEmpty());
+    }
+
+    @Test
+    void repeatedAuthorTokensCanReachThresholdWithoutSharedTitleTokens() {
+        BiboDocument indexed = document("doc1", "Semantic query", "Ada Lovelace").build();
+        // Repeated author tokens all count towards the intersection, so author similarity is 5/3
+        BiboDocument query = document("query", "Catalog linked reasoning", "Ada Lovelace")
+                .addAuthor(BiboPersonName.builder("Ada Lovelace").build())
+                .build();
+
+        List<DuplicateCandidate> expected = new DuplicateDetector(0.5).findDuplicates(query, List.of(indexed));
+        assertEquals(1, expected.size());
+        assertSameCandidates(expected, new DuplicateIndex(List.of(indexed), 0.5).findDuplicates(query));
+    }
+
+    @Test
+    void addedDocumentsAreFound() {
+        BiboDocument first = document("doc1", "Ontology mapping", "Alan Turing").build();
+        DuplicateIndex index = new DuplicateIndex(List.of());
+        assertTrue(index.findDuplicates(first).isEmpty());
+
+        index.add(first);
+        BiboDocument query = document("query", "Ontology mapping", "Alan Turing").build();
+        assertEquals(1, index.size());
+        assertSame(first, index.findDuplicates(query).get(0).document());
+    }
+
+    private static void assertSameCandidates(List<DuplicateCandidate> expected, List<DuplicateCandidate> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).document(), actual.get(i).document());
+            assertEquals(expected.get(i).similarity(), actual.get(i).similarity());
+            assertEquals(expected.get(i).matchType(), actual.get(i).matchType());
+        }
+    }
+
+    /**
+     * Documents drawn from small vocabularies so that fuzzy matches, exact matches and near misses
+     * around each threshold all occur.
+     */
+    private static BiboDocument randomDocument(Random random, String id) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(5);
+        for (int i = 0; i < words; i++) {
+            title.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (random.nextInt(10) == 0) {
+            title.append(" (").append(WORDS[random.nextInt(WORDS.length)].toUpperCase()).append(')');
+        }
+        BiboDocument.Builder builder = BiboDocument.builder(BiboDocumentType.ARTICLE, title.toString()).id(id);
+        int authors = random.nextInt(3);
+        for (int i = 0; i < authors; i++) {
+            builder.addAuthor(BiboPersonName.builder(AUTHORS[random.nextInt(AUTHORS.length)]).build());
+        }
+        if (random.nextInt(8) == 0) {
+            String doi = DOIS[random.nextInt(DOIS.length)];
+            builder.addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI,
+                    random.nextBoolean() ? doi.toUpperCase() : doi.replace("-", "")));
+        }
+        return builder.build();
+    }
+
+    private static BiboDocument.Builder document(String id, String title, String author) {
+        return BiboDocument.builder(BiboDocumentType.ARTICLE, title).id(id)
+                .addAuthor(BiboPersonName.builder(author).build());
+    }
+}
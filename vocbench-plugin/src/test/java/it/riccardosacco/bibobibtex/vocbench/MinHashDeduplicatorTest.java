@@ -0,0 +1,176 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifier;
+import it.riccardosacco.bibobibtex.model.bibo.BiboIdentifierType;
+import it.riccardosacco.bibobibtex.model.bibo.BiboPersonName;
+import it.riccardosacco.bibobibtex.vocbench.DuplicateDetector.MatchType;
+import it.riccardosacco.bibobibtex.vocbench.MinHashDeduplicator.DuplicatePair;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MinHashDeduplicatorTest {
+
+    private static final int VOCABULARY = 400;
+    private static final int AUTHORS = 150;
+
+    @Test
+    void findsNearlyAllPairsOfAllPairsScanAndOnlyTrueOnes() {
+        Random random = new Random(7);
+        List<BiboDocument> corpus = syntheticCorpus(random, 600);
+
+        for (double threshold : new double[] {0.6, 0.75, 0.85}) {
+            Map<Long, Double> expected = allPairs(corpus, threshold);
+            List<DuplicatePair> found = new MinHashDeduplicator(threshold).findAllDuplicates(corpus);
+
+            int hits = 0;
+            for (DuplicatePair pair : found) {
+                assertTrue(pair.firstIndex() < pair.secondIndex());
+                Double similarity = expected.get(key(pair.firstIndex(), pair.secondIndex()));
+                // No false positives, and scores equal the exact similarity
+                assertEquals(similarity, pair.similarity());
+                hits++;
+            }
+            assertTrue(expected.size() > 100, "corpus should contain many duplicate pairs");
+            double recall = (double) hits / expected.size();
+            assertTrue(recall >= 0.97, "recall " + recall + " at threshold " + threshold);
+        }
+    }
+
+    @Test
+    void findsEveryIdentifierPair() {
+        BiboDocument first = document("doc1", "Alpha beta", "Ada Lovelace", "10.1000/X-1");
+        BiboDocument second = document("doc2", "Gamma delta", "Alan Turing", "10.1000/x1");
+        BiboDocument third = document("doc3", "Epsilon", "Grace Hopper", null);
+
+        List<DuplicatePair> pairs = new MinHashDeduplicator(0.85).findAllDuplicates(List.of(first, second, third));
+
+        assertEquals(1, pairs.size());
+        assertEquals(0, pairs.get(0).firstIndex());
+        assertEquals(1, pairs.get(0).secondIndex());
+        assertEquals(MatchType.EXACT_IDENTIFIER, pairs.get(0).matchType());
+    }
+
+    @Test
+    void signaturesDependOnlyOnTitleTokensAndSeed() {
+        MinHashDeduplicator first = new MinHashDeduplicator(0.85, 64, 42);
+        MinHashDeduplicator second = new MinHashDeduplicator(0.85, 64, 42);
+        // Signing other documents first must not change later signatures
+        first.signature(document("doc0", "Unrelated words entirely", "Ada Lovelace", null));
+
+        long[] signature = first.signature(document("doc1", "Linked data on the web", "Ada Lovelace", null));
+
+        assertArrayEquals(signature,
+                second.signature(document("doc2", "The web: linked DATA on the web", "Alan Turing", null)));
+        assertFalse(Arrays.equals(signature,
+                second.signature(document("doc3", "Ontology mapping", "Ada Lovelace", null))));
+    }
+
+    @Test
+    void rejectsThresholdWithoutTitleBound() {
+        assertThrows(IllegalArgumentException.class, () -> new MinHashDeduplicator(0.4));
+    }
+
+    /**
+     * Exact similarities of all pairs reaching the threshold, excluding identifier matches, keyed by
+     * corpus positions.
+     */
+    private static Map<Long, Double> allPairs(List<BiboDocument> corpus, double threshold) {
+        TokenDictionary dictionary = new TokenDictionary();
+        List<DuplicateDetector.Tokens> tokens = new ArrayList<>(corpus.size());
+        corpus.forEach(document -> tokens.add(DuplicateDetector.Tokens.of(document, dictionary)));
+        Map<Long, Double> pairs = new HashMap<>();
+        for (int i = 0; i < corpus.size(); i++) {
+            for (int j = i + 1; j < corpus.size(); j++) {
+                double similarity = tokens.get(i).similarity(tokens.get(j));
+                if (similarity >= threshold) {
+                    pairs.put(key(i, j), similarity);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Base records plus variants with one or two title words replaced or an author changed. Titles and
+     * author lists never repeat a token, so set and positional Jaccard agree.
+     */
+    private static List<BiboDocument> syntheticCorpus(Random random, int bases) {
+        List<BiboDocument> corpus = new ArrayList<>();
+        for (int base = 0; base < bases; base++) {
+            List<Integer> words = distinct(random, 4 + random.nextInt(6), VOCABULARY);
+            List<Integer> authors = distinct(random, 1 + random.nextInt(2), AUTHORS);
+            corpus.add(build(corpus.size(), words, authors));
+            int variants = random.nextInt(3);
+            for (int v = 0; v < variants; v++) {
+                List<Integer> variantWords = new ArrayList<>(words);
+                int replaced = random.nextInt(3);
+                for (int r = 0; r < replaced; r++) {
+                    replaceWithUnused(random, variantWords, VOCABULARY);
+                }
+                List<Integer> variantAuthors = new ArrayList<>(authors);
+                if (random.nextInt(4) == 0) {
+                    replaceWithUnused(random, variantAuthors, AUTHORS);
+                }
+                corpus.add(build(corpus.size(), variantWords, variantAuthors));
+            }
+        }
+        return corpus;
+    }
+
+    private static List<Integer> distinct(Random random, int count, int bound) {
+        List<Integer> values = new ArrayList<>(count);
+        while (values.size() < count) {
+            int value = random.nextInt(bound);
+            if (!values.contains(value)) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static void replaceWithUnused(Random random, List<Integer> values, int bound) {
+        int value;
+        do {
+            value = random.nextInt(bound);
+        } while (values.contains(value));
+        values.set(random.nextInt(values.size()), value);
+    }
+
+    private static BiboDocument build(int id, List<Integer> words, List<Integer> authors) {
+        StringBuilder title = new StringBuilder();
+        for (int word : words) {
+            title.append(title.length() == 0 ? "" : " ").append("word").append(word);
+        }
+        BiboDocument.Builder builder = BiboDocument.builder(BiboDocumentType.ARTICLE, title.toString()).id("doc" + id);
+        for (int author : authors) {
+            builder.addAuthor(BiboPersonName.builder("Given" + author + " Family" + author).build());
+        }
+        return builder.build();
+    }
+
+    private static BiboDocument document(String id, String title, String author, String doi) {
+        BiboDocument.Builder builder = BiboDocument.builder(BiboDocumentType.ARTICLE, title).id(id)
+                .addAuthor(BiboPersonName.builder(author).build());
+        if (doi != null) {
+            builder.addIdentifier(new BiboIdentifier(BiboIdentifierType.DOI, doi));
+        }
+        return builder.build();
+    }
+
+    private static long key(int first, int second) {
+        return ((long) first << 32) | second;
+    }
+}
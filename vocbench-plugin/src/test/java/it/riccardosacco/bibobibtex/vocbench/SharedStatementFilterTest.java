@@ -0,0 +1,64 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocument;
+import it.riccardosacco.bibobibtex.model.bibo.BiboDocumentType;
+import java.util.HashSet;
+import java.util.List;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+
+class SharedStatementFilterTest {
+
+    @Test
+    void passesStatementsOfSharedSubjectIrisOnce() {
+        BiboDocument first = BiboDocument.builder(BiboDocumentType.ARTICLE, "Shared")
+                .id("http://example.org/docs/shared")
+                .addKeyword("first")
+                .build();
+        BiboDocument second = BiboDocument.builder(BiboDocumentType.ARTICLE, "Shared")
+                .id("http://example.org/docs/shared")
+                .addKeyword("second")
+                .build();
+
+        StatementCollector collector = emit(first, second);
+
+        Model expected = new LinkedHashModel(first.rdfModel());
+        expected.addAll(second.rdfModel());
+        assertEquals(expected.size(), collector.getStatements().size());
+        assertEquals(collector.getStatements().size(), new HashSet<>(collector.getStatements()).size());
+    }
+
+    @Test
+    void passesBlankNodeDocumentsThrough() {
+        BiboDocument document = BiboDocument.builder(BiboDocumentType.BOOK, "Untitled")
+                .containerTitle("Series")
+                .build();
+        BiboDocument other = BiboDocument.builder(BiboDocumentType.BOOK, "Untitled")
+                .containerTitle("Series")
+                .build();
+
+        StatementCollector collector = emit(document, other);
+
+        Model expected = new LinkedHashModel(document.rdfModel());
+        expected.addAll(other.rdfModel());
+        assertTrue(Models.isomorphic(expected, collector.getStatements()));
+        assertEquals("http://purl.org/ontology/bibo/", collector.getNamespaces().get("bibo"));
+    }
+
+    private static StatementCollector emit(BiboDocument... documents) {
+        StatementCollector collector = new StatementCollector();
+        RDFHandler handler = new SharedStatementFilter(collector);
+        handler.startRDF();
+        BiboDocument.emitNamespaces(handler);
+        List.of(documents).forEach(document -> document.emitTo(handler));
+        handler.endRDF();
+        return collector;
+    }
+}
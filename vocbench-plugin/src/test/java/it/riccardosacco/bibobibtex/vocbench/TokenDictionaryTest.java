@@ -0,0 +1,102 @@
+package it.riccardosacco.bibobibtex.vocbench;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TokenDictionaryTest {
+
+    private static final String ALPHABET = "abcXYZ019 \t\n-.,:'()ÄéßİΣ";
+
+    @Test
+    void tokenizeMatchesRegexTokenizer() {
+        List<String> samples = List.of(
+                "Semantic Web: A New Form", "  leading spaces", "trailing spaces  ", "\tTabs\tand\nnewlines",
+                "---", "  ---  ", " ", "Ünïcödé Tïtlé", "Multiple   inner    spaces", "a-b c.d", "(1999) 2nd ed.",
+                "İstanbul", "repeat repeat repeat");
+        Random random = new Random(11);
+        for (String sample : samples) {
+            assertTokenizesLikeRegex(sample);
+        }
+        for (int i = 0; i < 2000; i++) {
+            assertTokenizesLikeRegex(randomText(random));
+        }
+    }
+
+    @Test
+    void mergeWalkJaccardMatchesListJaccard() {
+        Random random = new Random(13);
+        TokenDictionary dictionary = new TokenDictionary();
+        for (int i = 0; i < 2000; i++) {
+            String first = randomText(random);
+            String second = randomText(random);
+            List<String> firstTokens = regexTokens(first);
+            List<String> secondTokens = regexTokens(second);
+            assertEquals(listJaccard(firstTokens, secondTokens),
+                    TokenDictionary.jaccardSimilarity(dictionary.tokenize(first), dictionary.tokenize(second)),
+                    first + " / " + second);
+        }
+    }
+
+    @Test
+    void lookupDoesNotInternAndKeepsSimilarities() {
+        TokenDictionary dictionary = new TokenDictionary();
+        int[] indexed = dictionary.tokenize("Linked data on the web");
+        int size = dictionary.size();
+
+        int[] query = dictionary.lookup("Linked data and more data on the semantic web");
+
+        assertEquals(size, dictionary.size());
+        TokenDictionary reference = new TokenDictionary();
+        assertEquals(
+                TokenDictionary.jaccardSimilarity(reference.tokenize("Linked data and more data on the semantic web"),
+                        reference.tokenize("Linked data on the web")),
+                TokenDictionary.jaccardSimilarity(query, indexed));
+        assertArrayEquals(dictionary.tokenize("web the"), dictionary.lookup("the web"));
+    }
+
+    @Test
+    void distinctCountSkipsRepeats() {
+        assertEquals(0, TokenDictionary.distinctCount(new int[0]));
+        assertEquals(3, TokenDictionary.distinctCount(new int[] {1, 1, 2, 5, 5, 5}));
+    }
+
+    private static void assertTokenizesLikeRegex(String text) {
+        TokenDictionary dictionary = new TokenDictionary();
+        int[] expected = regexTokens(text).stream().mapToInt(dictionary::id).sorted().toArray();
+        assertArrayEquals(expected, dictionary.tokenize(text), () -> "tokens of '" + text + "'");
+    }
+
+    /** The regex-based tokenizer {@link TokenDictionary} replaces. */
+    private static List<String> regexTokens(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return List.of(text.toLowerCase().replaceAll("[^a-z0-9\\s]", "").split("\\s+"));
+    }
+
+    /** The list-based Jaccard similarity {@link TokenDictionary#jaccardSimilarity} replaces. */
+    private static double listJaccard(List<String> tokens1, List<String> tokens2) {
+        if (tokens1.isEmpty() && tokens2.isEmpty()) {
+            return 1.0;
+        }
+        if (tokens1.isEmpty() || tokens2.isEmpty()) {
+            return 0.0;
+        }
+        long intersection = tokens1.stream().filter(tokens2::contains).count();
+        long union = tokens1.size() + tokens2.size() - intersection;
+        return (double) intersection / union;
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(16);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}